@@ -0,0 +1,84 @@
+package masil.backend.benchmark;
+
+import masil.backend.modules.adminMember.service.MatchingAssignmentSolver;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import masil.backend.modules.member.service.ScoringPlan;
+import masil.backend.modules.member.service.ScoringWeights;
+import masil.backend.modules.member.service.TopKSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동 배정(최소 비용 유량) 한 번의 소요 시간
+ * 간선 수 = 여성 수 × candidatesPerFemale 이며, 비용은 가상 모집단의 실제 점수에서 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssignmentSolverBenchmark {
+
+    @Param({"300", "1000", "3000"})
+    public int femaleCount;
+
+    @Param({"30"})
+    public int candidatesPerFemale;
+
+    private int[] capacities;
+    private int[][] candidateMales;
+    private long[][] candidateCosts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticPopulation population = new SyntheticPopulation(20_251_017L);
+        int maleCount = femaleCount * 2;
+
+        List<MaleCandidateAttributes> rows = new ArrayList<>(maleCount);
+        for (int sequence = 0; sequence < maleCount; sequence++) {
+            rows.add(MaleCandidateAttributes.from(population.male((long) sequence, sequence)));
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, rows);
+
+        Random random = new Random(7L);
+        capacities = new int[maleCount];
+        for (int male = 0; male < maleCount; male++) {
+            capacities[male] = random.nextInt(4);
+        }
+
+        candidateMales = new int[femaleCount][];
+        candidateCosts = new long[femaleCount][];
+        for (int female = 0; female < femaleCount; female++) {
+            Member femaleMember = population.female((long) (maleCount + female), female);
+            ScoringPlan plan = ScoringPlan.compile(population.preference(femaleMember), ScoringWeights.DEFAULT,
+                    femaleMember.getRegion(), femaleMember.getIntroductionEmbedding());
+            double[] scores = new double[snapshot.size()];
+            for (int index = 0; index < scores.length; index++) {
+                scores[index] = plan.score(snapshot, index);
+            }
+            int[] topK = TopKSelector.select(scores, candidatesPerFemale);
+            candidateMales[female] = topK;
+            candidateCosts[female] = new long[topK.length];
+            for (int i = 0; i < topK.length; i++) {
+                candidateCosts[female][i] = Math.round((100.0 - scores[topK[i]]) * 60);
+            }
+        }
+    }
+
+    @Benchmark
+    public int[][] solve() {
+        return MatchingAssignmentSolver.solve(3, capacities, candidateMales, candidateCosts);
+    }
+}
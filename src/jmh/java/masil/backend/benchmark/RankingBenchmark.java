@@ -0,0 +1,153 @@
+package masil.backend.benchmark;
+
+import masil.backend.global.config.AsyncConfig;
+import masil.backend.global.config.JpaAuditingConfig;
+import masil.backend.global.config.ScoringWeightProperties;
+import masil.backend.modules.adminMember.service.AdminMemberService;
+import masil.backend.modules.member.dto.response.MatchingScoreResponse;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberEntityListener;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.repository.MemberPreferenceRepository;
+import masil.backend.modules.member.repository.MemberRepository;
+import masil.backend.modules.member.service.FcmService;
+import masil.backend.modules.member.service.HashingEmbeddingProvider;
+import masil.backend.modules.member.service.IntroductionVectorIndex;
+import masil.backend.modules.member.service.MaleCandidateIndex;
+import masil.backend.modules.member.service.MatchingScoreMatrix;
+import masil.backend.modules.member.service.MatchingScoreService;
+import masil.backend.modules.member.service.MemberImageLowService;
+import masil.backend.modules.member.service.MemberLowService;
+import masil.backend.modules.member.service.PastPairIndex;
+import masil.backend.modules.member.service.ScoringPlanCache;
+import masil.backend.modules.member.service.ScoringWeightRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 위에서 관리자 매칭 후보 조회(getMatchingCandidates) 전체 경로의 처리량
+ * 점수 계산, 상위 K명 선택, 프로필/매칭 수 조회 쿼리까지 포함합니다.
+ * 자동 설정 목록 파일 병합에 의존하지 않도록 필요한 자동 설정만 직접 가져옵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RankingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int maleCount;
+
+    @Param({"30", "0"})
+    public int limit;
+
+    private ConfigurableApplicationContext context;
+    private AdminMemberService adminMemberService;
+    private Long femaleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.profiles.include=",
+                        "--spring.datasource.url=jdbc:h2:mem:ranking;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--matching.embedding.provider=hashing",
+                        "--logging.level.root=WARN",
+                        "--logging.level.masil.backend=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                );
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        MemberPreferenceRepository preferenceRepository = context.getBean(MemberPreferenceRepository.class);
+        TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+        SyntheticPopulation population = new SyntheticPopulation(20_251_017L);
+
+        femaleId = transaction.execute(status -> {
+            Member female = population.female(null, 0);
+            female.changeStatus(MemberStatus.APPROVED);
+            memberRepository.save(female);
+            preferenceRepository.save(population.preference(female));
+
+            for (int sequence = 0; sequence < maleCount; sequence++) {
+                Member male = population.male(null, sequence);
+                male.changeStatus(sequence % 4 == 0 ? MemberStatus.CONNECTING : MemberStatus.APPROVED);
+                memberRepository.save(male);
+            }
+            return female.getId();
+        });
+
+        adminMemberService = context.getBean(AdminMemberService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MatchingScoreResponse> getMatchingCandidates() {
+        return adminMemberService.getMatchingCandidates(femaleId, limit > 0 ? limit : null, 0, false, null, null);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan("masil.backend")
+    @EnableJpaRepositories("masil.backend")
+    @Import({
+            AsyncConfig.class,
+            JpaAuditingConfig.class,
+            MemberEntityListener.class,
+            ScoringWeightProperties.class,
+            ScoringWeightRegistry.class,
+            ScoringPlanCache.class,
+            MaleCandidateIndex.class,
+            MatchingScoreService.class,
+            MatchingScoreMatrix.class,
+            PastPairIndex.class,
+            HashingEmbeddingProvider.class,
+            IntroductionVectorIndex.class,
+            MemberLowService.class,
+            MemberImageLowService.class,
+            FcmService.class,
+            AdminMemberService.class
+    })
+    static class BenchmarkApplication {
+    }
+}
@@ -0,0 +1,140 @@
+package masil.backend.benchmark;
+
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.global.config.ScoringWeightProperties;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.repository.MemberPreferenceRepository;
+import masil.backend.modules.member.repository.ScoringWeightProfileRepository;
+import masil.backend.modules.member.service.HashingEmbeddingProvider;
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import masil.backend.modules.member.service.MatchingScoreService;
+import masil.backend.modules.member.service.ScoringPlan;
+import masil.backend.modules.member.service.ScoringPlanCache;
+import masil.backend.modules.member.service.ScoringWeightRegistry;
+import masil.backend.modules.member.service.TopKSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여성 1명 기준 남성 후보 전체 점수 계산의 처리량 비교 (DB 없이 메모리만 사용)
+ * - calculateMatchingScore: 후보마다 서비스 진입 (계획 캐시 조회 포함)
+ * - planScoreMembers: 컴파일된 계획으로 엔티티 점수 계산
+ * - planScoreSnapshot: 컬럼형 스냅샷 순차 계산
+ * - scoreCandidates: 서비스 경로 (parallel-threshold 이상이면 fork/join)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScoringBenchmark {
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    @Param({"1000", "10000", "100000"})
+    public int maleCount;
+
+    private Member female;
+    private List<Member> males;
+    private MaleCandidateSnapshot snapshot;
+    private ScoringPlan plan;
+    private MatchingScoreService matchingScoreService;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        SyntheticPopulation population = new SyntheticPopulation(20_251_017L);
+        female = population.female(1L, 0);
+        MemberPreference preference = population.preference(female);
+
+        males = new ArrayList<>(maleCount);
+        List<MaleCandidateAttributes> rows = new ArrayList<>(maleCount);
+        for (int sequence = 0; sequence < maleCount; sequence++) {
+            Member male = population.male(1_000L + sequence, sequence);
+            males.add(male);
+            rows.add(MaleCandidateAttributes.from(male));
+        }
+        snapshot = MaleCandidateSnapshot.of(1L, rows);
+
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        // 설정 파일 프로필만 사용 (reload 를 호출하지 않으므로 프로필 저장소는 쓰이지 않음)
+        ScoringWeightRegistry weightRegistry = new ScoringWeightRegistry(
+                new ScoringWeightProperties(), repository(ScoringWeightProfileRepository.class, null));
+        matchingScoreService = new MatchingScoreService(
+                repository(MemberPreferenceRepository.class, preference), new ScoringPlanCache(), weightRegistry, pool,
+                new HashingEmbeddingProvider(256));
+        Field threshold = MatchingScoreService.class.getDeclaredField("parallelThreshold");
+        threshold.setAccessible(true);
+        threshold.setInt(matchingScoreService, PARALLEL_THRESHOLD);
+
+        plan = matchingScoreService.getScoringPlan(female);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void calculateMatchingScore(Blackhole blackhole) {
+        for (Member male : males) {
+            blackhole.consume(matchingScoreService.calculateMatchingScore(female, male));
+        }
+    }
+
+    @Benchmark
+    public void planScoreMembers(Blackhole blackhole) {
+        for (Member male : males) {
+            blackhole.consume(plan.score(male));
+        }
+    }
+
+    @Benchmark
+    public double[] planScoreSnapshot() {
+        double[] scores = new double[snapshot.size()];
+        for (int index = 0; index < scores.length; index++) {
+            scores[index] = plan.score(snapshot, index);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public double[] scoreCandidates() {
+        return matchingScoreService.scoreCandidates(plan, snapshot);
+    }
+
+    @Benchmark
+    public int[] scoreAndSelectTop30() {
+        return TopKSelector.select(matchingScoreService.scoreCandidates(plan, snapshot), 30);
+    }
+
+    // findByMember 만 응답하는 저장소 (다른 메서드는 벤치마크 경로에서 호출되지 않음)
+    private static <T> T repository(Class<T> type, Object found) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByMember", "findByMemberId" -> Optional.ofNullable(found);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "Benchmark" + type.getSimpleName();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,169 @@
+package masil.backend.benchmark;
+
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.AppearanceStyle;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Religion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크용 가상 회원/선호도 생성기입니다. 같은 seed 면 항상 같은 모집단을 만듭니다.
+ * 분포는 실제 가입자 구성과 비슷하게 잡은 값입니다. (키는 정규분포, 범주형 속성은 가중치 추출)
+ */
+public final class SyntheticPopulation {
+
+    private static final Religion[] RELIGIONS = Religion.values();
+    private static final int[] RELIGION_WEIGHTS = {55, 15, 20, 9, 1};
+
+    private static final Education[] EDUCATIONS = Education.values();
+    private static final int[] EDUCATION_WEIGHTS = {15, 15, 50, 15, 5};
+
+    private static final Asset[] ASSETS = Asset.values();
+    private static final int[] ASSET_WEIGHTS = {35, 30, 18, 12, 5};
+
+    // 거주 지역은 자유 입력이므로 표기가 섞이도록 구성 (마지막 값은 권역으로 인식되지 않음)
+    private static final String[] MALE_RESIDENCES = {"서울", "경기도 성남시", "인천", "부산광역시", "대구", "대전", "광주", "제주", "해외"};
+    private static final int[] MALE_RESIDENCE_WEIGHTS = {40, 20, 8, 10, 6, 6, 4, 2, 4};
+
+    private static final String[] FEMALE_RESIDENCES = {"東京都", "大阪府", "福岡", "名古屋", "北海道", "沖縄"};
+    private static final int[] FEMALE_RESIDENCE_WEIGHTS = {45, 25, 12, 10, 5, 3};
+
+    // 자기소개는 문구 몇 개를 이어 붙여 만듦 (같은 문구를 고른 회원끼리 임베딩이 가까워짐)
+    private static final String[] INTRODUCTION_PHRASES = {
+            "주말에는 등산을 자주 가요.", "카페에서 책 읽는 시간을 좋아합니다.", "요리하는 걸 좋아해서 집밥을 자주 해요.",
+            "여행을 좋아해서 일본에도 여러 번 다녀왔어요.", "운동은 헬스와 수영을 꾸준히 합니다.",
+            "영화와 드라마를 즐겨 봐요.", "조용하고 차분한 성격입니다.", "밝고 활발하다는 말을 많이 들어요.",
+            "반려견과 산책하는 게 일상입니다.", "일본어를 공부하고 있어요.", "음악 듣는 것과 노래방을 좋아해요.",
+            "대화가 잘 통하는 사람을 만나고 싶어요.", "가족을 소중하게 생각합니다.", "사진 찍는 취미가 있어요.",
+            "맛집 찾아다니는 걸 좋아합니다.", "캠핑과 낚시를 즐깁니다."
+    };
+
+    private static final long[] ASSET_BOUNDS = {
+            0L, 100_000_000L, 300_000_000L, 500_000_000L, 1_000_000_000L, 2_000_000_000L
+    };
+
+    private final Random random;
+
+    public SyntheticPopulation(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param id 영속화하지 않고 메모리에서만 쓸 때의 ID (DB 저장 시 null)
+     */
+    public Member male(Long id, int sequence) {
+        return Member.builder()
+                .id(id)
+                .name("male" + sequence)
+                .email("male" + sequence + "@bench.masil")
+                .gender(Gender.KOREAN_MALE)
+                .height(nullable(3, () -> clamp((int) Math.round(174 + random.nextGaussian() * 6), 155, 200)))
+                .weight(clamp((int) Math.round(72 + random.nextGaussian() * 9), 50, 120))
+                .residenceArea(pick(MALE_RESIDENCES, MALE_RESIDENCE_WEIGHTS))
+                .religion(nullable(2, () -> pick(RELIGIONS, RELIGION_WEIGHTS)))
+                .education(nullable(2, () -> pick(EDUCATIONS, EDUCATION_WEIGHTS)))
+                .asset(nullable(5, () -> pick(ASSETS, ASSET_WEIGHTS)))
+                .mbti(nullable(30, this::mbti))
+                .otherInfo(nullable(10, this::introduction))
+                .build();
+    }
+
+    public Member female(Long id, int sequence) {
+        return Member.builder()
+                .id(id)
+                .name("female" + sequence)
+                .email("female" + sequence + "@bench.masil")
+                .gender(Gender.JAPANESE_FEMALE)
+                .height(clamp((int) Math.round(158 + random.nextGaussian() * 5), 140, 185))
+                .residenceArea(pick(FEMALE_RESIDENCES, FEMALE_RESIDENCE_WEIGHTS))
+                .otherInfo(introduction())
+                .build();
+    }
+
+    public MemberPreference preference(Member female) {
+        int heightMin = 168 + random.nextInt(11);
+        int heightMax = heightMin + 5 + random.nextInt(11);
+
+        int assetFrom = random.nextInt(ASSET_BOUNDS.length - 1);
+        int assetTo = assetFrom + 1 + random.nextInt(ASSET_BOUNDS.length - 1 - assetFrom);
+
+        List<PreferenceCategory> categories = new ArrayList<>(Arrays.asList(PreferenceCategory.values()));
+        Collections.shuffle(categories, random);
+
+        return new MemberPreference(
+                female,
+                nullable(10, () -> heightMin),
+                nullable(10, () -> heightMax),
+                random.nextBoolean() ? 0 : 1 + random.nextInt(31),
+                nullable(20, () -> pick(EducationLevel.values())),
+                nullable(30, () -> pick(AppearanceStyle.values())),
+                nullable(30, () -> pick(ParentAssetLevel.values())),
+                nullable(15, () -> ASSET_BOUNDS[assetFrom]),
+                nullable(15, () -> ASSET_BOUNDS[assetTo]),
+                null,
+                null,
+                mbtiAxis("E", "I"),
+                mbtiAxis("N", "S"),
+                mbtiAxis("T", "F"),
+                mbtiAxis("J", "P"),
+                categories.get(0),
+                categories.get(1),
+                categories.get(2)
+        );
+    }
+
+    public String introduction() {
+        StringBuilder introduction = new StringBuilder();
+        for (int phrase = 0; phrase < 3; phrase++) {
+            introduction.append(pick(INTRODUCTION_PHRASES)).append(' ');
+        }
+        return introduction.toString().strip();
+    }
+
+    private String mbti() {
+        return (random.nextBoolean() ? "E" : "I") + (random.nextBoolean() ? "N" : "S")
+                + (random.nextBoolean() ? "T" : "F") + (random.nextBoolean() ? "J" : "P");
+    }
+
+    // 축마다 절반은 상관없음(X)
+    private String mbtiAxis(String first, String second) {
+        int choice = random.nextInt(4);
+        return choice < 2 ? "X" : choice == 2 ? first : second;
+    }
+
+    private <T> T nullable(int nullPercent, Supplier<T> value) {
+        return random.nextInt(100) < nullPercent ? null : value.get();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> T pick(T[] values, int[] weights) {
+        int total = Arrays.stream(weights).sum();
+        int roll = random.nextInt(total);
+        for (int index = 0; index < values.length; index++) {
+            roll -= weights[index];
+            if (roll < 0) {
+                return values[index];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,69 @@
+package masil.backend.benchmark;
+
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.service.HashingEmbeddingProvider;
+import masil.backend.modules.member.service.IntroductionVectorIndex.Neighbor;
+import masil.backend.modules.member.service.IvfIndex;
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자기소개 임베딩 유사 후보 조회 지연 시간 (DB 없이 메모리만 사용)
+ * - ivf: 가까운 목록 probes 개만 비교 (운영 설정)
+ * - exact: 모든 목록 비교 (전수 비교와 같은 결과)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorSearchBenchmark {
+
+    private static final int DIMENSION = 256;
+    private static final int LIMIT = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int maleCount;
+
+    @Param({"8"})
+    public int probes;
+
+    private IvfIndex index;
+    private float[] query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticPopulation population = new SyntheticPopulation(20_251_017L);
+        HashingEmbeddingProvider embeddingProvider = new HashingEmbeddingProvider(DIMENSION);
+
+        List<MaleCandidateAttributes> rows = new ArrayList<>(maleCount);
+        for (int sequence = 0; sequence < maleCount; sequence++) {
+            Member male = population.male(1_000L + sequence, sequence);
+            male.updateIntroductionEmbedding(embeddingProvider.embed(male.getOtherInfo()));
+            rows.add(MaleCandidateAttributes.from(male));
+        }
+        index = IvfIndex.build(MaleCandidateSnapshot.of(1L, rows), DIMENSION);
+        query = embeddingProvider.embed(population.introduction());
+    }
+
+    @Benchmark
+    public List<Neighbor> ivf() {
+        return index.nearest(query, LIMIT, probes);
+    }
+
+    @Benchmark
+    public List<Neighbor> exact() {
+        return index.nearest(query, LIMIT, index.listCount());
+    }
+}
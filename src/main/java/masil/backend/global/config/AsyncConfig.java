@@ -1,6 +1,9 @@
 package masil.backend.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -18,4 +21,36 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "candidateChangeExecutor")
+    public Executor candidateChangeExecutor(
+            @Value("${matching.candidate-change.queue-capacity:100}") int queueCapacity
+    ) {
+        // 남성 후보 변경 이벤트 반영용 단일 스레드, 저장한 요청 스레드가 전체 여성 목록 갱신을 기다리지 않게 함
+        // 각 이벤트는 최신 스냅샷까지의 변경을 모두 반영하므로 큐가 차면 가장 오래된 이벤트를 버려도 됨
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.setThreadNamePrefix("candidate-change-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "scoringForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool scoringForkJoinPool(
+            @Value("${matching.scoring.parallelism:0}") int parallelism
+    ) {
+        // 0 이하이면 CPU 코어 수만큼 사용
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean(name = "simulationForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool simulationForkJoinPool(
+            @Value("${matching.simulation.parallelism:0}") int parallelism
+    ) {
+        // 0 이하이면 CPU 코어 수의 절반 (실시간 후보 조회용 스레드를 남겨둠)
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
 }
@@ -0,0 +1,37 @@
+package masil.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 설정 파일의 매칭 점수 가중치 프로필 (matching.weight-profiles.*)
+ * 비어 있는 값은 기본 프로필 값을 사용합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matching.weight-profiles")
+@Getter
+@Setter
+public class ScoringWeightProperties {
+    private String active = "default";
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Profile {
+        private Double priority1Weight;
+        private Double priority2Weight;
+        private Double priority3Weight;
+        private Double heightPenaltyPerCm;
+        private Double educationPenaltyPerLevel;
+        private Double assetAbovePenaltyPerLevel;
+        private Double assetBelowPenaltyPerLevel;
+        private Double jobPreferredScore;
+        private Double jobAvoidedScore;
+        private Double jobNeutralScore;
+    }
+}
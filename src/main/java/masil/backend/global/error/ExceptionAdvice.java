@@ -2,6 +2,8 @@ package masil.backend.global.error;
 
 import java.util.stream.Collectors;
 import masil.backend.global.base.BaseException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
@@ -29,6 +31,13 @@ public class ExceptionAdvice {
         return ResponseEntity.badRequest().body(new ExceptionResponse(e.getMessage()));
     }
 
+    // 같은 행을 다른 요청이 먼저 바꾼 경우 (@Version 충돌, 교착 상태로 인한 롤백 포함)
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ExceptionResponse> concurrencyFailureException(final ConcurrencyFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionResponse("다른 요청이 먼저 처리되었습니다. 다시 시도해주세요."));
+    }
+
     private static String getErrorMessage(final BindException e) {
         final BindingResult bindingResult = e.getBindingResult();
         return bindingResult.getFieldErrors().stream()
@@ -5,6 +5,7 @@ import org.springframework.http.HttpStatus;
 
 public enum GeneralExceptionType implements BaseExceptionType {
     FAILED_TO_CONVERT_JSON(HttpStatus.BAD_REQUEST, "리스트를 JSON으로 변환하는데 실패했습니다."),
+    SIMULATION_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 실행 중인 시뮬레이션이 있습니다."),
     ;
 
     private final HttpStatus httpStatus;
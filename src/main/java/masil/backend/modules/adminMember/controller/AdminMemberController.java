@@ -4,13 +4,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import masil.backend.modules.adminMember.dto.request.ChangeMemberStatusRequest;
+import masil.backend.modules.adminMember.dto.request.ConfirmMatchingsRequest;
 import masil.backend.modules.adminMember.dto.request.CreateMatchingRequest;
+import masil.backend.modules.adminMember.dto.request.SaveScoringWeightProfileRequest;
 import masil.backend.modules.adminMember.dto.response.AdminMemberDetailResponse;
 import masil.backend.modules.adminMember.dto.response.AdminMemberListResponse;
+import masil.backend.modules.adminMember.dto.response.MatchingProposalResponse;
+import masil.backend.modules.adminMember.dto.response.ScoringWeightProfileResponse;
 import masil.backend.modules.member.dto.response.MatchingScoreResponse;
+import masil.backend.modules.member.enums.PastPairPolicy;
+import masil.backend.modules.adminMember.service.AdminMatchingAssignmentService;
 import masil.backend.modules.adminMember.service.AdminMemberService;
+import masil.backend.modules.adminMember.service.AdminScoringProfileService;
+import masil.backend.modules.adminMember.service.AdminScoringSimulationService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import masil.backend.modules.member.dto.response.MatchedMemberListResponse;
 
 import java.util.List;
@@ -22,6 +32,9 @@ import java.util.List;
 public class AdminMemberController {
     
     private final AdminMemberService adminMemberService;
+    private final AdminMatchingAssignmentService adminMatchingAssignmentService;
+    private final AdminScoringProfileService adminScoringProfileService;
+    private final AdminScoringSimulationService adminScoringSimulationService;
     
     @GetMapping("/pending-approval")
     public ResponseEntity<List<AdminMemberListResponse>> getPendingApprovalMembers(
@@ -59,13 +72,71 @@ public class AdminMemberController {
 
     @GetMapping("/{femaleId}/matching-candidates")
     public ResponseEntity<List<MatchingScoreResponse>> getMatchingCandidates(
-            @PathVariable Long femaleId
+            @PathVariable Long femaleId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "false") boolean explain,
+            @RequestParam(required = false) String profile,
+            @RequestParam(required = false) PastPairPolicy pastPairs
     ) {
-        log.info("매칭 후보 조회 요청: femaleMemberId={}", femaleId);
-        List<MatchingScoreResponse> candidates = adminMemberService.getMatchingCandidates(femaleId);
+        log.info("매칭 후보 조회 요청: femaleMemberId={}, limit={}, offset={}, explain={}, profile={}, pastPairs={}",
+                femaleId, limit, offset, explain, profile, pastPairs);
+        List<MatchingScoreResponse> candidates =
+                adminMemberService.getMatchingCandidates(femaleId, limit, offset, explain, profile, pastPairs);
         return ResponseEntity.ok(candidates);
     }
 
+    @GetMapping("/{femaleId}/similar-candidates")
+    public ResponseEntity<List<MatchingScoreResponse>> getSimilarCandidates(
+            @PathVariable Long femaleId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean explain
+    ) {
+        log.info("유사 자기소개 후보 조회 요청: femaleMemberId={}, limit={}, explain={}", femaleId, limit, explain);
+        return ResponseEntity.ok(adminMemberService.getSimilarCandidates(femaleId, limit, explain));
+    }
+
+    @GetMapping("/scoring-profiles")
+    public ResponseEntity<List<ScoringWeightProfileResponse>> getScoringProfiles() {
+        return ResponseEntity.ok(adminScoringProfileService.getProfiles());
+    }
+
+    @PutMapping("/scoring-profiles/{name}")
+    public ResponseEntity<Void> saveScoringProfile(
+            @PathVariable String name,
+            @Valid @RequestBody SaveScoringWeightProfileRequest request
+    ) {
+        log.info("가중치 프로필 저장 요청: {}", name);
+        adminScoringProfileService.saveProfile(name, request);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/scoring-profiles/{name}/activate")
+    public ResponseEntity<Void> activateScoringProfile(@PathVariable String name) {
+        log.info("가중치 프로필 사용 지정 요청: {}", name);
+        adminScoringProfileService.activateProfile(name);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/scoring-profiles/reload")
+    public ResponseEntity<Void> reloadScoringProfiles() {
+        log.info("가중치 프로필 다시 읽기 요청");
+        adminScoringProfileService.reloadProfiles();
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 프로필로 바꿨을 때 전체 여성의 순위 변화를 계산하며 진행 상황(progress)과 최종 결과(result)를 SSE 로 보냅니다.
+     */
+    @GetMapping(value = "/scoring-profiles/{name}/simulation", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter simulateScoringProfile(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "30") int rankWindow
+    ) {
+        log.info("가중치 프로필 시뮬레이션 요청: profile={}, rankWindow={}", name, rankWindow);
+        return adminScoringSimulationService.simulate(name, rankWindow);
+    }
+
     @PostMapping("/matching")
     public ResponseEntity<Void> createMatching(
             @Valid @RequestBody CreateMatchingRequest request
@@ -76,6 +147,22 @@ public class AdminMemberController {
         return ResponseEntity.ok().build();
     }
     
+    @GetMapping("/matchings/proposals")
+    public ResponseEntity<List<MatchingProposalResponse>> proposeMatchings() {
+        log.info("자동 배정 제안 요청");
+        List<MatchingProposalResponse> proposals = adminMatchingAssignmentService.proposeMatchings();
+        return ResponseEntity.ok(proposals);
+    }
+
+    @PostMapping("/matchings/bulk")
+    public ResponseEntity<Void> confirmMatchings(
+            @Valid @RequestBody ConfirmMatchingsRequest request
+    ) {
+        log.info("자동 배정 일괄 확정 요청: {}건", request.matchings().size());
+        adminMatchingAssignmentService.confirmMatchings(request);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/matchings")
     public ResponseEntity<List<MatchedMemberListResponse>> getAllMatchings() {
         log.info("매칭 목록 조회 요청");
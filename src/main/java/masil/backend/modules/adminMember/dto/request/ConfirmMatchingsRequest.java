@@ -0,0 +1,11 @@
+package masil.backend.modules.adminMember.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record ConfirmMatchingsRequest(
+        @NotEmpty(message = "확정할 매칭을 1건 이상 입력해주세요.")
+        List<@Valid CreateMatchingRequest> matchings
+) {}
@@ -0,0 +1,50 @@
+package masil.backend.modules.adminMember.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public record SaveScoringWeightProfileRequest(
+        @NotNull(message = "1순위 가중치를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "가중치는 0 이상이어야 합니다.")
+        Double priority1Weight,
+
+        @NotNull(message = "2순위 가중치를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "가중치는 0 이상이어야 합니다.")
+        Double priority2Weight,
+
+        @NotNull(message = "3순위 가중치를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "가중치는 0 이상이어야 합니다.")
+        Double priority3Weight,
+
+        @NotNull(message = "키 1cm당 감점을 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "감점은 0 이상이어야 합니다.")
+        Double heightPenaltyPerCm,
+
+        @NotNull(message = "학벌 1단계당 감점을 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "감점은 0 이상이어야 합니다.")
+        Double educationPenaltyPerLevel,
+
+        @NotNull(message = "선호 자산 초과 1억당 감점을 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "감점은 0 이상이어야 합니다.")
+        Double assetAbovePenaltyPerLevel,
+
+        @NotNull(message = "선호 자산 미달 1억당 감점을 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "감점은 0 이상이어야 합니다.")
+        Double assetBelowPenaltyPerLevel,
+
+        @NotNull(message = "선호 직업 점수를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "점수는 0 이상이어야 합니다.")
+        @DecimalMax(value = "100.0", message = "점수는 100 이하여야 합니다.")
+        Double jobPreferredScore,
+
+        @NotNull(message = "비선호 직업 점수를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "점수는 0 이상이어야 합니다.")
+        @DecimalMax(value = "100.0", message = "점수는 100 이하여야 합니다.")
+        Double jobAvoidedScore,
+
+        @NotNull(message = "그 외 직업 점수를 입력해주세요.")
+        @DecimalMin(value = "0.0", message = "점수는 0 이상이어야 합니다.")
+        @DecimalMax(value = "100.0", message = "점수는 100 이하여야 합니다.")
+        Double jobNeutralScore
+) {}
@@ -21,6 +21,7 @@ public record AdminMemberDetailResponse(
         Religion religion,
         Education education,
         Asset asset,
+        String mbti,
         String otherInfo,
         String thumbnailImageUrl,
         List<String> imageUrls,  // 추가 이미지 목록
@@ -45,6 +46,7 @@ public record AdminMemberDetailResponse(
                 member.getReligion(),
                 member.getEducation(),
                 member.getAsset(),
+                member.getMbti(),
                 member.getOtherInfo(),
                 member.getThumbnailImageUrl(),
                 imageUrls,
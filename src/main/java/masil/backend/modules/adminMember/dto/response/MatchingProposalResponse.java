@@ -0,0 +1,14 @@
+package masil.backend.modules.adminMember.dto.response;
+
+import java.util.List;
+
+/**
+ * 자동 배정이 제안한 여성 1명 + 남성 3명 조합 (관리자 확정 전)
+ */
+public record MatchingProposalResponse(
+        Long femaleMemberId,
+        String femaleName,
+        List<Long> maleMemberIds,
+        List<Double> scores,
+        Double totalScore
+) { }
@@ -0,0 +1,47 @@
+package masil.backend.modules.adminMember.dto.response;
+
+import masil.backend.modules.adminMember.service.ScoringSimulation.Totals;
+
+/**
+ * 가중치 프로필 변경 시뮬레이션 집계 (진행 중에는 처리된 여성까지의 중간 집계)
+ * 점수 분포는 10점 단위 구간별 (여성, 남성) 쌍의 수입니다.
+ */
+public record ScoringSimulationResponse(
+        String baselineProfile,
+        String candidateProfile,
+        boolean completed,
+        int processedFemales,
+        int totalFemales,
+        int maleCandidates,
+        int rankWindow,
+        long[] top3OverlapCounts,
+        double meanTop3Overlap,
+        double meanRankShift,
+        int maxRankShift,
+        double meanTop1ScoreDelta,
+        long[] scoreHistogramBefore,
+        long[] scoreHistogramAfter,
+        long elapsedMillis
+) {
+    public static ScoringSimulationResponse of(String baselineProfile, String candidateProfile, boolean completed,
+                                               int totalFemales, int maleCandidates, int rankWindow,
+                                               Totals totals, long elapsedMillis) {
+        return new ScoringSimulationResponse(
+                baselineProfile,
+                candidateProfile,
+                completed,
+                totals.females(),
+                totalFemales,
+                maleCandidates,
+                rankWindow,
+                totals.top3Overlap(),
+                totals.meanTop3Overlap(),
+                totals.meanRankShift(),
+                totals.maxRankShift(),
+                totals.meanTop1ScoreDelta(),
+                totals.histogramBefore(),
+                totals.histogramAfter(),
+                elapsedMillis
+        );
+    }
+}
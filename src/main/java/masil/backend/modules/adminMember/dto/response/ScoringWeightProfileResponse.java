@@ -0,0 +1,35 @@
+package masil.backend.modules.adminMember.dto.response;
+
+import masil.backend.modules.member.service.ScoringWeights;
+
+public record ScoringWeightProfileResponse(
+        String name,
+        boolean active,
+        double priority1Weight,
+        double priority2Weight,
+        double priority3Weight,
+        double heightPenaltyPerCm,
+        double educationPenaltyPerLevel,
+        double assetAbovePenaltyPerLevel,
+        double assetBelowPenaltyPerLevel,
+        double jobPreferredScore,
+        double jobAvoidedScore,
+        double jobNeutralScore
+) {
+    public static ScoringWeightProfileResponse from(ScoringWeights weights, boolean active) {
+        return new ScoringWeightProfileResponse(
+                weights.name(),
+                active,
+                weights.priority1Weight(),
+                weights.priority2Weight(),
+                weights.priority3Weight(),
+                weights.heightPenaltyPerCm(),
+                weights.educationPenaltyPerLevel(),
+                weights.assetAbovePenaltyPerLevel(),
+                weights.assetBelowPenaltyPerLevel(),
+                weights.jobPreferredScore(),
+                weights.jobAvoidedScore(),
+                weights.jobNeutralScore()
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package masil.backend.modules.adminMember.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.adminMember.dto.request.ConfirmMatchingsRequest;
+import masil.backend.modules.adminMember.dto.request.CreateMatchingRequest;
+import masil.backend.modules.adminMember.dto.response.MatchingProposalResponse;
+import masil.backend.modules.member.dto.MaleMatchingCount;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MatchingStatus;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.enums.PastPairPolicy;
+import masil.backend.modules.member.repository.MatchingRepository;
+import masil.backend.modules.member.repository.MemberRepository;
+import masil.backend.modules.member.service.MatchingScoreMatrix;
+import masil.backend.modules.member.service.MatchingScoreMatrix.ScoreRow;
+import masil.backend.modules.member.service.PastPairIndex;
+import masil.backend.modules.member.service.RankedCandidates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 승인완료 여성 전체에 남성 3명씩을 한 번에 배정하는 자동 배정 (관리자 확정 전 제안)
+ * 남성별 수용 인원(최대 진행 매칭 수 - 현재 진행 매칭 수) 안에서 점수 합이 최대가 되도록 배정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AdminMatchingAssignmentService {
+
+    static final int MALES_PER_FEMALE = 3;
+
+    // 점수는 MBTI·거리·자기소개 유사도·가중치 프로필 때문에 임의의 실수이므로,
+    // 1/10000 단위로 반올림해 정수 비용으로 변환 (서로 다른 점수가 같은 비용으로 뭉치지 않게)
+    private static final int SCORE_SCALE = 10_000;
+    private static final double MAX_SCORE = 100.0;
+
+    private final MemberRepository memberRepository;
+    private final MatchingRepository matchingRepository;
+    private final MatchingScoreMatrix matchingScoreMatrix;
+    private final PastPairIndex pastPairIndex;
+    private final AdminMemberService adminMemberService;
+
+    // 남성 한 명이 동시에 진행할 수 있는 최대 매칭 수
+    @Value("${matching.auto-assign.male-capacity:3}")
+    private int maleCapacity;
+
+    // 여성별로 배정 후보로 고려할 상위 남성 수 (그래프 간선 수 제한)
+    @Value("${matching.auto-assign.candidates-per-female:30}")
+    private int candidatesPerFemale;
+
+    @Transactional(readOnly = true)
+    public List<MatchingProposalResponse> proposeMatchings() {
+        List<Member> females = memberRepository.findByGenderAndStatus(Gender.JAPANESE_FEMALE, MemberStatus.APPROVED);
+        if (females.isEmpty()) {
+            return List.of();
+        }
+
+        PastPairPolicy policy = pastPairIndex.defaultPolicy();
+
+        // 여성별 상위 후보만 간선으로 사용, 남성은 등장 순서대로 위치 부여
+        Map<Long, Integer> maleIndexes = new HashMap<>();
+        List<Long> maleIds = new ArrayList<>();
+        int[][] candidateMales = new int[females.size()][];
+        long[][] candidateCosts = new long[females.size()][];
+        double[][] candidateScores = new double[females.size()][];
+        for (int female = 0; female < females.size(); female++) {
+            // 과거에 이미 매칭된 남성은 기본 정책대로 제외하거나 뒤로 보냄 (제외될 수만큼 더 뽑음)
+            Member femaleMember = females.get(female);
+            long[] pastMaleIds = policy == PastPairPolicy.INCLUDE
+                    ? new long[0]
+                    : pastPairIndex.maleIdsFor(femaleMember.getId());
+            int wanted = candidatesPerFemale + pastMaleIds.length;
+
+            // 미리 유지 중인 상위 후보 목록으로 충분하면 점수 행을 보지 않음
+            RankedCandidates ranked = matchingScoreMatrix.getRanking(femaleMember).ranked();
+            if (!ranked.covers(wanted)) {
+                ScoreRow row = matchingScoreMatrix.getRow(femaleMember);
+                ranked = RankedCandidates.of(row.candidates(), row.scores(), row.eligible(), wanted);
+            }
+            long[] rankedIds = new long[Math.min(ranked.size(), wanted)];
+            for (int rank = 0; rank < rankedIds.length; rank++) {
+                rankedIds[rank] = ranked.id(rank);
+            }
+            boolean exhausted = ranked.isComplete() && rankedIds.length == ranked.size();
+            int[] picked = PastPairIndex.arrange(rankedIds, pastMaleIds, policy, exhausted, 0, candidatesPerFemale);
+
+            candidateMales[female] = new int[picked.length];
+            candidateCosts[female] = new long[picked.length];
+            candidateScores[female] = new double[picked.length];
+            for (int i = 0; i < picked.length; i++) {
+                Long maleId = ranked.id(picked[i]);
+                Integer maleIndex = maleIndexes.get(maleId);
+                if (maleIndex == null) {
+                    maleIndex = maleIds.size();
+                    maleIndexes.put(maleId, maleIndex);
+                    maleIds.add(maleId);
+                }
+                double score = ranked.score(picked[i]);
+                candidateMales[female][i] = maleIndex;
+                candidateScores[female][i] = score;
+                candidateCosts[female][i] = Math.round((MAX_SCORE - score) * SCORE_SCALE);
+            }
+        }
+
+        // 남성별 남은 수용 인원 = 최대 진행 매칭 수 - 현재 진행 중인 매칭 수
+        Map<Long, Long> activeCounts = matchingRepository
+                .countByStatusInGroupByMaleMemberId(MatchingStatus.activeStatuses()).stream()
+                .collect(Collectors.toMap(MaleMatchingCount::maleMemberId, MaleMatchingCount::matchingCount));
+        int[] capacities = new int[maleIds.size()];
+        for (int male = 0; male < capacities.length; male++) {
+            capacities[male] = (int) Math.max(0, maleCapacity - activeCounts.getOrDefault(maleIds.get(male), 0L));
+        }
+
+        // createMatching 은 정확히 3명을 요구하므로, 일부만 채운 여성의 남성은 다른 여성에게 돌려가며 다시 배정
+        int[][] assignments = MatchingAssignmentSolver.solveComplete(
+                MALES_PER_FEMALE, capacities, candidateMales, candidateCosts);
+
+        List<MatchingProposalResponse> proposals = new ArrayList<>();
+        for (int female = 0; female < females.size(); female++) {
+            if (assignments[female].length == 0) {
+                continue;
+            }
+            List<Long> assignedIds = new ArrayList<>();
+            List<Double> scores = new ArrayList<>();
+            for (int maleIndex : assignments[female]) {
+                int position = indexOf(candidateMales[female], maleIndex);
+                assignedIds.add(maleIds.get(maleIndex));
+                scores.add(candidateScores[female][position]);
+            }
+            double totalScore = scores.stream().mapToDouble(Double::doubleValue).sum();
+            Member femaleMember = females.get(female);
+            proposals.add(new MatchingProposalResponse(
+                    femaleMember.getId(), femaleMember.getName(), assignedIds, scores, totalScore));
+        }
+
+        log.info("자동 배정 제안: 여성 {}명 중 {}명 배정, 남성 후보 {}명",
+                females.size(), proposals.size(), maleIds.size());
+        return proposals;
+    }
+
+    /**
+     * 관리자가 확인한 제안을 한 트랜잭션으로 일괄 생성합니다. 하나라도 실패하면 전체를 되돌립니다.
+     */
+    public void confirmMatchings(ConfirmMatchingsRequest request) {
+        for (CreateMatchingRequest matching : request.matchings()) {
+            adminMemberService.createMatching(matching);
+        }
+        log.info("자동 배정 일괄 확정 완료: {}건", request.matchings().size());
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
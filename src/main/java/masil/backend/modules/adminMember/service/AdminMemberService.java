@@ -6,15 +6,32 @@ import masil.backend.modules.adminMember.dto.request.ChangeMemberStatusRequest;
 import masil.backend.modules.adminMember.dto.request.CreateMatchingRequest;
 import masil.backend.modules.adminMember.dto.response.AdminMemberDetailResponse;
 import masil.backend.modules.adminMember.dto.response.AdminMemberListResponse;
+import masil.backend.modules.member.dto.MaleCandidateProfile;
+import masil.backend.modules.member.dto.MaleMatchingCount;
 import masil.backend.modules.member.dto.response.MatchingScoreResponse;
+import masil.backend.modules.member.dto.response.ScoreComponentResponse;
 import masil.backend.modules.member.entity.Matching;
 import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MatchingStatus;
 import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.enums.PastPairPolicy;
 import masil.backend.modules.member.repository.MemberRepository;
 import masil.backend.modules.member.service.FcmService;
+import masil.backend.modules.member.service.IntroductionVectorIndex;
+import masil.backend.modules.member.service.IntroductionVectorIndex.Neighbor;
+import masil.backend.modules.member.service.MaleCandidateIndex;
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import masil.backend.modules.member.service.MatchingScoreMatrix;
+import masil.backend.modules.member.service.MatchingScoreMatrix.Ranking;
+import masil.backend.modules.member.service.MatchingScoreMatrix.ScoreRow;
 import masil.backend.modules.member.service.MatchingScoreService;
 import masil.backend.modules.member.service.MemberLowService;
+import masil.backend.modules.member.service.PastPairIndex;
+import masil.backend.modules.member.service.RankedCandidates;
+import masil.backend.modules.member.service.ScoringPlan;
+import masil.backend.modules.member.service.ScoringWeightRegistry;
+import masil.backend.modules.member.service.TopKSelector;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import masil.backend.modules.member.dto.response.MatchedMemberListResponse;
@@ -22,8 +39,12 @@ import masil.backend.modules.member.repository.MatchingRepository;
 
 
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 @Slf4j
@@ -31,10 +52,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class AdminMemberService {
-    
+
+    // 유사 자기소개 후보 조회 최대 인원
+    private static final int MAX_SIMILAR_CANDIDATES = 100;
+
     private final MemberRepository memberRepository;
     private final MemberLowService memberLowService;
     private final MatchingScoreService matchingScoreService;
+    private final MatchingScoreMatrix matchingScoreMatrix;
+    private final ScoringWeightRegistry scoringWeightRegistry;
+    private final PastPairIndex pastPairIndex;
+    private final MaleCandidateIndex maleCandidateIndex;
+    private final IntroductionVectorIndex introductionVectorIndex;
     private final MatchingRepository matchingRepository;
     private final FcmService fcmService;
     private final masil.backend.modules.member.service.MemberImageLowService memberImageLowService;
@@ -88,6 +117,11 @@ public class AdminMemberService {
         
         member.changeStatus(request.status());
 
+        // 승인된 여성은 관리자가 바로 후보 목록을 열 수 있도록 커밋 후 상위 후보 목록을 미리 만듦
+        if (member.getGender() == Gender.JAPANESE_FEMALE && request.status() == MemberStatus.APPROVED) {
+            matchingScoreMatrix.warmAfterCommit(member);
+        }
+
         // 푸시 알림 전송
         String title = "회원 상태 변경 알림";
         String body = getStatusChangeMessage(request.status());
@@ -109,10 +143,19 @@ public class AdminMemberService {
     }
     
 
-    //Use Case 4: 여성 유저 기준으로 매칭 가능한 남성 유저 목록 조회 (점수 내림차순)
+    //Use Case 4: 여성 유저 기준으로 매칭 가능한 남성 유저 목록 조회 (점수 내림차순, limit/offset 페이징)
 
     @Transactional(readOnly = true)
-    public List<MatchingScoreResponse> getMatchingCandidates(Long femaleMemberId) {
+    public List<MatchingScoreResponse> getMatchingCandidates(Long femaleMemberId, Integer limit, int offset,
+                                                             boolean explain, String profile,
+                                                             PastPairPolicy pastPairs) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset은 0 이상이어야 합니다.");
+        }
+
         Member femaleMember = memberLowService.getValidateExistMemberById(femaleMemberId);
         
         // 여성 유저가 연결중 상태인지 확인
@@ -125,31 +168,136 @@ public class AdminMemberService {
             throw new IllegalArgumentException("일본 여성 유저만 매칭 후보를 조회할 수 있습니다.");
         }
         
-        // APPROVED 또는 CONNECTING 상태 남성 유저 조회 (이미 매칭된 남성도 포함)
-        List<Member> maleMembers = memberRepository.findByGenderAndStatusIn(
-                Gender.KOREAN_MALE,
-                List.of(MemberStatus.APPROVED, MemberStatus.CONNECTING)
-        );
+        // 과거에 이미 매칭된 남성 (정책에 따라 제외하거나 맨 뒤로), 제외될 수 있는 수만큼 더 넉넉히 뽑음
+        PastPairPolicy policy = pastPairs != null ? pastPairs : pastPairIndex.defaultPolicy();
+        long[] pastMaleIds = policy == PastPairPolicy.INCLUDE ? new long[0] : pastPairIndex.maleIdsFor(femaleMemberId);
+        int end = limit == null ? Integer.MAX_VALUE : (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        int wanted = (int) Math.min(Integer.MAX_VALUE, (long) end + pastMaleIds.length);
+
+        // 사용 중인 프로필로 한 페이지만 조회하면 미리 유지 중인 상위 후보 목록에서 바로 꺼냄
+        if (profile == null && limit != null) {
+            Ranking ranking = matchingScoreMatrix.getRanking(femaleMember);
+            RankedCandidates ranked = ranking.ranked();
+            if (ranked.covers(wanted)) {
+                int count = Math.min(ranked.size(), wanted);
+                long[] rankedIds = new long[count];
+                double[] rankedScores = new double[count];
+                for (int rank = 0; rank < count; rank++) {
+                    rankedIds[rank] = ranked.id(rank);
+                    rankedScores[rank] = ranked.score(rank);
+                }
+                boolean exhausted = ranked.isComplete() && count == ranked.size();
+                log.info("매칭 후보 조회: 여성 memberId={}, 남성 후보 수={}, 유지 중인 상위 후보 목록 사용, 과거 매칭 {}명 {}",
+                        femaleMemberId, ranking.candidates().size(), pastMaleIds.length, policy);
+                int[] page = PastPairIndex.arrange(rankedIds, pastMaleIds, policy, exhausted, offset, end);
+                return toResponses(rankedIds, rankedScores, page, ranking.plan(), ranking.candidates(), explain);
+            }
+        }
+
+        // APPROVED 또는 CONNECTING 상태 남성 유저 전체의 점수 행 (점수 행렬, 이미 매칭된 남성도 포함)
+        // 프로필을 지정하면 사용 중인 가중치 대신 해당 프로필로 다시 순위를 매김
+        ScoreRow row = profile == null
+                ? matchingScoreMatrix.getRow(femaleMember)
+                : matchingScoreMatrix.getRow(femaleMember, scoringWeightRegistry.get(profile));
+        MaleCandidateSnapshot candidates = row.candidates();
         
-        log.info("매칭 후보 조회: 여성 memberId={}, 남성 후보 수={} (APPROVED 및 CONNECTING 상태)", 
-                femaleMemberId, maleMembers.size());
+        log.info("매칭 후보 조회: 여성 memberId={}, 남성 후보 수={} (APPROVED 및 CONNECTING 상태), 필수 조건 통과={}, 과거 매칭 {}명 {}",
+                femaleMemberId, candidates.size(), row.eligibleCount(), pastMaleIds.length, policy);
+
+        if (candidates.size() == 0) {
+            return List.of();
+        }
         
-        // 매칭 점수 계산 및 정렬 (색상, 레벨 정보 포함)
-        return maleMembers.stream()
-        .map(male -> {
-            Double score = matchingScoreService.calculateMatchingScore(femaleMember, male);
+        double[] scores = row.scores();
+
+        // 반드시 충족 조건을 통과한 후보 중 요청한 페이지까지만 상위 K명 선택 (점수 내림차순, 동점이면 회원 ID 오름차순)
+        int k = Math.min(row.eligibleCount(), wanted);
+        int[] topK = TopKSelector.select(scores, row.eligible(), k);
+        long[] rankedIds = Arrays.stream(topK).mapToLong(candidates::id).toArray();
+        double[] rankedScores = Arrays.stream(topK).mapToDouble(index -> scores[index]).toArray();
+        boolean exhausted = topK.length == row.eligibleCount();
+        int[] page = PastPairIndex.arrange(rankedIds, pastMaleIds, policy, exhausted, offset, end);
+        return toResponses(rankedIds, rankedScores, page, row.plan(), candidates, explain);
+    }
+
+    /**
+     * 자기소개 임베딩이 여성 회원과 가까운 남성 후보를 유사도 순으로 반환합니다. (점수는 매칭 점수)
+     * 근사 최근접 이웃 색인을 사용하며, 반드시 충족 조건이나 과거 매칭 여부는 따지지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MatchingScoreResponse> getSimilarCandidates(Long femaleMemberId, int limit, boolean explain) {
+        if (limit < 1 || limit > MAX_SIMILAR_CANDIDATES) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_SIMILAR_CANDIDATES + " 이하여야 합니다.");
+        }
+        Member femaleMember = memberLowService.getValidateExistMemberById(femaleMemberId);
+        if (femaleMember.getGender() != Gender.JAPANESE_FEMALE) {
+            throw new IllegalArgumentException("일본 여성 유저만 매칭 후보를 조회할 수 있습니다.");
+        }
+        if (femaleMember.getIntroductionEmbedding() == null) {
+            log.info("자기소개 임베딩이 없어 유사 후보를 조회하지 않습니다: 여성 memberId={}", femaleMemberId);
+            return List.of();
+        }
+
+        List<Neighbor> neighbors = introductionVectorIndex.nearest(femaleMember.getIntroductionEmbedding(), limit);
+        ScoringPlan plan = matchingScoreService.getScoringPlan(femaleMember);
+        MaleCandidateSnapshot candidates = maleCandidateIndex.getSnapshot();
+
+        // 색인 조회 뒤 후보에서 빠진 회원은 제외
+        long[] rankedIds = neighbors.stream()
+                .mapToLong(Neighbor::memberId)
+                .filter(memberId -> candidates.indexOf(memberId) >= 0)
+                .toArray();
+        double[] rankedScores = Arrays.stream(rankedIds)
+                .mapToDouble(memberId -> plan.score(candidates, candidates.indexOf(memberId)))
+                .toArray();
+        log.info("유사 자기소개 후보 조회: 여성 memberId={}, 결과 {}명", femaleMemberId, rankedIds.length);
+        return toResponses(rankedIds, rankedScores, IntStream.range(0, rankedIds.length).toArray(),
+                plan, candidates, explain);
+    }
+
+    // page 는 rankedIds 안의 위치이며, 응답에는 그 순서대로 담음
+    private List<MatchingScoreResponse> toResponses(long[] rankedIds, double[] rankedScores, int[] page,
+                                                    ScoringPlan plan, MaleCandidateSnapshot candidates,
+                                                    boolean explain) {
+        if (page.length == 0) {
+            return List.of();
+        }
+        List<Long> pageIds = Arrays.stream(page)
+                .mapToObj(rank -> rankedIds[rank])
+                .toList();
+
+        // 응답에 표시할 정보만 조회
+        Map<Long, MaleCandidateProfile> profiles = memberRepository.findCandidateProfilesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(MaleCandidateProfile::id, Function.identity()));
+
+        // 남성별 진행 중인 매칭 수를 한 번에 집계
+        Map<Long, Long> matchingCounts = matchingRepository
+                .countByMaleMemberIdInAndStatusIn(pageIds, MatchingStatus.activeStatuses()).stream()
+                .collect(Collectors.toMap(MaleMatchingCount::maleMemberId, MaleMatchingCount::matchingCount));
+
+        // 색상, 레벨 정보 포함
+        return Arrays.stream(page)
+        .filter(rank -> profiles.containsKey(rankedIds[rank]))
+        .mapToObj(rank -> {
+            MaleCandidateProfile male = profiles.get(rankedIds[rank]);
+            Double score = rankedScores[rank];
             
             // 그라데이션 색상 및 레벨 정보 추가
             String color = matchingScoreService.getScoreColorGradient(score);
             String level = matchingScoreService.getScoreLevel(score);
             
-            // 해당 남성의 매칭 정보 조회
-            List<Matching> matchings = matchingRepository.findByMaleMemberId(male.getId());
-            int matchingCount = matchings.size();
+            int matchingCount = matchingCounts.getOrDefault(male.id(), 0L).intValue();
             
-            return MatchingScoreResponse.from(male, score, color, level, matchingCount);
+            MatchingScoreResponse response = MatchingScoreResponse.from(male, score, color, level, matchingCount);
+            int index = candidates.indexOf(male.id());
+            if (!explain || index < 0) {
+                return response;
+            }
+            // 설명 모드: 응답에 포함되는 후보만 항목별 점수를 다시 계산
+            return response.withScoreBreakdown(plan.explain(candidates, index).stream()
+                    .map(ScoreComponentResponse::from)
+                    .toList());
         })
-        .sorted((a, b) -> Double.compare(b.matchingScore(), a.matchingScore())) // 내림차순
         .collect(Collectors.toList());
     }
     
@@ -215,6 +363,8 @@ public class AdminMemberService {
             matchingRepository.save(matching);
         }
 
+        pastPairIndex.record(femaleMember.getId(), request.maleMemberIds());
+
         log.info("매칭 생성 완료: 여성 memberId={}, 남성 memberIds={}", 
                 request.femaleMemberId(), 
                 request.maleMemberIds());
@@ -0,0 +1,108 @@
+package masil.backend.modules.adminMember.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.adminMember.dto.request.SaveScoringWeightProfileRequest;
+import masil.backend.modules.adminMember.dto.response.ScoringWeightProfileResponse;
+import masil.backend.modules.member.entity.ScoringWeightProfile;
+import masil.backend.modules.member.repository.ScoringWeightProfileRepository;
+import masil.backend.modules.member.service.ScoringWeightRegistry;
+import masil.backend.modules.member.service.ScoringWeights;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 매칭 점수 가중치 프로필 관리 (재배포 없이 가중치 조정)
+ * DB 에 저장한 뒤 커밋되면 레지스트리를 다시 읽어 새 스냅샷으로 교체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AdminScoringProfileService {
+
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final ScoringWeightProfileRepository scoringWeightProfileRepository;
+    private final ScoringWeightRegistry scoringWeightRegistry;
+
+    @Transactional(readOnly = true)
+    public List<ScoringWeightProfileResponse> getProfiles() {
+        ScoringWeights active = scoringWeightRegistry.active();
+        return scoringWeightRegistry.all().stream()
+                .map(weights -> ScoringWeightProfileResponse.from(weights, weights == active))
+                .toList();
+    }
+
+    public void saveProfile(String name, SaveScoringWeightProfileRequest request) {
+        validateName(name);
+
+        ScoringWeightProfile profile = scoringWeightProfileRepository.findByName(name)
+                .orElseGet(() -> new ScoringWeightProfile(name));
+        profile.update(
+                request.priority1Weight(), request.priority2Weight(), request.priority3Weight(),
+                request.heightPenaltyPerCm(), request.educationPenaltyPerLevel(),
+                request.assetAbovePenaltyPerLevel(), request.assetBelowPenaltyPerLevel(),
+                request.jobPreferredScore(), request.jobAvoidedScore(), request.jobNeutralScore()
+        );
+        scoringWeightProfileRepository.save(profile);
+
+        log.info("가중치 프로필 저장: {}", name);
+        reloadAfterCommit();
+    }
+
+    /**
+     * 프로필을 점수 계산에 사용하도록 지정합니다. 설정 파일에만 있는 프로필은 현재 값으로 DB 에 저장합니다.
+     */
+    public void activateProfile(String name) {
+        ScoringWeights weights = scoringWeightRegistry.get(name);
+
+        ScoringWeightProfile profile = scoringWeightProfileRepository.findByName(name)
+                .orElseGet(() -> scoringWeightProfileRepository.save(copyOf(weights)));
+        scoringWeightProfileRepository.findByActiveTrue()
+                .forEach(activeProfile -> activeProfile.changeActive(false));
+        profile.changeActive(true);
+
+        log.info("가중치 프로필 사용 지정: {}", name);
+        reloadAfterCommit();
+    }
+
+    @Transactional(readOnly = true)
+    public void reloadProfiles() {
+        scoringWeightRegistry.reload();
+    }
+
+    private void validateName(String name) {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("프로필 이름은 1~" + MAX_NAME_LENGTH + "자여야 합니다.");
+        }
+        if (ScoringWeights.DEFAULT_NAME.equals(name)) {
+            throw new IllegalArgumentException("기본 프로필은 수정할 수 없습니다.");
+        }
+    }
+
+    private static ScoringWeightProfile copyOf(ScoringWeights weights) {
+        ScoringWeightProfile profile = new ScoringWeightProfile(weights.name());
+        profile.update(
+                weights.priority1Weight(), weights.priority2Weight(), weights.priority3Weight(),
+                weights.heightPenaltyPerCm(), weights.educationPenaltyPerLevel(),
+                weights.assetAbovePenaltyPerLevel(), weights.assetBelowPenaltyPerLevel(),
+                weights.jobPreferredScore(), weights.jobAvoidedScore(), weights.jobNeutralScore()
+        );
+        return profile;
+    }
+
+    // 롤백된 변경이 스냅샷에 들어가지 않도록 커밋 후에 다시 읽음
+    private void reloadAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scoringWeightRegistry.reload();
+            }
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package masil.backend.modules.adminMember.service;
+
+import static masil.backend.global.error.GeneralExceptionType.SIMULATION_ALREADY_RUNNING;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.global.error.GeneralException;
+import masil.backend.modules.adminMember.dto.response.ScoringSimulationResponse;
+import masil.backend.modules.adminMember.service.ScoringSimulation.Totals;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.repository.MemberPreferenceRepository;
+import masil.backend.modules.member.repository.MemberRepository;
+import masil.backend.modules.member.service.EmbeddingProvider;
+import masil.backend.modules.member.service.MaleCandidateIndex;
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import masil.backend.modules.member.service.ScoringPlan;
+import masil.backend.modules.member.service.ScoringWeightRegistry;
+import masil.backend.modules.member.service.ScoringWeights;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가중치 프로필을 바꾸기 전에 승인완료 여성 전체의 순위가 어떻게 달라지는지 미리 계산합니다.
+ * 선호도는 한 번에 읽고, 남성 속성은 메모리의 후보 스냅샷 하나를 사용하므로 쌍마다 조회하지 않습니다.
+ * 여성 묶음 단위로 전용 풀에서 병렬 계산하며, 묶음이 끝날 때마다 중간 집계를 SSE 로 보냅니다.
+ * 관리자가 연결을 끊거나 시간이 초과되면 남은 묶음을 취소하고, 모든 묶음이 멈춘 뒤에 다음 시뮬레이션을 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminScoringSimulationService {
+
+    private static final int FEMALES_PER_CHUNK = 64;
+    private static final int MAX_RANK_WINDOW = 200;
+    private static final long EMITTER_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
+    private final MemberRepository memberRepository;
+    private final MemberPreferenceRepository memberPreferenceRepository;
+    private final MaleCandidateIndex maleCandidateIndex;
+    private final ScoringWeightRegistry scoringWeightRegistry;
+    private final ForkJoinPool simulationForkJoinPool;
+    private final EmbeddingProvider embeddingProvider;
+
+    // 한 번에 하나의 시뮬레이션만 실행
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Transactional(readOnly = true)
+    public SseEmitter simulate(String profileName, int rankWindow) {
+        if (rankWindow < ScoringSimulation.TOP || rankWindow > MAX_RANK_WINDOW) {
+            throw new IllegalArgumentException(
+                    "순위 비교 범위는 " + ScoringSimulation.TOP + " 이상 " + MAX_RANK_WINDOW + " 이하여야 합니다.");
+        }
+        ScoringWeights baseline = scoringWeightRegistry.active();
+        ScoringWeights candidate = scoringWeightRegistry.get(profileName);
+
+        if (!running.compareAndSet(false, true)) {
+            throw new GeneralException(SIMULATION_ALREADY_RUNNING);
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(e -> cancelled.set(true));
+        try {
+            List<Member> females = memberRepository.findByGenderAndStatus(Gender.JAPANESE_FEMALE, MemberStatus.APPROVED);
+            List<Long> femaleIds = females.stream().map(Member::getId).toList();
+            // 풀 스레드에서는 지연 로딩을 할 수 없으므로 선호도의 회원 대신 이미 읽은 여성 엔티티를 사용
+            // (권역, 자기소개 임베딩은 기본 컬럼이므로 트랜잭션 밖에서도 읽을 수 있음)
+            Map<Long, Member> femalesById = new HashMap<>();
+            females.forEach(female -> femalesById.put(female.getId(), female));
+            // 선호도가 없는 여성은 프로필과 무관하게 같은 점수이므로 비교에서 제외
+            List<MemberPreference> preferences = femaleIds.isEmpty()
+                    ? List.of()
+                    : memberPreferenceRepository.findByMemberIdIn(femaleIds);
+            MaleCandidateSnapshot candidates = maleCandidateIndex.getSnapshot();
+
+            log.info("가중치 시뮬레이션 시작: {} -> {}, 여성 {}명 (선호도 있음 {}명), 남성 후보 {}명",
+                    baseline.name(), candidate.name(), femaleIds.size(), preferences.size(), candidates.size());
+
+            simulationForkJoinPool.execute(() -> run(emitter, cancelled, baseline, candidate, preferences,
+                    femalesById, candidates, rankWindow));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, AtomicBoolean cancelled, ScoringWeights baseline, ScoringWeights candidate,
+                     List<MemberPreference> preferences, Map<Long, Member> femalesById,
+                     MaleCandidateSnapshot candidates, int rankWindow) {
+        long startedAt = System.currentTimeMillis();
+        List<ForkJoinTask<Totals>> chunks = new ArrayList<>();
+        try {
+            for (int from = 0; from < preferences.size(); from += FEMALES_PER_CHUNK) {
+                List<MemberPreference> chunk = preferences.subList(
+                        from, Math.min(preferences.size(), from + FEMALES_PER_CHUNK));
+                chunks.add(new ChunkTask(chunk, femalesById, baseline, candidate, candidates, rankWindow,
+                        embeddingProvider, cancelled).fork());
+            }
+
+            Totals totals = new Totals();
+            for (ForkJoinTask<Totals> chunk : chunks) {
+                totals.merge(chunk.join());
+                if (cancelled.get()) {
+                    log.info("가중치 시뮬레이션 취소: {} -> {}", baseline.name(), candidate.name());
+                    return;
+                }
+                send(emitter, "progress", ScoringSimulationResponse.of(baseline.name(), candidate.name(), false,
+                        preferences.size(), candidates.size(), rankWindow, totals,
+                        System.currentTimeMillis() - startedAt));
+            }
+
+            long elapsed = System.currentTimeMillis() - startedAt;
+            send(emitter, "result", ScoringSimulationResponse.of(baseline.name(), candidate.name(), true,
+                    preferences.size(), candidates.size(), rankWindow, totals, elapsed));
+            emitter.complete();
+            log.info("가중치 시뮬레이션 완료: {} -> {}, {}ms, 평균 상위 3명 겹침 {}",
+                    baseline.name(), candidate.name(), elapsed, totals.meanTop3Overlap());
+        } catch (IOException e) {
+            log.info("가중치 시뮬레이션 연결 종료: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            log.error("가중치 시뮬레이션 실패", e);
+            emitter.completeWithError(e);
+        } finally {
+            // 남은 묶음을 취소하고, 이미 실행 중인 묶음이 멈출 때까지 기다린 뒤에 다음 실행을 허용
+            // (그렇지 않으면 새 시뮬레이션이 이전 묶음이 점유한 풀 스레드를 기다림)
+            cancelled.set(true);
+            chunks.forEach(chunk -> chunk.cancel(false));
+            chunks.forEach(ForkJoinTask::quietlyJoin);
+            running.set(false);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, ScoringSimulationResponse response) throws IOException {
+        emitter.send(SseEmitter.event().name(name).data(response));
+    }
+
+    private static final class ChunkTask extends RecursiveTask<Totals> {
+        private final List<MemberPreference> preferences;
+        private final Map<Long, Member> femalesById;
+        private final ScoringWeights baseline;
+        private final ScoringWeights candidate;
+        private final MaleCandidateSnapshot candidates;
+        private final int rankWindow;
+        private final EmbeddingProvider embeddingProvider;
+        private final AtomicBoolean cancelled;
+
+        private ChunkTask(List<MemberPreference> preferences, Map<Long, Member> femalesById,
+                          ScoringWeights baseline, ScoringWeights candidate,
+                          MaleCandidateSnapshot candidates, int rankWindow, EmbeddingProvider embeddingProvider,
+                          AtomicBoolean cancelled) {
+            this.preferences = preferences;
+            this.femalesById = femalesById;
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.candidates = candidates;
+            this.rankWindow = rankWindow;
+            this.embeddingProvider = embeddingProvider;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected Totals compute() {
+            Totals totals = new Totals();
+            for (MemberPreference preference : preferences) {
+                // 이미 시작한 묶음도 여성 한 명 단위로 멈춤 (취소된 실행의 집계는 쓰지 않음)
+                if (cancelled.get()) {
+                    break;
+                }
+                Member female = femalesById.get(preference.getMember().getId());
+                float[] embedding = embeddingProvider.compatible(female.getIntroductionEmbedding());
+                ScoringPlan baselinePlan = ScoringPlan.compile(preference, baseline, female.getRegion(), embedding);
+                ScoringPlan candidatePlan = ScoringPlan.compile(preference, candidate, female.getRegion(), embedding);
+                long[] eligible = baselinePlan.eligibleCandidates(candidates);
+                ScoringSimulation.compare(baselinePlan, candidatePlan, candidates, eligible, rankWindow, totals);
+            }
+            return totals;
+        }
+    }
+}
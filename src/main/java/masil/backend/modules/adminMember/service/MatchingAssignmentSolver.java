@@ -0,0 +1,375 @@
+package masil.backend.modules.adminMember.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 여성별 후보 간선과 남성별 수용 인원으로 최소 비용 최대 유량 배정을 구합니다.
+ * source → 여성(용량 perFemale) → 남성(용량 1, 비용) → sink(남성 수용 인원) 그래프에서
+ * 먼저 배정 수를 최대화하고, 같은 배정 수에서는 비용 합을 최소화합니다.
+ * Dijkstra 로 포텐셜을 갱신한 뒤 비용 0 간선만으로 Dinic 블로킹 플로우를 흘리는 primal-dual 방식입니다.
+ */
+public final class MatchingAssignmentSolver {
+
+    private static final long INF = Long.MAX_VALUE / 4;
+    private static final int NODE_BITS = 24;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+
+    private final int nodeCount;
+    private final int source;
+    private final int sink;
+    private final int[] head;
+    private int[] next;
+    private int[] to;
+    private int[] capacity;
+    private long[] cost;
+    private int edgeCount;
+
+    private MatchingAssignmentSolver(int nodeCount, int expectedEdges) {
+        this.nodeCount = nodeCount;
+        this.source = 0;
+        this.sink = nodeCount - 1;
+        this.head = new int[nodeCount];
+        Arrays.fill(head, -1);
+        int size = Math.max(2, expectedEdges * 2);
+        this.next = new int[size];
+        this.to = new int[size];
+        this.capacity = new int[size];
+        this.cost = new long[size];
+    }
+
+    /**
+     * @param perFemale       여성 한 명에게 배정할 최대 남성 수
+     * @param maleCapacities  남성별 추가로 배정 가능한 인원 (0 이하이면 배정하지 않음)
+     * @param candidateMales  여성별 후보 남성 위치
+     * @param candidateCosts  여성별 후보 간선 비용 (0 이상, 작을수록 선호)
+     * @return 여성별 배정된 남성 위치 (비용 오름차순, 동률이면 위치 오름차순)
+     */
+    public static int[][] solve(int perFemale, int[] maleCapacities, int[][] candidateMales, long[][] candidateCosts) {
+        int femaleCount = candidateMales.length;
+        int maleCount = maleCapacities.length;
+        int edges = femaleCount + maleCount;
+        for (int[] males : candidateMales) {
+            edges += males.length;
+        }
+
+        MatchingAssignmentSolver solver = new MatchingAssignmentSolver(femaleCount + maleCount + 2, edges);
+        for (int female = 0; female < femaleCount; female++) {
+            solver.addEdge(solver.source, femaleNode(female), perFemale, 0);
+        }
+        int[][] pairEdges = new int[femaleCount][];
+        for (int female = 0; female < femaleCount; female++) {
+            int[] males = candidateMales[female];
+            pairEdges[female] = new int[males.length];
+            for (int i = 0; i < males.length; i++) {
+                long edgeCost = candidateCosts[female][i];
+                if (edgeCost < 0) {
+                    throw new IllegalArgumentException("배정 비용은 0 이상이어야 합니다.");
+                }
+                pairEdges[female][i] = solver.addEdge(
+                        femaleNode(female), maleNode(femaleCount, males[i]), 1, edgeCost);
+            }
+        }
+        for (int male = 0; male < maleCount; male++) {
+            if (maleCapacities[male] > 0) {
+                solver.addEdge(maleNode(femaleCount, male), solver.sink, maleCapacities[male], 0);
+            }
+        }
+
+        solver.run();
+
+        int[][] assignments = new int[femaleCount][];
+        for (int female = 0; female < femaleCount; female++) {
+            int[] males = candidateMales[female];
+            long[] costs = candidateCosts[female];
+            int[] edgesOfFemale = pairEdges[female];
+            assignments[female] = IntStream.range(0, males.length)
+                    .filter(i -> solver.capacity[edgesOfFemale[i]] == 0)
+                    .boxed()
+                    .sorted((a, b) -> costs[a] != costs[b]
+                            ? Long.compare(costs[a], costs[b])
+                            : Integer.compare(males[a], males[b]))
+                    .mapToInt(i -> males[i])
+                    .toArray();
+        }
+        return assignments;
+    }
+
+    /**
+     * 여성마다 perFemale 명을 모두 배정하거나 아무도 배정하지 않는 배정을 구합니다.
+     * 배정 수 최대화는 일부만 채운 여성에게 남성을 나눠 주어 다른 여성이 다 채울 기회를 막을 수 있으므로,
+     * 일부만 채운 여성 중 절반(배정 수가 적고 비용이 큰 순)을 빼고 그 남성 수용 인원을 돌려준 뒤 다시 풉니다.
+     * 일부만 채운 여성이 없을 때까지 반복하며, 다 채운 여성 수가 가장 많았던(같으면 비용 합이 작은) 배정을 반환합니다.
+     *
+     * @return 여성별 배정된 남성 위치 (perFemale 명 또는 빈 배열)
+     */
+    public static int[][] solveComplete(int perFemale, int[] maleCapacities, int[][] candidateMales,
+                                        long[][] candidateCosts) {
+        int femaleCount = candidateMales.length;
+        int[][] activeMales = new int[femaleCount][];
+        for (int female = 0; female < femaleCount; female++) {
+            // 배정 가능한 후보가 perFemale 명보다 적으면 처음부터 다 채울 수 없음
+            long available = Arrays.stream(candidateMales[female]).filter(male -> maleCapacities[male] > 0).count();
+            activeMales[female] = available >= perFemale ? candidateMales[female] : new int[0];
+        }
+
+        int[][] best = null;
+        long[] bestValue = null;
+        while (true) {
+            int[][] assignments = solve(perFemale, maleCapacities, activeMales, candidateCosts);
+            List<Integer> partial = new ArrayList<>();
+            long[] assignedCosts = new long[femaleCount];
+            int completeCount = 0;
+            long completeCost = 0;
+            for (int female = 0; female < femaleCount; female++) {
+                for (int male : assignments[female]) {
+                    assignedCosts[female] += costOf(candidateMales[female], candidateCosts[female], male);
+                }
+                if (assignments[female].length == perFemale) {
+                    completeCount++;
+                    completeCost += assignedCosts[female];
+                } else if (assignments[female].length > 0) {
+                    partial.add(female);
+                }
+            }
+            if (bestValue == null || completeCount > bestValue[0]
+                    || (completeCount == bestValue[0] && completeCost < bestValue[1])) {
+                best = assignments;
+                bestValue = new long[]{completeCount, completeCost};
+            }
+            if (partial.isEmpty()) {
+                break;
+            }
+
+            partial.sort(Comparator.<Integer>comparingInt(female -> assignments[female].length)
+                    .thenComparing(female -> assignedCosts[female], Comparator.reverseOrder())
+                    .thenComparing(Comparator.reverseOrder()));
+            for (int female : partial.subList(0, (partial.size() + 1) / 2)) {
+                activeMales[female] = new int[0];
+            }
+        }
+
+        int[][] result = new int[femaleCount][];
+        for (int female = 0; female < femaleCount; female++) {
+            result[female] = best[female].length == perFemale ? best[female] : new int[0];
+        }
+        return result;
+    }
+
+    private static long costOf(int[] males, long[] costs, int male) {
+        for (int i = 0; i < males.length; i++) {
+            if (males[i] == male) {
+                return costs[i];
+            }
+        }
+        return 0;
+    }
+
+    private static int femaleNode(int female) {
+        return 1 + female;
+    }
+
+    private static int maleNode(int femaleCount, int male) {
+        return 1 + femaleCount + male;
+    }
+
+    private int addEdge(int from, int target, int edgeCapacity, long edgeCost) {
+        int forward = edgeCount;
+        link(from, target, edgeCapacity, edgeCost);
+        link(target, from, 0, -edgeCost);
+        return forward;
+    }
+
+    private void link(int from, int target, int edgeCapacity, long edgeCost) {
+        if (edgeCount == to.length) {
+            int size = to.length * 2;
+            next = Arrays.copyOf(next, size);
+            to = Arrays.copyOf(to, size);
+            capacity = Arrays.copyOf(capacity, size);
+            cost = Arrays.copyOf(cost, size);
+        }
+        to[edgeCount] = target;
+        capacity[edgeCount] = edgeCapacity;
+        cost[edgeCount] = edgeCost;
+        next[edgeCount] = head[from];
+        head[from] = edgeCount;
+        edgeCount++;
+    }
+
+    private void run() {
+        long[] potential = new long[nodeCount];
+        long[] dist = new long[nodeCount];
+        int[] level = new int[nodeCount];
+        int[] iterator = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        int[] path = new int[nodeCount];
+        LongHeap heap = new LongHeap(nodeCount);
+
+        while (shortestPaths(potential, dist, heap)) {
+            // sink 보다 가까운 노드는 dist, 나머지는 sink 거리만큼 포텐셜을 올려 축약 비용이 음수가 되지 않게 유지
+            long sinkDist = dist[sink];
+            for (int node = 0; node < nodeCount; node++) {
+                potential[node] += Math.min(dist[node], sinkDist);
+            }
+            while (levelTightGraph(potential, level, queue)) {
+                System.arraycopy(head, 0, iterator, 0, nodeCount);
+                while (augment(potential, level, iterator, path) > 0) {
+                    // 블로킹 플로우가 될 때까지 반복
+                }
+            }
+        }
+    }
+
+    // 축약 비용(cost + potential[u] - potential[v])으로 source 에서의 최단 거리 계산
+    private boolean shortestPaths(long[] potential, long[] dist, LongHeap heap) {
+        Arrays.fill(dist, INF);
+        dist[source] = 0;
+        heap.clear();
+        heap.push(source);
+        while (!heap.isEmpty()) {
+            long entry = heap.pop();
+            int node = (int) (entry & NODE_MASK);
+            long nodeDist = entry >>> NODE_BITS;
+            if (nodeDist > dist[node]) {
+                continue;
+            }
+            // sink 보다 먼 노드는 포텐셜 갱신에 쓰이지 않으므로 탐색 중단
+            if (node == sink) {
+                break;
+            }
+            for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+                if (capacity[edge] == 0) {
+                    continue;
+                }
+                int target = to[edge];
+                long candidate = nodeDist + cost[edge] + potential[node] - potential[target];
+                if (candidate < dist[target]) {
+                    dist[target] = candidate;
+                    heap.push((candidate << NODE_BITS) | target);
+                }
+            }
+        }
+        return dist[sink] < INF;
+    }
+
+    private boolean isTight(int edge, int from, long[] potential) {
+        return capacity[edge] > 0 && cost[edge] + potential[from] - potential[to[edge]] == 0;
+    }
+
+    private boolean levelTightGraph(long[] potential, int[] level, int[] queue) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int headIndex = 0;
+        int tailIndex = 0;
+        queue[tailIndex++] = source;
+        while (headIndex < tailIndex) {
+            int node = queue[headIndex++];
+            for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+                int target = to[edge];
+                if (level[target] < 0 && isTight(edge, node, potential)) {
+                    level[target] = level[node] + 1;
+                    queue[tailIndex++] = target;
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    // 레벨 그래프에서 source → sink 경로 하나를 명시적 간선 스택으로 찾아 흘림 (경로가 길어도 호출 스택을 쓰지 않음)
+    // 막힌 노드에서는 부모로 돌아가 그 간선을 건너뛰고, 성공한 경로의 간선은 남은 용량이 있을 수 있으므로 그대로 둠
+    private int augment(long[] potential, int[] level, int[] iterator, int[] path) {
+        int depth = 0;
+        int node = source;
+        while (true) {
+            if (node == sink) {
+                int pushed = Integer.MAX_VALUE;
+                for (int i = 0; i < depth; i++) {
+                    pushed = Math.min(pushed, capacity[path[i]]);
+                }
+                for (int i = 0; i < depth; i++) {
+                    capacity[path[i]] -= pushed;
+                    capacity[path[i] ^ 1] += pushed;
+                }
+                return pushed;
+            }
+            int edge = iterator[node];
+            while (edge >= 0 && (level[to[edge]] != level[node] + 1 || !isTight(edge, node, potential))) {
+                edge = next[edge];
+            }
+            iterator[node] = edge;
+            if (edge >= 0) {
+                path[depth++] = edge;
+                node = to[edge];
+                continue;
+            }
+            if (depth == 0) {
+                return 0;
+            }
+            // 역방향 간선의 도착 노드가 부모 노드
+            node = to[path[--depth] ^ 1];
+            iterator[node] = next[iterator[node]];
+        }
+    }
+
+    /**
+     * (거리 << NODE_BITS | 노드) 를 담는 기본형 최소 힙
+     */
+    private static final class LongHeap {
+
+        private long[] values;
+        private int size;
+
+        LongHeap(int initialCapacity) {
+            this.values = new long[Math.max(16, initialCapacity)];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (values[parent] <= value) {
+                    break;
+                }
+                values[position] = values[parent];
+                position = parent;
+            }
+            values[position] = value;
+        }
+
+        long pop() {
+            long top = values[0];
+            long last = values[--size];
+            int position = 0;
+            int half = size >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && values[child + 1] < values[child]) {
+                    child++;
+                }
+                if (values[child] >= last) {
+                    break;
+                }
+                values[position] = values[child];
+                position = child;
+            }
+            if (size > 0) {
+                values[position] = last;
+            }
+            return top;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package masil.backend.modules.adminMember.service;
+
+import masil.backend.modules.member.service.MaleCandidateSnapshot;
+import masil.backend.modules.member.service.ScoringPlan;
+import masil.backend.modules.member.service.TopKSelector;
+
+/**
+ * 가중치 프로필 변경 시뮬레이션의 여성 한 명 단위 비교와 집계입니다.
+ * 같은 후보 스냅샷에서 현재 계획과 후보 계획으로 각각 점수를 매긴 뒤
+ * 상위 3명 겹침 수, 현재 상위 K명의 순위 이동, 점수 분포를 누적합니다.
+ */
+public final class ScoringSimulation {
+
+    static final int TOP = 3;
+    static final int HISTOGRAM_BUCKETS = 10;
+
+    private ScoringSimulation() {
+    }
+
+    /**
+     * 여성 한 명의 두 계획을 비교해 totals 에 더합니다.
+     *
+     * @param eligible 반드시 충족 조건 비트셋 (가중치와 무관하므로 두 계획이 공유, null 이면 전체)
+     * @param rankWindow 순위 이동을 계산할 현재 상위 후보 수
+     */
+    public static void compare(ScoringPlan baseline, ScoringPlan candidate, MaleCandidateSnapshot candidates,
+                               long[] eligible, int rankWindow, Totals totals) {
+        int size = candidates.size();
+        double[] before = new double[size];
+        double[] after = new double[size];
+        for (int index = 0; index < size; index++) {
+            if (eligible != null && (eligible[index >>> 6] & (1L << index)) == 0) {
+                continue;
+            }
+            before[index] = baseline.score(candidates, index);
+            after[index] = candidate.score(candidates, index);
+            totals.histogramBefore[bucket(before[index])]++;
+            totals.histogramAfter[bucket(after[index])]++;
+        }
+
+        int[] topBefore = TopKSelector.select(before, eligible, Math.max(TOP, rankWindow));
+        int[] topAfter = TopKSelector.select(after, eligible, TOP);
+        totals.females++;
+        if (topBefore.length == 0) {
+            return;
+        }
+
+        int overlap = 0;
+        for (int rank = 0; rank < Math.min(TOP, topBefore.length); rank++) {
+            for (int index : topAfter) {
+                if (index == topBefore[rank]) {
+                    overlap++;
+                }
+            }
+        }
+        totals.top3Overlap[overlap]++;
+        totals.top1ScoreDeltaSum += after[topAfter[0]] - before[topBefore[0]];
+
+        // 현재 상위 후보가 새 점수에서 몇 번째인지: 자기보다 앞서는 후보 수 (동점이면 위치가 작은 쪽이 앞섬)
+        int window = Math.min(rankWindow, topBefore.length);
+        int[] newRanks = new int[window];
+        for (int index = 0; index < size; index++) {
+            if (eligible != null && (eligible[index >>> 6] & (1L << index)) == 0) {
+                continue;
+            }
+            double score = after[index];
+            for (int rank = 0; rank < window; rank++) {
+                int target = topBefore[rank];
+                if (score > after[target] || (score == after[target] && index < target)) {
+                    newRanks[rank]++;
+                }
+            }
+        }
+        for (int rank = 0; rank < window; rank++) {
+            int shift = Math.abs(newRanks[rank] - rank);
+            totals.rankShiftSum += shift;
+            totals.rankShiftCount++;
+            totals.maxRankShift = Math.max(totals.maxRankShift, shift);
+        }
+    }
+
+    private static int bucket(double score) {
+        return Math.min(HISTOGRAM_BUCKETS - 1, Math.max(0, (int) (score / (100.0 / HISTOGRAM_BUCKETS))));
+    }
+
+    /**
+     * 여성 여러 명의 비교 결과 누적값 (스레드마다 따로 쌓은 뒤 merge)
+     */
+    public static final class Totals {
+        int females;
+        final long[] top3Overlap = new long[TOP + 1];
+        double top1ScoreDeltaSum;
+        long rankShiftSum;
+        long rankShiftCount;
+        int maxRankShift;
+        final long[] histogramBefore = new long[HISTOGRAM_BUCKETS];
+        final long[] histogramAfter = new long[HISTOGRAM_BUCKETS];
+
+        public void merge(Totals other) {
+            females += other.females;
+            for (int overlap = 0; overlap <= TOP; overlap++) {
+                top3Overlap[overlap] += other.top3Overlap[overlap];
+            }
+            top1ScoreDeltaSum += other.top1ScoreDeltaSum;
+            rankShiftSum += other.rankShiftSum;
+            rankShiftCount += other.rankShiftCount;
+            maxRankShift = Math.max(maxRankShift, other.maxRankShift);
+            for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+                histogramBefore[bucket] += other.histogramBefore[bucket];
+                histogramAfter[bucket] += other.histogramAfter[bucket];
+            }
+        }
+
+        public int females() {
+            return females;
+        }
+
+        public long[] top3Overlap() {
+            return top3Overlap.clone();
+        }
+
+        public double meanTop3Overlap() {
+            long ranked = 0;
+            long sum = 0;
+            for (int overlap = 0; overlap <= TOP; overlap++) {
+                ranked += top3Overlap[overlap];
+                sum += overlap * top3Overlap[overlap];
+            }
+            return ranked == 0 ? 0.0 : (double) sum / ranked;
+        }
+
+        public double meanTop1ScoreDelta() {
+            long ranked = 0;
+            for (long count : top3Overlap) {
+                ranked += count;
+            }
+            return ranked == 0 ? 0.0 : top1ScoreDeltaSum / ranked;
+        }
+
+        public double meanRankShift() {
+            return rankShiftCount == 0 ? 0.0 : (double) rankShiftSum / rankShiftCount;
+        }
+
+        public int maxRankShift() {
+            return maxRankShift;
+        }
+
+        public long[] histogramBefore() {
+            return histogramBefore.clone();
+        }
+
+        public long[] histogramAfter() {
+            return histogramAfter.clone();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package masil.backend.modules.member.dto;
+
+import masil.backend.modules.member.enums.MatchingStatus;
+
+/**
+ * 여성 매칭 목록 화면에 표시하는 매칭 및 남성 회원 컬럼 (매칭과 남성 회원을 한 번에 조회하는 프로젝션)
+ */
+public record FemaleMatchingRow(
+        Long matchingId,
+        Long maleMemberId,
+        String maleName,
+        String maleEmail,
+        Integer height,
+        Integer weight,
+        String residenceArea,
+        String thumbnailImageUrl,
+        Integer matchingOrder,
+        MatchingStatus status
+) { }
@@ -0,0 +1,34 @@
+package masil.backend.modules.member.dto;
+
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.Region;
+import masil.backend.modules.member.enums.Religion;
+
+/**
+ * 매칭 점수 계산에 쓰이는 남성 회원 속성만 담은 프로젝션 (TEXT 컬럼 제외)
+ */
+public record MaleCandidateAttributes(
+        Long id,
+        Integer height,
+        Religion religion,
+        Education education,
+        Asset asset,
+        String mbti,
+        Region region,
+        float[] embedding
+) {
+    public static MaleCandidateAttributes from(Member member) {
+        return new MaleCandidateAttributes(
+                member.getId(),
+                member.getHeight(),
+                member.getReligion(),
+                member.getEducation(),
+                member.getAsset(),
+                member.getMbti(),
+                member.getRegion(),
+                member.getIntroductionEmbedding()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package masil.backend.modules.member.dto;
+
+/**
+ * 매칭 후보 목록 응답에 표시되는 남성 회원 정보만 담은 프로젝션 (TEXT 컬럼 제외)
+ */
+public record MaleCandidateProfile(
+        Long id,
+        String name,
+        String email,
+        Integer height,
+        Integer weight,
+        String residenceArea
+) { }
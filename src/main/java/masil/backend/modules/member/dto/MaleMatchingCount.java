@@ -0,0 +1,9 @@
+package masil.backend.modules.member.dto;
+
+/**
+ * 남성 회원별 진행 중인 매칭 수 집계 결과
+ */
+public record MaleMatchingCount(
+        Long maleMemberId,
+        Long matchingCount
+) { }
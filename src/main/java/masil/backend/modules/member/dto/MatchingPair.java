@@ -0,0 +1,9 @@
+package masil.backend.modules.member.dto;
+
+/**
+ * 과거 매칭 이력의 (여성, 남성) 회원 ID 쌍
+ */
+public record MatchingPair(
+        Long femaleMemberId,
+        Long maleMemberId
+) { }
@@ -0,0 +1,10 @@
+package masil.backend.modules.member.dto;
+
+/**
+ * 푸시 전송기에 넘기는 알림 한 건
+ */
+public record PushMessage(
+        String fcmToken,
+        String title,
+        String body
+) { }
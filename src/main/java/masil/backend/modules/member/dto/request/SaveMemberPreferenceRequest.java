@@ -122,5 +122,12 @@ public record SaveMemberPreferenceRequest(
         PreferenceCategory priority2,
 
         @NotNull(message = "3순위를 선택해주세요.")
-        PreferenceCategory priority3
+        PreferenceCategory priority3,
+
+        // 반드시 충족해야 하는 항목 (선택, 키/종교/학벌/자산만 적용)
+        List<PreferenceCategory> mustSatisfy,
+
+        // 본인 MBTI (선택)
+        @Pattern(regexp = "^[EI][NS][TF][JP]$", message = "MBTI는 ENTJ와 같은 4자리 형식이어야 합니다.")
+        String mbti
 ){}
@@ -1,6 +1,6 @@
 package masil.backend.modules.member.dto.response;
 
-import masil.backend.modules.member.entity.Matching;
+import masil.backend.modules.member.dto.FemaleMatchingRow;
 import masil.backend.modules.member.entity.MemberImage;
 import masil.backend.modules.member.enums.MatchingStatus;
 
@@ -19,21 +19,21 @@ public record FemaleMatchingListResponse(
         Integer matchingOrder,
         MatchingStatus status
 ) {
-    public static FemaleMatchingListResponse from(Matching matching, List<MemberImage> memberImages) {
+    public static FemaleMatchingListResponse from(FemaleMatchingRow row, List<MemberImage> memberImages) {
         return new FemaleMatchingListResponse(
-                matching.getId(),
-                matching.getMaleMember().getId(),
-                matching.getMaleMember().getName(),
-                matching.getMaleMember().getEmail(),
-                matching.getMaleMember().getHeight(),
-                matching.getMaleMember().getWeight(),
-                matching.getMaleMember().getResidenceArea(),
-                matching.getMaleMember().getThumbnailImageUrl(),
+                row.matchingId(),
+                row.maleMemberId(),
+                row.maleName(),
+                row.maleEmail(),
+                row.height(),
+                row.weight(),
+                row.residenceArea(),
+                row.thumbnailImageUrl(),
                 memberImages.stream()
                         .map(MemberImage::getImageUrl)
                         .toList(),
-                matching.getMatchingOrder(),
-                matching.getStatus()
+                row.matchingOrder(),
+                row.status()
         );
     }
 }
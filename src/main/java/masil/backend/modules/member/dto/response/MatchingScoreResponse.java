@@ -1,7 +1,8 @@
 package masil.backend.modules.member.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import masil.backend.modules.member.dto.MaleCandidateProfile;
 import masil.backend.modules.member.entity.Member;
-import masil.backend.modules.member.enums.MatchingStatus;
 
 import java.util.List;
 
@@ -15,7 +16,9 @@ public record MatchingScoreResponse(
         Double matchingScore,
         String scoreColor,                // 그라데이션 색상 (초록→빨강)
         String scoreLevel,                // 점수 레벨 설명
-        Integer matchingCount             // 현재 매칭된 개수
+        Integer matchingCount,            // 현재 매칭된 개수
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<ScoreComponentResponse> scoreBreakdown   // explain=true 일 때만 항목별 점수
 ) {
     /**
      * 색상과 레벨 정보를 포함한 Response 생성
@@ -31,10 +34,30 @@ public record MatchingScoreResponse(
                 score,
                 color,
                 level,
-                matchingCount
+                matchingCount,
+                null
         );
     }
     
+    /**
+     * 후보 인덱스 조회 결과(프로젝션)로 Response 생성
+     */
+    public static MatchingScoreResponse from(MaleCandidateProfile profile, Double score, String color, String level, Integer matchingCount) {
+        return new MatchingScoreResponse(
+                profile.id(),
+                profile.name(),
+                profile.email(),
+                profile.height(),
+                profile.weight(),
+                profile.residenceArea(),
+                score,
+                color,
+                level,
+                matchingCount,
+                null
+        );
+    }
+
     /**
      * 하위 호환성을 위한 기존 메서드
      */
@@ -50,7 +73,15 @@ public record MatchingScoreResponse(
                 score,
                 null,
                 null,
-                matchingCount
+                matchingCount,
+                null
+        );
+    }
+
+    public MatchingScoreResponse withScoreBreakdown(List<ScoreComponentResponse> scoreBreakdown) {
+        return new MatchingScoreResponse(
+                memberId, name, email, height, weight, residenceArea,
+                matchingScore, scoreColor, scoreLevel, matchingCount, scoreBreakdown
         );
     }
 }
\ No newline at end of file
@@ -1,8 +1,5 @@
 package masil.backend.modules.member.dto.response;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.entity.MemberImage;
 import masil.backend.modules.member.entity.MemberPreference;
@@ -10,9 +7,9 @@ import masil.backend.modules.member.enums.AppearanceStyle;
 import masil.backend.modules.member.enums.EducationLevel;
 import masil.backend.modules.member.enums.JobType;
 import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
 import masil.backend.modules.member.enums.Religion;
 
-import java.util.Collections;
 import java.util.List;
 
 public record MemberPreferenceResponse(
@@ -30,11 +27,10 @@ public record MemberPreferenceResponse(
         String mbtiN,
         String mbtiT,
         String mbtiJ,
+        List<PreferenceCategory> mustSatisfy,
         String thumbnailImageUrl,
         List<String> profileImageUrls
 ) {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     public MemberPreferenceResponse(MemberPreference preference, Member member, List<MemberImage> memberImages) {
         this(
                 preference.getPreferredHeightMin(),
@@ -45,27 +41,17 @@ public record MemberPreferenceResponse(
                 preference.getParentAssetRequirement(),
                 preference.getPreferredAssetMin(),
                 preference.getPreferredAssetMax(),
-                parseJobList(preference.getPreferredJobs()),
-                parseJobList(preference.getAvoidedJobs()),
+                List.copyOf(preference.getPreferredJobs()),
+                List.copyOf(preference.getAvoidedJobs()),
                 preference.getMbtiE(),
                 preference.getMbtiN(),
                 preference.getMbtiT(),
                 preference.getMbtiJ(),
+                PreferenceCategory.fromBitmask(preference.getMustSatisfyBitmask()),
                 member.getThumbnailImageUrl(),
                 memberImages.stream()
                         .map(MemberImage::getImageUrl)
                         .toList()
         );
     }
-
-    private static List<JobType> parseJobList(String json) {
-        if (json == null || json.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<JobType>>() {});
-        } catch (JsonProcessingException e) {
-            return Collections.emptyList();
-        }
-    }
 }
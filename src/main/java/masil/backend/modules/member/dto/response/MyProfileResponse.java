@@ -17,6 +17,7 @@ public record MyProfileResponse(
         Religion religion,
         Education education,
         Asset asset,
+        String mbti,
         String otherInfo,
         String thumbnailImageUrl,
         List<String> profileImageUrls
@@ -33,6 +34,7 @@ public record MyProfileResponse(
                 member.getReligion(),
                 member.getEducation(),
                 member.getAsset(),
+                member.getMbti(),
                 member.getOtherInfo(),
                 member.getThumbnailImageUrl(),
                 memberImages.stream()
@@ -0,0 +1,23 @@
+package masil.backend.modules.member.dto.response;
+
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.service.ScoringPlan.ScoreComponent;
+
+/**
+ * 매칭 점수 설명 (항목별 점수와 우선순위 가중치)
+ */
+public record ScoreComponentResponse(
+        PreferenceCategory category,
+        String description,
+        Double score,
+        Double weight
+) {
+    public static ScoreComponentResponse from(ScoreComponent component) {
+        return new ScoreComponentResponse(
+                component.category(),
+                component.category().getDescription(),
+                component.score(),
+                component.weight()
+        );
+    }
+}
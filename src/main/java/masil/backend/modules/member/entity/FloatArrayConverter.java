@@ -0,0 +1,34 @@
+package masil.backend.modules.member.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터(float[])를 리틀 엔디언 4바이트 값의 연속인 BLOB 으로 저장합니다.
+ */
+@Converter
+public class FloatArrayConverter implements AttributeConverter<float[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(final float[] attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(attribute.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(attribute);
+        return buffer.array();
+    }
+
+    @Override
+    public float[] convertToEntityAttribute(final byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        float[] attribute = new float[dbData.length / Float.BYTES];
+        ByteBuffer.wrap(dbData).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(attribute);
+        return attribute;
+    }
+}
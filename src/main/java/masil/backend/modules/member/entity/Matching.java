@@ -31,6 +31,11 @@ public class Matching extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private MatchingStatus status = MatchingStatus.PENDING_FEMALE_SELECTION;
+
+    // 낙관적 잠금 버전 (조건부 상태 전환 UPDATE 도 함께 올림)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
     
     @Builder
     private Matching(Member femaleMember, Member maleMember, Integer matchingOrder) {
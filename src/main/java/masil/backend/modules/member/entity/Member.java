@@ -1,10 +1,13 @@
 package masil.backend.modules.member.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 
@@ -23,7 +26,8 @@ import org.hibernate.annotations.SQLRestriction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLRestriction("is_deleted = false")
-@SQLDelete(sql = "UPDATE member SET is_deleted = true where id = ?")
+@SQLDelete(sql = "UPDATE member SET is_deleted = true where id = ? and version = ?")
+@EntityListeners(MemberEntityListener.class)
 public class Member extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -64,6 +68,11 @@ public class Member extends BaseEntity {
     @Column
     private String residenceArea;
 
+    // residenceArea 를 저장 시점에 정규화한 권역 (입력이 없으면 null, 인식할 수 없으면 UNKNOWN)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private Region region;
+
     @Enumerated(EnumType.STRING)
     @Column
     private SmokingStatus smokingStatus;
@@ -87,6 +96,15 @@ public class Member extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String otherInfo;
 
+    // 자기소개(otherInfo) 임베딩, 길이 1 로 정규화된 벡터 (자기소개가 없으면 null)
+    @Convert(converter = FloatArrayConverter.class)
+    @Column(columnDefinition = "BLOB")
+    private float[] introductionEmbedding;
+
+    // 본인 MBTI (예: "ENTJ")
+    @Column(length = 4)
+    private String mbti;
+
     @Column
     private String thumbnailImageUrl;
 
@@ -99,13 +117,19 @@ public class Member extends BaseEntity {
     @Column(length = 500)
     private String fcmToken;
 
+    // 낙관적 잠금 버전 (동시에 같은 회원 상태를 바꾸면 나중 요청이 실패)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     @Builder
     private Member(
             final Long id, final Provider provider, final String providerId,
             final String name, final String email, final String password,
             final Gender gender, final Integer height, final Integer weight, final String residenceArea,
             final SmokingStatus smokingStatus, final DrinkingFrequency drinkingFrequency, final Religion religion,
-            final Education education, final Asset asset, final String otherInfo, final String thumbnailImageUrl,
+            final Education education, final Asset asset, final String mbti, final String otherInfo,
+            final String thumbnailImageUrl,
             final String aiSummary, final String aiSummaryJp  // 추가
     ) {
         this.id = id;
@@ -120,11 +144,13 @@ public class Member extends BaseEntity {
         this.height = height;
         this.weight = weight;
         this.residenceArea = residenceArea;
+        this.region = Region.fromResidenceArea(residenceArea);
         this.smokingStatus = smokingStatus;
         this.drinkingFrequency = drinkingFrequency;
         this.religion = religion;
         this.education = education;
         this.asset = asset;
+        this.mbti = mbti;
         this.otherInfo = otherInfo;
         this.thumbnailImageUrl = thumbnailImageUrl;
         this.aiSummary = aiSummary;
@@ -142,6 +168,7 @@ public class Member extends BaseEntity {
             final Religion religion,
             final Education education,
             final Asset asset,
+            final String mbti,
             final String otherInfo,
             final String thumbnailImageUrl
     ) {
@@ -150,11 +177,13 @@ public class Member extends BaseEntity {
         this.height = height;
         this.weight = weight;
         this.residenceArea = residenceArea;
+        this.region = Region.fromResidenceArea(residenceArea);
         this.smokingStatus = smokingStatus;
         this.drinkingFrequency = drinkingFrequency;
         this.religion = religion;
         this.education = education;
         this.asset = asset;
+        this.mbti = mbti;
         this.otherInfo = otherInfo;
         this.thumbnailImageUrl = thumbnailImageUrl;
     }
@@ -167,6 +196,10 @@ public class Member extends BaseEntity {
         this.aiSummaryJp = aiSummaryJp;
     }
 
+    public void updateIntroductionEmbedding(final float[] introductionEmbedding) {
+        this.introductionEmbedding = introductionEmbedding;
+    }
+
     public void changeToConnecting() {
         this.status = MemberStatus.CONNECTING;
     }
@@ -0,0 +1,33 @@
+package masil.backend.modules.member.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import masil.backend.modules.member.service.MaleCandidateIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 프로필/상태 변경을 매칭 후보 인덱스에 전달하는 JPA 엔티티 리스너
+ * (EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 인덱스는 지연 조회)
+ */
+@Component
+public class MemberEntityListener {
+
+    private final ObjectProvider<MaleCandidateIndex> maleCandidateIndex;
+
+    public MemberEntityListener(final ObjectProvider<MaleCandidateIndex> maleCandidateIndex) {
+        this.maleCandidateIndex = maleCandidateIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(final Member member) {
+        maleCandidateIndex.ifAvailable(index -> index.stage(member, false));
+    }
+
+    @PostRemove
+    public void onRemove(final Member member) {
+        maleCandidateIndex.ifAvailable(index -> index.stage(member, true));
+    }
+}
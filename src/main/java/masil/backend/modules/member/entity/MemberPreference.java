@@ -7,9 +7,12 @@ import lombok.NoArgsConstructor;
 import masil.backend.global.base.BaseEntity;
 import masil.backend.modules.member.enums.AppearanceStyle;
 import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.JobType;
 import masil.backend.modules.member.enums.ParentAssetLevel;
 import masil.backend.modules.member.enums.PreferenceCategory;
 
+import java.util.Set;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -56,13 +59,22 @@ public class MemberPreference extends BaseEntity {
     @Column
     private Long preferredAssetMax;
 
-    // 선호 직업 (JSON 배열로 저장, 최대 3개)
-    @Column(columnDefinition = "JSON")
-    private String preferredJobs; // ["DOCTOR", "TEACHER", "ENGINEER"]
+    // 선호 직업 (JobType ordinal 비트마스킹, 최대 3개)
+    @Column
+    private Long preferredJobsBitmask;
+
+    // 비선호 직업 (JobType ordinal 비트마스킹, 최대 3개)
+    @Column
+    private Long avoidedJobsBitmask;
 
-    // 비선호 직업 (JSON 배열로 저장, 최대 3개)
-    @Column(columnDefinition = "JSON")
-    private String avoidedJobs; // ["FREELANCER", "UNEMPLOYED", "OTHER"]
+    // 이전 릴리스가 읽는 JSON 컬럼, 롤백할 수 있도록 한 릴리스 동안 비트마스크와 함께 기록 (다음 릴리스에서 삭제)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "preferred_jobs", columnDefinition = "JSON")
+    private String legacyPreferredJobs;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "avoided_jobs", columnDefinition = "JSON")
+    private String legacyAvoidedJobs;
 
     // MBTI 선호 (각 축별로 NOT NULL, 상관없으면 "X"로 표시)
     @Column(length = 1, nullable = false)
@@ -89,6 +101,10 @@ public class MemberPreference extends BaseEntity {
     @Column
     private PreferenceCategory priority3;
 
+    // 반드시 충족해야 하는 항목 (PreferenceCategory 비트마스크, 키/종교/학벌/자산만 적용)
+    @Column
+    private Integer mustSatisfyBitmask;
+
     public MemberPreference(
             Member member,
             Integer preferredHeightMin,
@@ -99,8 +115,8 @@ public class MemberPreference extends BaseEntity {
             ParentAssetLevel parentAssetRequirement,
             Long preferredAssetMin,
             Long preferredAssetMax,
-            String preferredJobs,
-            String avoidedJobs,
+            Long preferredJobsBitmask,
+            Long avoidedJobsBitmask,
             String mbtiE,
             String mbtiN,
             String mbtiT,
@@ -118,8 +134,10 @@ public class MemberPreference extends BaseEntity {
         this.parentAssetRequirement = parentAssetRequirement;
         this.preferredAssetMin = preferredAssetMin;
         this.preferredAssetMax = preferredAssetMax;
-        this.preferredJobs = preferredJobs;
-        this.avoidedJobs = avoidedJobs;
+        this.preferredJobsBitmask = preferredJobsBitmask;
+        this.avoidedJobsBitmask = avoidedJobsBitmask;
+        this.legacyPreferredJobs = JobType.toJson(preferredJobsBitmask);
+        this.legacyAvoidedJobs = JobType.toJson(avoidedJobsBitmask);
         this.mbtiE = mbtiE;
         this.mbtiN = mbtiN;
         this.mbtiT = mbtiT;
@@ -129,6 +147,18 @@ public class MemberPreference extends BaseEntity {
         this.priority3 = priority3;
     }
 
+    public Set<JobType> getPreferredJobs() {
+        return JobType.fromBitmask(preferredJobsBitmask);
+    }
+
+    public Set<JobType> getAvoidedJobs() {
+        return JobType.fromBitmask(avoidedJobsBitmask);
+    }
+
+    public void changeMustSatisfy(Integer mustSatisfyBitmask) {
+        this.mustSatisfyBitmask = mustSatisfyBitmask;
+    }
+
     public void updatePreference(
             Integer preferredHeightMin,
             Integer preferredHeightMax,
@@ -138,8 +168,8 @@ public class MemberPreference extends BaseEntity {
             ParentAssetLevel parentAssetRequirement,
             Long preferredAssetMin,
             Long preferredAssetMax,
-            String preferredJobs,
-            String avoidedJobs,
+            Long preferredJobsBitmask,
+            Long avoidedJobsBitmask,
             String mbtiE,
             String mbtiN,
             String mbtiT,
@@ -153,8 +183,10 @@ public class MemberPreference extends BaseEntity {
         this.parentAssetRequirement = parentAssetRequirement;
         this.preferredAssetMin = preferredAssetMin;
         this.preferredAssetMax = preferredAssetMax;
-        this.preferredJobs = preferredJobs;
-        this.avoidedJobs = avoidedJobs;
+        this.preferredJobsBitmask = preferredJobsBitmask;
+        this.avoidedJobsBitmask = avoidedJobsBitmask;
+        this.legacyPreferredJobs = JobType.toJson(preferredJobsBitmask);
+        this.legacyAvoidedJobs = JobType.toJson(avoidedJobsBitmask);
         this.mbtiE = mbtiE;
         this.mbtiN = mbtiN;
         this.mbtiT = mbtiT;
@@ -0,0 +1,75 @@
+package masil.backend.modules.member.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import masil.backend.global.base.BaseEntity;
+import masil.backend.modules.member.enums.PushOutboxStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송할 푸시 알림을 업무 트랜잭션과 함께 기록하는 아웃박스 행입니다.
+ * 커밋된 행만 PushOutboxDispatcher 가 읽어 전송하므로, 롤백된 요청의 알림은 전송되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "push_outbox", indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_push_outbox_claim_token", columnList = "claimToken")
+})
+public class PushOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String fcmToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushOutboxStatus status;
+
+    // 전송 시도 횟수 (재시도 대상 실패마다 1 증가)
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 전송(재시도), SENDING 이면 가져간 인스턴스의 점유 만료 시각
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막으로 가져간 전송 실행의 식별자 (가져간 행을 다시 조회하는 데 씀)
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column
+    private LocalDateTime sentAt;
+
+    @Builder
+    private PushOutbox(String fcmToken, String title, String body) {
+        this.fcmToken = fcmToken;
+        this.title = title;
+        this.body = body;
+        this.status = PushOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
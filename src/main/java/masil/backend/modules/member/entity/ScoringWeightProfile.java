@@ -0,0 +1,92 @@
+package masil.backend.modules.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import masil.backend.global.base.BaseEntity;
+
+/**
+ * 관리자가 저장한 점수 계산 가중치 프로필입니다. 같은 이름의 설정 파일 프로필보다 우선합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScoringWeightProfile extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    // 우선순위별 가중치
+    @Column(nullable = false)
+    private Double priority1Weight;
+
+    @Column(nullable = false)
+    private Double priority2Weight;
+
+    @Column(nullable = false)
+    private Double priority3Weight;
+
+    // 항목별 감점 (키 1cm, 학벌 1단계, 자산 1억 단위)
+    @Column(nullable = false)
+    private Double heightPenaltyPerCm;
+
+    @Column(nullable = false)
+    private Double educationPenaltyPerLevel;
+
+    @Column(nullable = false)
+    private Double assetAbovePenaltyPerLevel;
+
+    @Column(nullable = false)
+    private Double assetBelowPenaltyPerLevel;
+
+    // 직업 점수
+    @Column(nullable = false)
+    private Double jobPreferredScore;
+
+    @Column(nullable = false)
+    private Double jobAvoidedScore;
+
+    @Column(nullable = false)
+    private Double jobNeutralScore;
+
+    // 현재 점수 계산에 사용 중인 프로필 여부 (최대 한 개)
+    @Column(nullable = false)
+    private Boolean active;
+
+    public ScoringWeightProfile(String name) {
+        this.name = name;
+        this.active = false;
+    }
+
+    public void update(
+            Double priority1Weight,
+            Double priority2Weight,
+            Double priority3Weight,
+            Double heightPenaltyPerCm,
+            Double educationPenaltyPerLevel,
+            Double assetAbovePenaltyPerLevel,
+            Double assetBelowPenaltyPerLevel,
+            Double jobPreferredScore,
+            Double jobAvoidedScore,
+            Double jobNeutralScore
+    ) {
+        this.priority1Weight = priority1Weight;
+        this.priority2Weight = priority2Weight;
+        this.priority3Weight = priority3Weight;
+        this.heightPenaltyPerCm = heightPenaltyPerCm;
+        this.educationPenaltyPerLevel = educationPenaltyPerLevel;
+        this.assetAbovePenaltyPerLevel = assetAbovePenaltyPerLevel;
+        this.assetBelowPenaltyPerLevel = assetBelowPenaltyPerLevel;
+        this.jobPreferredScore = jobPreferredScore;
+        this.jobAvoidedScore = jobAvoidedScore;
+        this.jobNeutralScore = jobNeutralScore;
+    }
+
+    public void changeActive(boolean active) {
+        this.active = active;
+    }
+}
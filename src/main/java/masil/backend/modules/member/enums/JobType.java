@@ -3,6 +3,10 @@ package masil.backend.modules.member.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
 @Getter
 @RequiredArgsConstructor
 public enum JobType {
@@ -33,4 +37,47 @@ public enum JobType {
     OTHER("기타");
 
     private final String description;
+
+    // 직업별 비트 (ordinal 순서이므로 새 값은 항상 맨 뒤에 추가)
+    public long getBitmask() {
+        return 1L << ordinal();
+    }
+
+    // 비트마스크에서 직업 집합으로 변환
+    public static EnumSet<JobType> fromBitmask(Long bitmask) {
+        EnumSet<JobType> jobs = EnumSet.noneOf(JobType.class);
+        if (bitmask == null || bitmask == 0) {
+            return jobs;
+        }
+        for (JobType job : JobType.values()) {
+            if ((bitmask & job.getBitmask()) != 0) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    // 비트마스크를 이전 릴리스의 JSON 배열 형식(["DOCTOR","TEACHER"])으로 변환, 비어 있으면 null
+    public static String toJson(Long bitmask) {
+        EnumSet<JobType> jobs = fromBitmask(bitmask);
+        if (jobs.isEmpty()) {
+            return null;
+        }
+        return jobs.stream()
+                .map(job -> "\"" + job.name() + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    // 직업 목록을 비트마스크로 변환
+    public static Long toBitmask(Collection<JobType> jobs) {
+        if (jobs == null || jobs.isEmpty()) {
+            return 0L;
+        }
+
+        long bitmask = 0L;
+        for (JobType job : jobs) {
+            bitmask |= job.getBitmask();
+        }
+        return bitmask;
+    }
 }
@@ -1,9 +1,15 @@
 package masil.backend.modules.member.enums;
 
+import java.util.List;
+
 public enum MatchingStatus {
     PENDING_FEMALE_SELECTION,  // 여성 선택 대기
     PENDING_MALE_ACCEPTANCE,   // 남성 수락 대기
     ACCEPTED,                  // 수락됨 (채팅 시작 가능)
-    REJECTED                   // 거절됨
-}
+    REJECTED;                  // 거절됨
 
+    // 진행 중인 매칭 상태 (거절되지 않은 매칭)
+    public static List<MatchingStatus> activeStatuses() {
+        return List.of(PENDING_FEMALE_SELECTION, PENDING_MALE_ACCEPTANCE, ACCEPTED);
+    }
+}
@@ -0,0 +1,10 @@
+package masil.backend.modules.member.enums;
+
+/**
+ * 매칭 후보 순위에서 이전에 이미 매칭된 적 있는 (여성, 남성) 쌍을 다루는 방식
+ */
+public enum PastPairPolicy {
+    EXCLUDE,  // 순위에서 제외
+    DEMOTE,   // 처음 보는 후보를 모두 보여준 뒤 맨 뒤에 점수순으로 표시
+    INCLUDE   // 구분하지 않음
+}
@@ -3,6 +3,10 @@ package masil.backend.modules.member.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @Getter
 @RequiredArgsConstructor
 public enum PreferenceCategory {
@@ -13,7 +17,39 @@ public enum PreferenceCategory {
     PARENT_ASSET("부모님 자산"),
     ASSET("자산"),
     RELIGION("종교"),
-    PERSONALITY("성격");
+    PERSONALITY("성격"),
+    MBTI("MBTI"),
+    DISTANCE("거리");
 
     private final String description;
+
+    public int getBitmask() {
+        return 1 << ordinal();
+    }
+
+    // 비트마스크에서 항목 리스트로 변환
+    public static List<PreferenceCategory> fromBitmask(Integer bitmask) {
+        if (bitmask == null || bitmask == 0) {
+            return Collections.emptyList();
+        }
+        List<PreferenceCategory> categories = new ArrayList<>();
+        for (PreferenceCategory category : PreferenceCategory.values()) {
+            if ((bitmask & category.getBitmask()) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    // 항목 리스트를 비트마스크로 변환
+    public static Integer toBitmask(List<PreferenceCategory> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return 0;
+        }
+        int bitmask = 0;
+        for (PreferenceCategory category : categories) {
+            bitmask |= category.getBitmask();
+        }
+        return bitmask;
+    }
 }
@@ -0,0 +1,11 @@
+package masil.backend.modules.member.enums;
+
+/**
+ * 푸시 알림 아웃박스 행의 전송 상태
+ */
+public enum PushOutboxStatus {
+    PENDING,  // 전송 대기 (재시도 대기 포함)
+    SENDING,  // 한 인스턴스가 가져가 전송 중 (nextAttemptAt 까지 결과가 없으면 다시 가져갈 수 있음)
+    SENT,     // 전송 완료
+    FAILED    // 재시도 횟수 초과 또는 사용할 수 없는 토큰
+}
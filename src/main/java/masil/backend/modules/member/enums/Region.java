@@ -0,0 +1,66 @@
+package masil.backend.modules.member.enums;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 거주 지역(Member.residenceArea 자유 입력)을 정규화한 권역입니다.
+ * 매칭 점수는 권역 ordinal 로 RegionTravelTimes 표를 조회하므로, 새 권역은 표와 함께 맨 뒤에 추가해야 합니다.
+ */
+@Getter
+public enum Region {
+    // 한국
+    SEOUL("KR", "서울", List.of("서울", "seoul")),
+    GYEONGGI("KR", "경기·인천", List.of("경기", "인천", "수원", "성남", "고양", "용인", "부천", "안양", "gyeonggi", "incheon")),
+    GANGWON("KR", "강원", List.of("강원", "춘천", "원주", "강릉", "gangwon")),
+    CHUNGCHEONG("KR", "충청·대전·세종", List.of("충청", "충북", "충남", "대전", "세종", "청주", "천안", "chungcheong", "daejeon", "sejong")),
+    JEOLLA("KR", "전라·광주", List.of("전라", "전북", "전남", "광주", "전주", "jeolla", "gwangju")),
+    GYEONGSANG("KR", "경상·대구·울산", List.of("경상", "경북", "경남", "대구", "울산", "포항", "창원", "gyeongsang", "daegu", "ulsan")),
+    BUSAN("KR", "부산", List.of("부산", "busan")),
+    JEJU("KR", "제주", List.of("제주", "jeju")),
+
+    // 일본 (도쿄도의 "東京都" 가 교토의 "京都" 를 포함하므로 KANTO 가 KANSAI 보다 먼저 와야 함)
+    HOKKAIDO("JP", "홋카이도", List.of("北海道", "札幌", "홋카이도", "삿포로", "hokkaido", "sapporo")),
+    TOHOKU("JP", "도호쿠", List.of("東北", "宮城", "仙台", "青森", "岩手", "秋田", "山形", "福島", "도호쿠", "센다이", "tohoku", "sendai")),
+    KANTO("JP", "간토", List.of("東京", "神奈川", "横浜", "埼玉", "千葉", "茨城", "栃木", "群馬", "도쿄", "요코하마", "간토", "tokyo", "yokohama", "kanto")),
+    CHUBU("JP", "주부", List.of("中部", "愛知", "名古屋", "静岡", "新潟", "長野", "岐阜", "나고야", "주부", "nagoya", "chubu")),
+    KANSAI("JP", "간사이", List.of("関西", "大阪", "京都", "兵庫", "神戸", "奈良", "滋賀", "和歌山", "오사카", "교토", "고베", "간사이", "osaka", "kyoto", "kobe", "kansai")),
+    CHUGOKU_SHIKOKU("JP", "주고쿠·시코쿠", List.of("中国地方", "四国", "広島", "岡山", "山口", "香川", "愛媛", "徳島", "高知", "히로시마", "시코쿠", "hiroshima", "shikoku")),
+    KYUSHU("JP", "규슈", List.of("九州", "福岡", "熊本", "鹿児島", "長崎", "大分", "宮崎", "佐賀", "후쿠오카", "규슈", "fukuoka", "kyushu")),
+    OKINAWA("JP", "오키나와", List.of("沖縄", "那覇", "오키나와", "okinawa", "naha")),
+
+    // 입력은 있으나 별칭으로 인식할 수 없는 거주 지역 (이동 시간 표에 없으며 거리 점수는 기본 점수)
+    UNKNOWN(null, "미확인", List.of());
+
+    private final String country;
+    private final String displayName;
+    private final List<String> aliases;
+
+    Region(String country, String displayName, List<String> aliases) {
+        this.country = country;
+        this.displayName = displayName;
+        this.aliases = aliases;
+    }
+
+    /**
+     * 자유 입력 거주 지역을 권역으로 변환합니다. 선언 순서대로 별칭을 포함하는 첫 권역을 반환하며,
+     * 입력이 비어 있으면 null, 인식할 수 있는 별칭이 없으면 UNKNOWN 입니다.
+     * 회원 저장 시에만 호출하며, 점수 계산 시에는 문자열을 다루지 않습니다.
+     */
+    public static Region fromResidenceArea(String residenceArea) {
+        if (residenceArea == null || residenceArea.isBlank()) {
+            return null;
+        }
+        String normalized = residenceArea.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        for (Region region : values()) {
+            for (String alias : region.aliases) {
+                if (normalized.contains(alias)) {
+                    return region;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -19,7 +19,9 @@ public enum MemberExceptionType implements BaseExceptionType {
     EMAIL_CODE_DOES_NOT_EXISTS(HttpStatus.BAD_REQUEST, "이메일 인증 코드가 존재하지 않습니다. 인증 코드를 재발송해주세요."),
 
     MEMBER_PREFERENCES_NOT_FOUND(HttpStatus.NOT_FOUND, "저장된 선호 정보가 없습니다."),
-    MEMBER_PRIORITY_DUPLICATE_ERROR(HttpStatus.BAD_REQUEST, "우선순위는 중복될 수 없습니다.")
+    MEMBER_PRIORITY_DUPLICATE_ERROR(HttpStatus.BAD_REQUEST, "우선순위는 중복될 수 없습니다."),
+
+    MATCHING_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 매칭입니다. 매칭 상태를 다시 확인해주세요.")
     ;
 
     private final HttpStatus httpStatus;
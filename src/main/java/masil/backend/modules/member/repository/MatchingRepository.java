@@ -1,11 +1,16 @@
 package masil.backend.modules.member.repository;
 
+import masil.backend.modules.member.dto.FemaleMatchingRow;
+import masil.backend.modules.member.dto.MaleMatchingCount;
+import masil.backend.modules.member.dto.MatchingPair;
 import masil.backend.modules.member.entity.Matching;
 import masil.backend.modules.member.enums.MatchingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,22 @@ public interface MatchingRepository extends JpaRepository<Matching, Long> {
     // 특정 남성이 포함된 매칭 조회
     List<Matching> findByMaleMemberId(Long maleMemberId);
     
+    // 남성 회원별 매칭 수를 한 번에 집계
+    @Query("SELECT new masil.backend.modules.member.dto.MaleMatchingCount(m.maleMember.id, COUNT(m)) " +
+           "FROM Matching m WHERE m.maleMember.id IN :maleMemberIds AND m.status IN :statuses " +
+           "GROUP BY m.maleMember.id")
+    List<MaleMatchingCount> countByMaleMemberIdInAndStatusIn(@Param("maleMemberIds") Collection<Long> maleMemberIds,
+                                                             @Param("statuses") Collection<MatchingStatus> statuses);
+
+    // 전체 남성 회원별 매칭 수 집계 (자동 배정 시 남성별 남은 수용 인원 계산용)
+    @Query("SELECT new masil.backend.modules.member.dto.MaleMatchingCount(m.maleMember.id, COUNT(m)) " +
+           "FROM Matching m WHERE m.status IN :statuses GROUP BY m.maleMember.id")
+    List<MaleMatchingCount> countByStatusInGroupByMaleMemberId(@Param("statuses") Collection<MatchingStatus> statuses);
+    
+    // 전체 매칭 이력의 (여성, 남성) 쌍 (상태 무관, 과거 매칭 쌍 인덱스 적재용)
+    @Query("SELECT new masil.backend.modules.member.dto.MatchingPair(m.femaleMember.id, m.maleMember.id) FROM Matching m")
+    List<MatchingPair> findAllPairs();
+
     // 특정 여성과 남성의 매칭 조회
     Optional<Matching> findByFemaleMemberIdAndMaleMemberId(Long femaleMemberId, Long maleMemberId);
     
@@ -46,4 +67,40 @@ public interface MatchingRepository extends JpaRepository<Matching, Long> {
     List<Matching> findByFemaleMemberIdAndStatusIn(@Param("femaleMemberId") Long femaleMemberId, 
                                                     @Param("statuses") List<MatchingStatus> statuses);
 
+    // 현재 상태가 expected 인 경우에만 next 로 전환 (변경된 행 수 반환, 0 이면 다른 요청이 먼저 전환함)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Matching m SET m.status = :next, m.version = m.version + 1 " +
+           "WHERE m.id = :matchingId AND m.status = :expected")
+    int compareAndSetStatus(@Param("matchingId") Long matchingId,
+                            @Param("expected") MatchingStatus expected,
+                            @Param("next") MatchingStatus next);
+
+    // 여성의 지정 상태 매칭을 한 번에 거절 (exceptMatchingId 가 있으면 해당 매칭 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Matching m SET m.status = masil.backend.modules.member.enums.MatchingStatus.REJECTED, " +
+           "m.version = m.version + 1 " +
+           "WHERE m.femaleMember.id = :femaleMemberId AND m.status IN :statuses " +
+           "AND (:exceptMatchingId IS NULL OR m.id <> :exceptMatchingId)")
+    int rejectByFemaleMemberId(@Param("femaleMemberId") Long femaleMemberId,
+                               @Param("statuses") Collection<MatchingStatus> statuses,
+                               @Param("exceptMatchingId") Long exceptMatchingId);
+
+    // 남성의 지정 상태 매칭을 한 번에 거절 (exceptMatchingId 가 있으면 해당 매칭 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Matching m SET m.status = masil.backend.modules.member.enums.MatchingStatus.REJECTED, " +
+           "m.version = m.version + 1 " +
+           "WHERE m.maleMember.id = :maleMemberId AND m.status IN :statuses " +
+           "AND (:exceptMatchingId IS NULL OR m.id <> :exceptMatchingId)")
+    int rejectByMaleMemberId(@Param("maleMemberId") Long maleMemberId,
+                             @Param("statuses") Collection<MatchingStatus> statuses,
+                             @Param("exceptMatchingId") Long exceptMatchingId);
+
+    // 특정 여성의 매칭 목록 화면용 프로젝션 (남성 회원 컬럼을 조인하여 쿼리 한 번으로 조회)
+    @Query("SELECT new masil.backend.modules.member.dto.FemaleMatchingRow(m.id, male.id, male.name, male.email, " +
+           "male.height, male.weight, male.residenceArea, male.thumbnailImageUrl, m.matchingOrder, m.status) " +
+           "FROM Matching m JOIN m.maleMember male " +
+           "WHERE m.femaleMember.id = :femaleMemberId AND m.status IN :statuses ORDER BY m.matchingOrder")
+    List<FemaleMatchingRow> findFemaleMatchingRows(@Param("femaleMemberId") Long femaleMemberId,
+                                                   @Param("statuses") Collection<MatchingStatus> statuses);
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package masil.backend.modules.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import masil.backend.modules.member.entity.MemberImage;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,4 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface MemberImageRepository extends JpaRepository<MemberImage, Long> {
     void deleteByMemberId(Long memberId);
     List<MemberImage> findByMemberIdOrderByDisplayOrder(Long memberId);
+
+    // 여러 회원의 이미지를 한 번에 조회 (목록 화면용)
+    List<MemberImage> findByMemberIdInOrderByMemberIdAscDisplayOrderAsc(Collection<Long> memberIds);
 }
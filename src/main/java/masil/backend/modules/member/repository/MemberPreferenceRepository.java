@@ -4,6 +4,8 @@ import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.entity.MemberPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberPreferenceRepository extends JpaRepository<MemberPreference, Long> {
@@ -12,4 +14,6 @@ public interface MemberPreferenceRepository extends JpaRepository<MemberPreferen
     Optional<MemberPreference> findByMemberId(Long memberId);
 
     boolean existsByMemberId(Long memberId);
+
+    List<MemberPreference> findByMemberIdIn(Collection<Long> memberIds);
 }
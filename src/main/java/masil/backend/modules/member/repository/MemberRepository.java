@@ -1,13 +1,20 @@
 package masil.backend.modules.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.dto.MaleCandidateProfile;
 import masil.backend.modules.member.entity.*;
 import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MatchingStatus;
 import masil.backend.modules.member.enums.MemberStatus;
 import masil.backend.modules.member.enums.Provider;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +24,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Boolean existsByEmail(final String email);
 
     Optional<Member> findByEmailAndProvider(String email, Provider provider);
+
+    // 비동기 작업이 회원을 고치기 전에 행을 잠가, 같은 회원을 고치는 다른 작업은 커밋까지 기다리게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id = :memberId")
+    Optional<Member> findByIdForUpdate(@Param("memberId") Long memberId);
     
     List<Member> findByStatus(MemberStatus status);
     //단일 상태 조회
@@ -24,8 +36,52 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     //여러 상태 조회
     List<Member> findByGenderAndStatusIn(Gender gender, List<MemberStatus> statuses);
 
+    //매칭 점수 계산용 속성만 조회
+    @Query("SELECT new masil.backend.modules.member.dto.MaleCandidateAttributes(" +
+           "m.id, m.height, m.religion, m.education, m.asset, m.mbti, m.region, m.introductionEmbedding) " +
+           "FROM Member m WHERE m.gender = :gender AND m.status IN :statuses")
+    List<MaleCandidateAttributes> findCandidateAttributes(@Param("gender") Gender gender,
+                                                          @Param("statuses") Collection<MemberStatus> statuses);
+
+    @Query("SELECT new masil.backend.modules.member.dto.MaleCandidateAttributes(" +
+           "m.id, m.height, m.religion, m.education, m.asset, m.mbti, m.region, m.introductionEmbedding) " +
+           "FROM Member m WHERE m.id IN :ids AND m.gender = :gender AND m.status IN :statuses")
+    List<MaleCandidateAttributes> findCandidateAttributesByIdIn(@Param("ids") Collection<Long> ids,
+                                                                @Param("gender") Gender gender,
+                                                                @Param("statuses") Collection<MemberStatus> statuses);
+
+    //매칭 후보 목록 표시용 정보만 조회
+    @Query("SELECT new masil.backend.modules.member.dto.MaleCandidateProfile(" +
+           "m.id, m.name, m.email, m.height, m.weight, m.residenceArea) " +
+           "FROM Member m WHERE m.id IN :ids")
+    List<MaleCandidateProfile> findCandidateProfilesByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT m FROM Member m WHERE m.status = :status " +
            "AND (m.name LIKE %:keyword% OR m.email LIKE %:keyword%)")
     List<Member> findByStatusAndKeyword(@Param("status") MemberStatus status, 
                                          @Param("keyword") String keyword);
+
+    // 여성의 매칭(matchingStatuses, exceptMatchingId 제외) 상대 남성 중 from 상태인 회원을 한 번에 to 로 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.status = :to, m.version = m.version + 1 " +
+           "WHERE m.status = :from AND m.id IN (SELECT mt.maleMember.id FROM Matching mt " +
+           "WHERE mt.femaleMember.id = :femaleMemberId AND mt.status IN :matchingStatuses " +
+           "AND (:exceptMatchingId IS NULL OR mt.id <> :exceptMatchingId))")
+    int changeStatusOfMatchedMales(@Param("femaleMemberId") Long femaleMemberId,
+                                   @Param("matchingStatuses") Collection<MatchingStatus> matchingStatuses,
+                                   @Param("exceptMatchingId") Long exceptMatchingId,
+                                   @Param("from") MemberStatus from,
+                                   @Param("to") MemberStatus to);
+
+    // 남성의 매칭(matchingStatuses, exceptMatchingId 제외) 상대 여성 중 from 상태인 회원을 한 번에 to 로 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.status = :to, m.version = m.version + 1 " +
+           "WHERE m.status = :from AND m.id IN (SELECT mt.femaleMember.id FROM Matching mt " +
+           "WHERE mt.maleMember.id = :maleMemberId AND mt.status IN :matchingStatuses " +
+           "AND (:exceptMatchingId IS NULL OR mt.id <> :exceptMatchingId))")
+    int changeStatusOfMatchedFemales(@Param("maleMemberId") Long maleMemberId,
+                                     @Param("matchingStatuses") Collection<MatchingStatus> matchingStatuses,
+                                     @Param("exceptMatchingId") Long exceptMatchingId,
+                                     @Param("from") MemberStatus from,
+                                     @Param("to") MemberStatus to);
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package masil.backend.modules.member.repository;
+
+import masil.backend.modules.member.entity.PushOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    // 가져갈 후보: 전송할 때가 된 대기 알림과 점유가 만료된 전송 중 알림의 ID
+    @Query("SELECT o.id FROM PushOutbox o " +
+           "WHERE o.status IN (masil.backend.modules.member.enums.PushOutboxStatus.PENDING, " +
+           "masil.backend.modules.member.enums.PushOutboxStatus.SENDING) " +
+           "AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 후보 중 아직 아무도 가져가지 않은 행만 SENDING 으로 바꿔 점유
+    // (조건부 UPDATE 는 행 잠금을 잡고 최신 값으로 조건을 다시 확인하므로, 동시에 실행한 다른 인스턴스와 겹치지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PushOutbox o SET o.status = masil.backend.modules.member.enums.PushOutboxStatus.SENDING, " +
+           "o.claimToken = :claimToken, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.id IN :ids " +
+           "AND o.status IN (masil.backend.modules.member.enums.PushOutboxStatus.PENDING, " +
+           "masil.backend.modules.member.enums.PushOutboxStatus.SENDING) " +
+           "AND o.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 이번 실행이 점유한 알림을 기록 순서대로 조회
+    List<PushOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    // 전송 완료 처리
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = masil.backend.modules.member.enums.PushOutboxStatus.SENT, " +
+           "o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 재시도 예약, 시도 횟수가 maxAttempts 에 도달하면 실패 처리
+    // (MySQL 은 SET 을 왼쪽부터 적용하므로 attempts 증가보다 status 를 먼저 계산)
+    @Modifying
+    @Query("UPDATE PushOutbox o SET " +
+           "o.status = CASE WHEN o.attempts + 1 >= :maxAttempts " +
+           "THEN masil.backend.modules.member.enums.PushOutboxStatus.FAILED " +
+           "ELSE masil.backend.modules.member.enums.PushOutboxStatus.PENDING END, " +
+           "o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int markRetry(@Param("ids") Collection<Long> ids,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 다시 보내도 실패하는 알림(만료되거나 잘못된 토큰)을 바로 실패 처리
+    @Modifying
+    @Query("UPDATE PushOutbox o SET o.status = masil.backend.modules.member.enums.PushOutboxStatus.FAILED, " +
+           "o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids);
+
+    // 보관 기간이 지난 완료/실패 알림 삭제 (FCM 토큰을 오래 남기지 않도록)
+    // 완료/실패 행의 nextAttemptAt 은 마지막 시도 시각 근처이므로 그 기준으로 지움
+    @Modifying
+    @Query("DELETE FROM PushOutbox o " +
+           "WHERE o.status IN (masil.backend.modules.member.enums.PushOutboxStatus.SENT, " +
+           "masil.backend.modules.member.enums.PushOutboxStatus.FAILED) " +
+           "AND o.nextAttemptAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package masil.backend.modules.member.repository;
+
+import masil.backend.modules.member.entity.ScoringWeightProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ScoringWeightProfileRepository extends JpaRepository<ScoringWeightProfile, Long> {
+    Optional<ScoringWeightProfile> findByName(String name);
+
+    List<ScoringWeightProfile> findByActiveTrue();
+}
@@ -0,0 +1,136 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.Religion;
+
+/**
+ * 후보 스냅샷의 속성별 비트셋입니다. (비트 i = 스냅샷의 i 번째 행)
+ * 종교·학력·자산은 값(ordinal + 1, 0번 칸은 정보 없음)마다, 키는 HEIGHT_BUCKET_CM 단위 구간마다 비트셋을 둡니다.
+ * 반드시 충족해야 하는 조건은 허용 값의 비트셋을 OR 한 뒤 항목끼리 AND 하여 점수 계산 전에 후보를 걸러냅니다.
+ */
+public final class CandidateBitmaps {
+
+    static final int HEIGHT_BUCKET_CM = 5;
+    private static final int HEIGHT_BUCKETS = ScoringPlan.HEIGHT_TABLE_MAX_CM / HEIGHT_BUCKET_CM + 1;
+
+    private final MaleCandidateSnapshot candidates;
+    private final int words;
+    private final long[][] religions;
+    private final long[][] educations;
+    private final long[][] assets;
+    // 마지막 칸은 테이블 범위(0 ~ HEIGHT_TABLE_MAX_CM) 밖의 키
+    private final long[][] heightBuckets;
+
+    CandidateBitmaps(MaleCandidateSnapshot candidates) {
+        this.candidates = candidates;
+        this.words = (candidates.size() + 63) >>> 6;
+        this.religions = new long[Religion.values().length + 1][words];
+        this.educations = new long[Education.values().length + 1][words];
+        this.assets = new long[Asset.values().length + 1][words];
+        this.heightBuckets = new long[HEIGHT_BUCKETS + 1][words];
+
+        for (int index = 0; index < candidates.size(); index++) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            religions[candidates.religion(index) + 1][word] |= bit;
+            educations[candidates.education(index) + 1][word] |= bit;
+            assets[candidates.asset(index) + 1][word] |= bit;
+            int height = candidates.height(index);
+            if (height != ScoringPlan.NO_VALUE) {
+                heightBuckets[heightBucket(height)][word] |= bit;
+            }
+        }
+    }
+
+    public long[] all() {
+        long[] all = new long[words];
+        int size = candidates.size();
+        for (int word = 0; word < words; word++) {
+            int remaining = size - (word << 6);
+            all[word] = remaining >= 64 ? -1L : (1L << remaining) - 1;
+        }
+        return all;
+    }
+
+    /**
+     * 허용된 종교 칸(ordinal + 1)에 해당하는 후보만 남깁니다.
+     */
+    void retainReligions(long[] target, boolean[] allowedSlots) {
+        retain(target, religions, allowedSlots);
+    }
+
+    void retainEducations(long[] target, boolean[] allowedSlots) {
+        retain(target, educations, allowedSlots);
+    }
+
+    void retainAssets(long[] target, boolean[] allowedSlots) {
+        retain(target, assets, allowedSlots);
+    }
+
+    /**
+     * 키가 [min, max] 안인 후보만 남깁니다.
+     * 구간 전체가 범위 안이면 비트셋을 그대로 쓰고, 경계 구간만 실제 키를 확인합니다.
+     */
+    void retainHeightRange(long[] target, int min, int max) {
+        long[] allowed = new long[words];
+        if (min <= max) {
+            int fromBucket = heightBucket(Math.max(0, min));
+            int toBucket = heightBucket(max);
+            for (int bucket = fromBucket; bucket <= toBucket; bucket++) {
+                boolean exact = bucket == HEIGHT_BUCKETS
+                        || bucket * HEIGHT_BUCKET_CM < min
+                        || (bucket + 1) * HEIGHT_BUCKET_CM - 1 > max;
+                if (exact) {
+                    orInRange(allowed, heightBuckets[bucket], min, max);
+                } else {
+                    or(allowed, heightBuckets[bucket]);
+                }
+            }
+        }
+        and(target, allowed);
+    }
+
+    private void retain(long[] target, long[][] slots, boolean[] allowedSlots) {
+        long[] allowed = new long[words];
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (allowedSlots[slot]) {
+                or(allowed, slots[slot]);
+            }
+        }
+        and(target, allowed);
+    }
+
+    private void orInRange(long[] target, long[] bucket, int min, int max) {
+        for (int word = 0; word < words; word++) {
+            long bits = bucket[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                int height = candidates.height(index);
+                if (height >= min && height <= max) {
+                    target[word] |= 1L << index;
+                }
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private static int heightBucket(int height) {
+        if (height < 0 || height > ScoringPlan.HEIGHT_TABLE_MAX_CM) {
+            return HEIGHT_BUCKETS;
+        }
+        return height / HEIGHT_BUCKET_CM;
+    }
+
+    private static void or(long[] target, long[] source) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] |= source[word];
+        }
+    }
+
+    private static void and(long[] target, long[] source) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= source[word];
+        }
+    }
+}
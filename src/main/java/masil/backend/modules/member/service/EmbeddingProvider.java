@@ -0,0 +1,28 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 자기소개 문장을 임베딩 벡터로 바꾸는 제공자입니다.
+ * 외부 임베딩 API 로 바꿀 수 있도록 인터페이스로 두며, 설정하지 않으면 임베딩을 만들지 않는 NoOpEmbeddingProvider 가 쓰입니다.
+ * (HashingEmbeddingProvider 는 표현의 겹침만 반영하므로 테스트와 벤치마크에서만 사용)
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * 제공자가 만드는 벡터의 차원 수
+     */
+    int dimension();
+
+    /**
+     * 길이 1 로 정규화한 임베딩을 반환합니다. 문장이 비어 있으면 null 입니다.
+     * 같은 문장에는 항상 같은 벡터를 반환해야 합니다. (저장된 벡터와 새로 만든 벡터를 비교하므로)
+     */
+    float[] embed(String text);
+
+    /**
+     * 저장된 임베딩이 이 제공자가 만든 것과 같은 차원이면 그대로, 아니면 null 을 반환합니다.
+     * 제공자를 끄거나 바꾸기 전에 저장된 벡터가 성격 점수에 섞이지 않게 합니다.
+     */
+    default float[] compatible(float[] embedding) {
+        return embedding != null && dimension() > 0 && embedding.length == dimension() ? embedding : null;
+    }
+}
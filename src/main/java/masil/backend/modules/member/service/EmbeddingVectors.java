@@ -0,0 +1,42 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 임베딩 벡터 계산 도우미입니다. 모든 벡터는 길이 1 로 정규화되어 있으므로 내적이 곧 코사인 유사도입니다.
+ */
+public final class EmbeddingVectors {
+
+    private EmbeddingVectors() {
+    }
+
+    public static double dot(float[] left, float[] right) {
+        double sum = 0.0;
+        for (int i = 0; i < left.length; i++) {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+
+    // 평평하게 이어 붙인 벡터 배열(vectors)의 row 번째 벡터와의 내적
+    static double dot(float[] query, float[] vectors, int row) {
+        int offset = row * query.length;
+        double sum = 0.0;
+        for (int i = 0; i < query.length; i++) {
+            sum += query[i] * vectors[offset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * 길이 1 로 정규화합니다. 영벡터면 false 를 반환하고 값은 그대로 둡니다.
+     */
+    static boolean normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0.0) {
+            return false;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (vector[i] / norm);
+        }
+        return true;
+    }
+}
@@ -1,34 +1,98 @@
 package masil.backend.modules.member.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.entity.PushOutbox;
+import masil.backend.modules.member.repository.PushOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmService {
 
+    private final PushOutboxRepository pushOutboxRepository;
+
+    // 일시적 실패 시 최대 시도 횟수, 초과하면 FAILED
+    @Value("${push.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 일시적 실패 후 다시 시도하기까지의 대기 시간
+    @Value("${push.outbox.retry-delay-ms:30000}")
+    private long retryDelayMillis;
+
+    // 가져간 알림의 점유 시간, 이 시간 안에 결과가 반영되지 않으면(인스턴스 중단 등) 다른 실행이 다시 가져감
+    @Value("${push.outbox.claim-timeout-ms:300000}")
+    private long claimTimeoutMillis;
+
+    /**
+     * 푸시 알림을 아웃박스에 기록합니다. 호출한 트랜잭션과 함께 커밋되며, 실제 전송은 커밋 후 PushOutboxDispatcher 가 묶어서 합니다.
+     * 롤백되면 알림도 남지 않고, FCM 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않습니다.
+     */
+    @Transactional
     public void sendPushNotification(String fcmToken, String title, String body) {
         if (fcmToken == null || fcmToken.isBlank()) {
             return;
         }
 
-        try {
-            Message message = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                    .build();
-
-            FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
-            log.error("푸시 알림 전송 실패: fcmToken={}, error={}", fcmToken, e.getMessage());
+        pushOutboxRepository.save(PushOutbox.builder()
+                .fcmToken(fcmToken)
+                .title(title)
+                .body(body)
+                .build());
+    }
+
+    /**
+     * 전송할 때가 된 알림을 최대 limit 건 점유(SENDING)하고, 이번 실행이 실제로 점유한 행만 반환합니다.
+     * 여러 인스턴스가 동시에 실행해도 같은 행은 한 실행만 가져갑니다.
+     */
+    @Transactional
+    public List<PushOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidateIds = pushOutboxRepository.findClaimableIds(now, PageRequest.of(0, limit));
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        if (pushOutboxRepository.claim(candidateIds, claimToken, now,
+                now.plus(Duration.ofMillis(claimTimeoutMillis))) == 0) {
+            return List.of();
         }
+        return pushOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    /**
+     * 일괄 전송 결과를 아웃박스에 반영합니다. (결과별 UPDATE 한 번씩)
+     */
+    @Transactional
+    public void recordResults(Collection<Long> sentIds, Collection<Long> retryIds, Collection<Long> rejectedIds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            pushOutboxRepository.markSent(sentIds, now);
+        }
+        if (!retryIds.isEmpty()) {
+            pushOutboxRepository.markRetry(retryIds, maxAttempts, now.plus(Duration.ofMillis(retryDelayMillis)));
+        }
+        if (!rejectedIds.isEmpty()) {
+            pushOutboxRepository.markFailed(rejectedIds);
+            log.warn("사용할 수 없는 FCM 토큰으로 알림 전송 실패: outboxIds={}", rejectedIds);
+        }
+    }
+
+    /**
+     * 마지막 시도가 before 이전인 완료/실패 알림을 삭제하고 삭제한 건수를 반환합니다.
+     */
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime before) {
+        return pushOutboxRepository.deleteFinishedBefore(before);
     }
 }
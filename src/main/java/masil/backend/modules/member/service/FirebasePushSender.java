@@ -0,0 +1,59 @@
+package masil.backend.modules.member.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.PushMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FCM sendEach 로 최대 500건을 한 번의 요청으로 전송합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+
+    @Override
+    public List<Result> sendEach(List<PushMessage> messages) {
+        List<Message> fcmMessages = messages.stream()
+                .map(message -> Message.builder()
+                        .setToken(message.fcmToken())
+                        .setNotification(Notification.builder()
+                                .setTitle(message.title())
+                                .setBody(message.body())
+                                .build())
+                        .build())
+                .toList();
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(fcmMessages);
+            return response.getResponses().stream()
+                    .map(FirebasePushSender::result)
+                    .toList();
+        } catch (FirebaseMessagingException | IllegalStateException e) {
+            // 요청 전체가 실패(인증, 네트워크, Firebase 미초기화)하면 모두 나중에 다시 시도
+            log.error("푸시 알림 일괄 전송 실패: 건수={}, error={}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), Result.RETRY);
+        }
+    }
+
+    private static Result result(SendResponse response) {
+        if (response.isSuccessful()) {
+            return Result.SENT;
+        }
+        MessagingErrorCode errorCode = response.getException().getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+            return Result.REJECTED;
+        }
+        return Result.RETRY;
+    }
+}
@@ -0,0 +1,67 @@
+package masil.backend.modules.member.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 외부 호출 없이 자기소개의 글자 2-gram, 3-gram 을 부호 있는 특징 해싱으로 고정 차원 벡터에 누적하는 임베딩입니다.
+ * 띄어쓰기가 없는 일본어도 같은 방식으로 처리되며, 같은 문장에는 항상 같은 벡터를 만듭니다.
+ * 의미가 아닌 표현의 겹침만 반영하므로 테스트와 벤치마크용 구현이며, 운영에서는 켜지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "matching.embedding.provider", havingValue = "hashing")
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final int dimension;
+
+    public HashingEmbeddingProvider(@Value("${matching.embedding.dimension:256}") int dimension) {
+        if (dimension < 1) {
+            throw new IllegalArgumentException("임베딩 차원은 1 이상이어야 합니다.");
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        int[] codePoints = text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT).codePoints().toArray();
+
+        float[] vector = new float[dimension];
+        // 한 글자짜리 소개도 비교할 수 있도록 글자 수보다 긴 n-gram 은 글자 수로 줄임
+        int minGram = Math.min(MIN_GRAM, codePoints.length);
+        for (int gram = minGram; gram <= MAX_GRAM; gram++) {
+            for (int from = 0; from + gram <= codePoints.length; from++) {
+                int hash = hash(codePoints, from, gram);
+                // 아래쪽 비트로 칸을, 맨 위 비트로 부호를 정해 서로 다른 n-gram 의 충돌이 평균적으로 상쇄되도록 함
+                vector[Math.floorMod(hash, dimension)] += hash < 0 ? -1.0f : 1.0f;
+            }
+        }
+        return EmbeddingVectors.normalize(vector) ? vector : null;
+    }
+
+    // FNV-1a 후 비트를 섞어 칸과 부호가 서로 독립적이 되도록 함
+    private static int hash(int[] codePoints, int from, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = from; i < from + length; i++) {
+            hash ^= codePoints[i];
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,103 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.entity.FloatArrayConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * introduction_embedding 컬럼 추가 전에 자기소개를 저장한 회원의 임베딩을 채우는 보정 작업입니다.
+ * 새로 저장되는 자기소개는 MemberEmbeddingService 가 임베딩하므로, 임베딩이 비어 있는 기존 행만 대상입니다.
+ * 기동을 막지 않도록 비동기로 실행하며, 회원 ID 순으로 batchSize 행씩 읽어 임베딩하고 저장합니다.
+ * 읽은 뒤 MemberEmbeddingService 가 먼저 임베딩을 기록한 행은 덮어쓰지 않고, 기록한 행은 @Version 을 올려
+ * 그 사이 회원을 읽어 둔 트랜잭션이 임베딩을 되돌리지 못하게 합니다.
+ * 임베딩 제공자가 꺼져 있으면(none) 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntroductionEmbeddingBackfill {
+
+    private static final String SELECT_MISSING_ROWS = """
+            SELECT id, other_info
+            FROM member
+            WHERE id > ? AND introduction_embedding IS NULL AND other_info IS NOT NULL AND other_info <> ''
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_EMBEDDING = """
+            UPDATE member
+            SET introduction_embedding = ?, version = version + 1
+            WHERE id = ? AND introduction_embedding IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmbeddingProvider embeddingProvider;
+    private final ScoringPlanCache scoringPlanCache;
+    private final MaleCandidateIndex maleCandidateIndex;
+
+    private final FloatArrayConverter converter = new FloatArrayConverter();
+
+    // 한 번에 읽고 저장할 행 수
+    @Value("${matching.embedding.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (embeddingProvider.dimension() == 0) {
+            return;
+        }
+
+        long lastId = 0L;
+        int filled = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_MISSING_ROWS, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> memberIds = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                long memberId = ((Number) row.get("id")).longValue();
+                lastId = memberId;
+                float[] embedding = embeddingProvider.embed((String) row.get("other_info"));
+                if (embedding != null) {
+                    updates.add(new Object[]{converter.convertToDatabaseColumn(embedding), memberId});
+                    memberIds.add(memberId);
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_EMBEDDING, updates);
+                List<Long> updatedIds = new ArrayList<>();
+                for (int i = 0; i < counts.length; i++) {
+                    // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 를 돌려주므로 기록된 것으로 봄
+                    if (counts[i] != 0) {
+                        updatedIds.add(memberIds.get(i));
+                    }
+                }
+                // 임베딩 없이 컴파일된 계획과 적재된 후보 행이 있을 수 있으므로 다시 읽게 함
+                updatedIds.forEach(scoringPlanCache::evict);
+                maleCandidateIndex.refresh(updatedIds);
+                filled += updatedIds.size();
+            }
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        if (filled > 0) {
+            log.info("자기소개 임베딩 보정 완료 - {}건", filled);
+        }
+    }
+}
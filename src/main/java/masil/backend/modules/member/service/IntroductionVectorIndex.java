@@ -0,0 +1,102 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 매칭 후보 남성의 자기소개 임베딩에 대한 근사 최근접 이웃 색인(IvfIndex)을 관리합니다.
+ * 첫 조회 시 후보 인덱스 스냅샷에서 한 번 만들고, 이후에는 남성 변경 이벤트마다 바뀐 회원만 목록에서 옮깁니다.
+ * 마지막으로 만든 뒤 바뀐 회원이 많아지면 중심점이 분포와 어긋나므로 버리고 다음 조회 때 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntroductionVectorIndex {
+
+    // 색인 크기 대비 이 비율보다 많이 바뀌면 다시 만듦
+    private static final double REBUILD_CHANGE_RATIO = 0.2;
+
+    private final MaleCandidateIndex maleCandidateIndex;
+    private final EmbeddingProvider embeddingProvider;
+
+    // 질의 시 비교할 목록 수 (목록 수는 약 √후보 수)
+    @Value("${matching.embedding.ivf.probes:8}")
+    private int probes;
+
+    private volatile State state;
+
+    /**
+     * 자기소개 임베딩이 질의와 가까운 남성 후보를 최대 k 명, 유사도 내림차순으로 반환합니다.
+     */
+    public List<Neighbor> nearest(float[] query, int k) {
+        if (query == null || query.length != embeddingProvider.dimension()) {
+            return List.of();
+        }
+        MaleCandidateSnapshot candidates = maleCandidateIndex.getSnapshot();
+        State current = state;
+        if (current == null || current.version() < candidates.version()) {
+            current = advance(candidates, true);
+        }
+        return current.index().nearest(query, k, probes);
+    }
+
+    /**
+     * 남성 회원 변경이 후보 인덱스에 반영되면 바뀐 회원만 색인에 반영합니다. (아직 만들기 전이면 무시)
+     * 후보 변경 전용 스레드에서 실행하며, 다시 만들어야 하면 여기서 만들지 않고 버려 두어 다음 조회 때 만듭니다.
+     */
+    @Async("candidateChangeExecutor")
+    @EventListener
+    public void onMaleCandidatesChanged(MaleCandidatesChangedEvent event) {
+        if (state != null) {
+            advance(event.snapshot(), false);
+        }
+    }
+
+    // 바뀐 회원만 옮길 수 있으면 옮기고, 아니면 rebuild 일 때만 새로 만듦 (아니면 버리고 null)
+    private synchronized State advance(MaleCandidateSnapshot candidates, boolean rebuild) {
+        State current = state;
+        if (current != null && current.version() >= candidates.version()) {
+            return current;
+        }
+        if (current != null) {
+            long[] changedIds = maleCandidateIndex.changedBetween(current.version(), candidates.version());
+            int changes = current.changes() + (changedIds != null ? changedIds.length : 0);
+            if (changedIds != null && changes <= Math.max(1, current.index().size()) * REBUILD_CHANGE_RATIO) {
+                IvfIndex index = current.index();
+                for (long memberId : changedIds) {
+                    int row = candidates.indexOf(memberId);
+                    index = index.with(memberId, row >= 0 ? candidates.embedding(row) : null);
+                }
+                state = new State(index, candidates.version(), changes);
+                return state;
+            }
+        }
+        if (!rebuild) {
+            state = null;
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        IvfIndex index = IvfIndex.build(candidates, embeddingProvider.dimension());
+        state = new State(index, candidates.version(), 0);
+        log.info("자기소개 임베딩 색인 생성 완료: 벡터 수={}, 목록 수={}, {}ms",
+                index.size(), index.listCount(), System.currentTimeMillis() - startedAt);
+        return state;
+    }
+
+    /**
+     * 남성 후보 한 명과 질의의 코사인 유사도 (-1 ~ 1)
+     */
+    public record Neighbor(long memberId, double similarity) {
+    }
+
+    // 색인과, 색인이 반영하고 있는 후보 스냅샷 버전 및 마지막으로 만든 뒤 반영한 변경 수
+    private record State(IvfIndex index, long version, int changes) {
+    }
+}
@@ -0,0 +1,233 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.service.IntroductionVectorIndex.Neighbor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 자기소개 임베딩의 IVF(inverted file) 근사 최근접 이웃 색인입니다.
+ * 벡터를 약 √n 개의 중심점 중 가장 가까운 목록에 나누어 두고, 질의 시 질의와 가까운 중심점 probes 개의 목록만 비교합니다.
+ * 목록마다 벡터를 하나의 float[] 에 이어 붙여 두어 순차 접근으로 비교합니다.
+ * 불변이며, 회원 한 명이 바뀌면 해당 목록만 새로 만든 색인을 반환합니다. (중심점은 다시 학습하지 않음)
+ */
+public final class IvfIndex {
+
+    // 중심점 학습에 쓰는 최대 표본 수와 반복 횟수
+    private static final int TRAINING_SAMPLE_SIZE = 4096;
+    private static final int TRAINING_ITERATIONS = 8;
+
+    // 유사도 내림차순, 같으면 회원 ID 오름차순
+    private static final Comparator<Neighbor> RANKING = Comparator.comparingDouble(Neighbor::similarity).reversed()
+            .thenComparingLong(Neighbor::memberId);
+
+    private final int dimension;
+    private final float[][] centroids;
+    private final long[][] listIds;
+    private final float[][] listVectors;
+    private final int size;
+
+    private IvfIndex(int dimension, float[][] centroids, long[][] listIds, float[][] listVectors, int size) {
+        this.dimension = dimension;
+        this.centroids = centroids;
+        this.listIds = listIds;
+        this.listVectors = listVectors;
+        this.size = size;
+    }
+
+    /**
+     * 후보 스냅샷에서 차원이 맞는 임베딩만 모아 색인을 만듭니다. 같은 스냅샷이면 항상 같은 색인을 만듭니다.
+     */
+    public static IvfIndex build(MaleCandidateSnapshot candidates, int dimension) {
+        List<Long> ids = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (int index = 0; index < candidates.size(); index++) {
+            float[] embedding = candidates.embedding(index);
+            if (embedding != null && embedding.length == dimension) {
+                ids.add(candidates.id(index));
+                vectors.add(embedding);
+            }
+        }
+        if (vectors.isEmpty()) {
+            return new IvfIndex(dimension, new float[0][], new long[0][], new float[0][], 0);
+        }
+
+        float[][] centroids = train(vectors, Math.max(1, (int) Math.sqrt(vectors.size())), dimension);
+        int[] counts = new int[centroids.length];
+        int[] assigned = new int[vectors.size()];
+        for (int row = 0; row < vectors.size(); row++) {
+            assigned[row] = nearestCentroid(centroids, vectors.get(row));
+            counts[assigned[row]]++;
+        }
+
+        long[][] listIds = new long[centroids.length][];
+        float[][] listVectors = new float[centroids.length][];
+        for (int list = 0; list < centroids.length; list++) {
+            listIds[list] = new long[counts[list]];
+            listVectors[list] = new float[counts[list] * dimension];
+        }
+        int[] filled = new int[centroids.length];
+        for (int row = 0; row < vectors.size(); row++) {
+            int list = assigned[row];
+            listIds[list][filled[list]] = ids.get(row);
+            System.arraycopy(vectors.get(row), 0, listVectors[list], filled[list] * dimension, dimension);
+            filled[list]++;
+        }
+        return new IvfIndex(dimension, centroids, listIds, listVectors, vectors.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public int listCount() {
+        return centroids.length;
+    }
+
+    /**
+     * 질의 벡터와 가까운 회원을 최대 k 명, 유사도 내림차순으로 반환합니다.
+     * probes 가 목록 수 이상이면 전체를 비교하므로 정확한 결과와 같습니다.
+     */
+    public List<Neighbor> nearest(float[] query, int k, int probes) {
+        if (size == 0 || k < 1) {
+            return List.of();
+        }
+        Integer[] lists = new Integer[centroids.length];
+        double[] centroidSimilarities = new double[centroids.length];
+        for (int list = 0; list < centroids.length; list++) {
+            lists[list] = list;
+            centroidSimilarities[list] = EmbeddingVectors.dot(query, centroids[list]);
+        }
+        Arrays.sort(lists, Comparator.comparingDouble((Integer list) -> centroidSimilarities[list]).reversed());
+
+        // 지금까지 가장 유사도가 낮은 이웃이 머리에 오도록 하여 k 명만 유지
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(k + 1, RANKING.reversed());
+        for (int probe = 0; probe < Math.min(probes, lists.length); probe++) {
+            int list = lists[probe];
+            long[] ids = listIds[list];
+            float[] vectors = listVectors[list];
+            for (int row = 0; row < ids.length; row++) {
+                double similarity = EmbeddingVectors.dot(query, vectors, row);
+                if (top.size() < k) {
+                    top.add(new Neighbor(ids[row], similarity));
+                    continue;
+                }
+                Neighbor worst = top.peek();
+                if (similarity > worst.similarity()
+                        || (similarity == worst.similarity() && ids[row] < worst.memberId())) {
+                    top.poll();
+                    top.add(new Neighbor(ids[row], similarity));
+                }
+            }
+        }
+        List<Neighbor> neighbors = new ArrayList<>(top);
+        neighbors.sort(RANKING);
+        return neighbors;
+    }
+
+    /**
+     * 회원의 벡터를 바꾼 색인을 반환합니다. vector 가 null 이거나 차원이 다르면 해당 회원을 빼기만 합니다.
+     */
+    IvfIndex with(long memberId, float[] vector) {
+        boolean insert = vector != null && vector.length == dimension;
+        if (insert && centroids.length == 0) {
+            return new IvfIndex(dimension, new float[][]{vector.clone()}, new long[][]{{memberId}},
+                    new float[][]{vector.clone()}, 1);
+        }
+
+        long[][] nextIds = listIds.clone();
+        float[][] nextVectors = listVectors.clone();
+        int nextSize = size;
+        for (int list = 0; list < listIds.length; list++) {
+            int row = rowOf(listIds[list], memberId);
+            if (row >= 0) {
+                nextIds[list] = removeId(listIds[list], row);
+                nextVectors[list] = removeVector(listVectors[list], row);
+                nextSize--;
+                break;
+            }
+        }
+        if (insert) {
+            int list = nearestCentroid(centroids, vector);
+            nextIds[list] = Arrays.copyOf(nextIds[list], nextIds[list].length + 1);
+            nextIds[list][nextIds[list].length - 1] = memberId;
+            nextVectors[list] = Arrays.copyOf(nextVectors[list], nextVectors[list].length + dimension);
+            System.arraycopy(vector, 0, nextVectors[list], nextVectors[list].length - dimension, dimension);
+            nextSize++;
+        }
+        return new IvfIndex(dimension, centroids, nextIds, nextVectors, nextSize);
+    }
+
+    // 구면 k-means: 균등 간격 표본에서 시작해 할당과 평균(정규화)을 반복
+    private static float[][] train(List<float[]> vectors, int listCount, int dimension) {
+        int sampleSize = Math.min(vectors.size(), TRAINING_SAMPLE_SIZE);
+        float[][] sample = new float[sampleSize][];
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = vectors.get((int) ((long) i * vectors.size() / sampleSize));
+        }
+        float[][] centroids = new float[listCount][];
+        for (int list = 0; list < listCount; list++) {
+            centroids[list] = sample[(int) ((long) list * sampleSize / listCount)].clone();
+        }
+
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            float[][] sums = new float[listCount][dimension];
+            for (float[] vector : sample) {
+                float[] sum = sums[nearestCentroid(centroids, vector)];
+                for (int i = 0; i < dimension; i++) {
+                    sum[i] += vector[i];
+                }
+            }
+            // 비어 있는 목록은 이전 중심점을 유지
+            for (int list = 0; list < listCount; list++) {
+                if (EmbeddingVectors.normalize(sums[list])) {
+                    centroids[list] = sums[list];
+                }
+            }
+        }
+        return centroids;
+    }
+
+    private static int nearestCentroid(float[][] centroids, float[] vector) {
+        int best = 0;
+        double bestSimilarity = Double.NEGATIVE_INFINITY;
+        for (int list = 0; list < centroids.length; list++) {
+            double similarity = EmbeddingVectors.dot(vector, centroids[list]);
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                best = list;
+            }
+        }
+        return best;
+    }
+
+    private static int rowOf(long[] ids, long memberId) {
+        for (int row = 0; row < ids.length; row++) {
+            if (ids[row] == memberId) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] removeId(long[] ids, int row) {
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, row);
+        System.arraycopy(ids, row + 1, next, row, ids.length - row - 1);
+        return next;
+    }
+
+    private float[] removeVector(float[] vectors, int row) {
+        float[] next = new float[vectors.length - dimension];
+        System.arraycopy(vectors, 0, next, 0, row * dimension);
+        System.arraycopy(vectors, (row + 1) * dimension, next, row * dimension, vectors.length - (row + 1) * dimension);
+        return next;
+    }
+}
@@ -0,0 +1,105 @@
+package masil.backend.modules.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.enums.JobType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선호/비선호 직업을 JSON 컬럼(preferred_jobs, avoided_jobs)에서 비트마스크 컬럼으로 옮기는 마이그레이션입니다.
+ * 모든 빈(스키마 갱신 포함)이 만들어진 뒤, 웹 서버가 요청을 받기 전에 실행되므로 요청이 옮기기 전의 빈 비트마스크를 보지 않습니다.
+ * 비트마스크가 없거나 JSON 에서 구한 값과 다른 행만 옮기므로 다시 실행해도 안전합니다.
+ * 배포 중 이전 릴리스가 새로 쓴 행과, 이미 옮긴 행의 JSON 만 고친 행(비트마스크는 그대로)도 다음 기동 때 다시 옮깁니다.
+ * 이 릴리스는 두 형식을 함께 기록하므로, 두 값이 다르면 JSON 만 고치는 이전 릴리스가 마지막으로 쓴 것입니다.
+ * JSON 컬럼은 롤백을 위해 한 릴리스 동안 남겨 두고(MemberPreference 가 함께 기록), 다음 릴리스에서 이 클래스와 함께 삭제합니다.
+ * 실패하면 예외가 그대로 전파되어 기동이 중단됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobBitmaskMigration implements SmartInitializingSingleton {
+
+    private static final String SELECT_ROWS = """
+            SELECT id, member_id, preferred_jobs, avoided_jobs, preferred_jobs_bitmask, avoided_jobs_bitmask
+            FROM member_preference
+            """;
+
+    private static final String UPDATE_BITMASKS = """
+            UPDATE member_preference
+            SET preferred_jobs_bitmask = ?, avoided_jobs_bitmask = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ScoringPlanCache scoringPlanCache;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        // JSON 문자열은 드라이버와 이전 릴리스의 직렬화 방식에 따라 공백 등이 다를 수 있으므로 변환한 값으로 비교
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(SELECT_ROWS)) {
+            long preferredJobs = toBitmask(row.get("preferred_jobs"));
+            long avoidedJobs = toBitmask(row.get("avoided_jobs"));
+            if (matches(row.get("preferred_jobs_bitmask"), preferredJobs)
+                    && matches(row.get("avoided_jobs_bitmask"), avoidedJobs)) {
+                continue;
+            }
+            updates.add(new Object[]{preferredJobs, avoidedJobs, row.get("id")});
+            memberIds.add(((Number) row.get("member_id")).longValue());
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BITMASKS, updates);
+
+        // 이미 컴파일된 계획이 있으면 옮기기 전 값이므로 무효화
+        memberIds.forEach(scoringPlanCache::evict);
+        log.info("직업 선호도 비트마스크 마이그레이션 완료 - {}건", updates.size());
+    }
+
+    private static boolean matches(Object storedBitmask, long bitmask) {
+        return storedBitmask != null && ((Number) storedBitmask).longValue() == bitmask;
+    }
+
+    private long toBitmask(Object value) {
+        // JSON 컬럼 값은 드라이버에 따라 문자열 또는 UTF-8 바이트 배열로 조회됨
+        String json = value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+        if (value == null || json.isBlank()) {
+            return 0L;
+        }
+        try {
+            List<String> names = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+            if (names == null) {
+                return 0L;
+            }
+            long bitmask = 0L;
+            for (String name : names) {
+                try {
+                    bitmask |= JobType.valueOf(name).getBitmask();
+                } catch (IllegalArgumentException e) {
+                    log.warn("알 수 없는 직업 값은 건너뜁니다: {}", name);
+                }
+            }
+            return bitmask;
+        } catch (JsonProcessingException e) {
+            log.error("직업 목록 JSON 파싱 실패: {}", json, e);
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package masil.backend.modules.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.PushMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 외부 호출 없이 알림을 로그로만 남기는 전송기입니다. (로컬 실행, 테스트용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "log")
+public class LoggingPushSender implements PushSender {
+
+    @Override
+    public List<Result> sendEach(List<PushMessage> messages) {
+        messages.forEach(message -> log.info("푸시 알림 (로그 전송기): title={}, body={}",
+                message.title(), message.body()));
+        return Collections.nCopies(messages.size(), Result.SENT);
+    }
+}
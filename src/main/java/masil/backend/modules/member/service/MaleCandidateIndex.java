@@ -0,0 +1,145 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.repository.MemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 매칭 후보(APPROVED/CONNECTING 상태의 한국 남성) 점수 계산 속성의 메모리 인덱스입니다.
+ * 첫 조회 시 프로젝션 쿼리로 한 번 적재하고, 이후에는 회원 변경이 커밋될 때마다 해당 행만 갱신합니다.
+ * 행이 바뀌면 MaleCandidatesChangedEvent 를 발행하여 여성별 상위 후보 목록이 해당 회원만 다시 계산하도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaleCandidateIndex {
+
+    static final Gender CANDIDATE_GENDER = Gender.KOREAN_MALE;
+    static final Set<MemberStatus> CANDIDATE_STATUSES = Set.of(MemberStatus.APPROVED, MemberStatus.CONNECTING);
+
+    // 최근 변경된 회원 ID 기록 (스냅샷 버전 % 크기 위치에 저장)
+    static final int CHANGE_LOG_SIZE = 1024;
+
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final long[] changeLog = new long[CHANGE_LOG_SIZE];
+
+    private volatile MaleCandidateSnapshot snapshot;
+
+    public MaleCandidateSnapshot getSnapshot() {
+        MaleCandidateSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<MaleCandidateAttributes> rows = memberRepository.findCandidateAttributes(
+                        CANDIDATE_GENDER, CANDIDATE_STATUSES);
+                snapshot = MaleCandidateSnapshot.of(1L, rows);
+                log.info("매칭 후보 인덱스 적재 완료: 남성 후보 수={}", rows.size());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 회원 엔티티 변경을 기록합니다. 트랜잭션이 커밋된 후에 인덱스에 반영됩니다.
+     */
+    public void stage(Member member, boolean removed) {
+        Long memberId = member.getId();
+        MaleCandidateAttributes row = !removed && isCandidate(member) ? MaleCandidateAttributes.from(member) : null;
+        afterCommit(() -> apply(memberId, row));
+    }
+
+    /**
+     * 벌크 UPDATE 처럼 엔티티를 거치지 않은 변경 후, 해당 회원들의 행을 DB 에서 다시 읽어 반영합니다.
+     */
+    public void refresh(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            Map<Long, MaleCandidateAttributes> rows = memberRepository
+                    .findCandidateAttributesByIdIn(memberIds, CANDIDATE_GENDER, CANDIDATE_STATUSES).stream()
+                    .collect(Collectors.toMap(MaleCandidateAttributes::id, Function.identity()));
+            memberIds.forEach(memberId -> apply(memberId, rows.get(memberId)));
+        });
+    }
+
+    /**
+     * fromVersion 이후 toVersion 까지 변경된 회원 ID 를 오름차순으로 반환합니다.
+     * 변경 기록이 이미 덮어써졌으면 null 을 반환하며, 이 경우 호출자는 전체를 다시 계산해야 합니다.
+     */
+    public synchronized long[] changedBetween(long fromVersion, long toVersion) {
+        if (snapshot == null || fromVersion > toVersion || snapshot.version() - fromVersion >= CHANGE_LOG_SIZE) {
+            return null;
+        }
+        return LongStream.rangeClosed(fromVersion + 1, toVersion)
+                .map(version -> changeLog[(int) (version % CHANGE_LOG_SIZE)])
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private void apply(Long memberId, MaleCandidateAttributes row) {
+        MaleCandidateSnapshot next = swap(memberId, row);
+        // 구독자가 changedBetween 을 호출하므로 잠금 밖에서 발행
+        if (next != null) {
+            eventPublisher.publishEvent(new MaleCandidatesChangedEvent(next));
+        }
+    }
+
+    // 바뀐 스냅샷을 반환하며, 바뀐 것이 없으면 null
+    private synchronized MaleCandidateSnapshot swap(Long memberId, MaleCandidateAttributes row) {
+        // 아직 적재 전이면 첫 조회 시 DB 에서 최신 상태를 읽으므로 반영할 필요 없음
+        if (snapshot == null || memberId == null) {
+            return null;
+        }
+        long nextVersion = snapshot.version() + 1;
+        MaleCandidateSnapshot next = row != null
+                ? snapshot.with(nextVersion, row)
+                : snapshot.without(nextVersion, memberId);
+        if (next == snapshot) {
+            return null;
+        }
+        changeLog[(int) (nextVersion % CHANGE_LOG_SIZE)] = memberId;
+        snapshot = next;
+        return next;
+    }
+
+    private boolean isCandidate(Member member) {
+        return member.getGender() == CANDIDATE_GENDER
+                && CANDIDATE_STATUSES.contains(member.getStatus())
+                && !Boolean.TRUE.equals(member.getIsDeleted());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
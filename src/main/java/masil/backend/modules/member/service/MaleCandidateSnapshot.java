@@ -0,0 +1,188 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 매칭 후보 남성 회원의 점수 계산 속성을 컬럼별 기본형 배열로 담은 불변 스냅샷입니다.
+ * 행은 회원 ID 오름차순이며, 비어 있는 속성은 ScoringPlan.NO_VALUE 로 저장합니다.
+ * 변경은 새 스냅샷을 만들어 반환하므로 읽는 쪽은 잠금 없이 사용할 수 있습니다.
+ */
+public final class MaleCandidateSnapshot {
+
+    private static final MaleCandidateSnapshot EMPTY = new MaleCandidateSnapshot(
+            0L, new long[0], new int[0], new int[0], new int[0], new int[0], new int[0], new int[0],
+            new float[0][]);
+
+    private final long version;
+    private final long[] ids;
+    private final int[] heights;
+    private final int[] religions;
+    private final int[] educations;
+    private final int[] assets;
+    // MbtiCode 4비트 값
+    private final int[] mbtis;
+    // Region ordinal
+    private final int[] regions;
+    // 자기소개 임베딩 (없으면 null, 배열은 회원 행끼리 공유하며 수정하지 않음)
+    private final float[][] embeddings;
+
+    // 반드시 충족 조건이 있는 조회에서만 필요하므로 처음 사용할 때 만듦 (같은 값으로 중복 생성되어도 무해)
+    private volatile CandidateBitmaps bitmaps;
+
+    private MaleCandidateSnapshot(long version, long[] ids, int[] heights, int[] religions,
+                                  int[] educations, int[] assets, int[] mbtis, int[] regions,
+                                  float[][] embeddings) {
+        this.version = version;
+        this.ids = ids;
+        this.heights = heights;
+        this.religions = religions;
+        this.educations = educations;
+        this.assets = assets;
+        this.mbtis = mbtis;
+        this.regions = regions;
+        this.embeddings = embeddings;
+    }
+
+    public static MaleCandidateSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static MaleCandidateSnapshot of(long version, Collection<MaleCandidateAttributes> rows) {
+        List<MaleCandidateAttributes> sorted = rows.stream()
+                .sorted(Comparator.comparing(MaleCandidateAttributes::id))
+                .toList();
+
+        int size = sorted.size();
+        MaleCandidateSnapshot snapshot = new MaleCandidateSnapshot(
+                version, new long[size], new int[size], new int[size], new int[size], new int[size], new int[size],
+                new int[size], new float[size][]);
+        for (int index = 0; index < size; index++) {
+            snapshot.set(index, sorted.get(index));
+        }
+        return snapshot;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public int height(int index) {
+        return heights[index];
+    }
+
+    public int religion(int index) {
+        return religions[index];
+    }
+
+    public int education(int index) {
+        return educations[index];
+    }
+
+    public int asset(int index) {
+        return assets[index];
+    }
+
+    public int mbti(int index) {
+        return mbtis[index];
+    }
+
+    public int region(int index) {
+        return regions[index];
+    }
+
+    public float[] embedding(int index) {
+        return embeddings[index];
+    }
+
+    public CandidateBitmaps bitmaps() {
+        CandidateBitmaps current = bitmaps;
+        if (current == null) {
+            current = new CandidateBitmaps(this);
+            bitmaps = current;
+        }
+        return current;
+    }
+
+    /**
+     * 회원 ID 의 행 위치를 반환합니다. 없으면 음수입니다.
+     */
+    public int indexOf(long memberId) {
+        return Arrays.binarySearch(ids, memberId);
+    }
+
+    /**
+     * 해당 회원의 행을 추가하거나 갱신한 새 스냅샷을 반환합니다.
+     */
+    MaleCandidateSnapshot with(long newVersion, MaleCandidateAttributes row) {
+        int index = indexOf(row.id());
+        if (index >= 0) {
+            MaleCandidateSnapshot copy = copy(newVersion, size(), index, 0);
+            copy.set(index, row);
+            return copy;
+        }
+
+        int insertAt = -(index + 1);
+        MaleCandidateSnapshot copy = copy(newVersion, size() + 1, insertAt, 1);
+        copy.set(insertAt, row);
+        return copy;
+    }
+
+    /**
+     * 해당 회원의 행을 제거한 새 스냅샷을 반환합니다. 없으면 자기 자신을 반환합니다.
+     */
+    MaleCandidateSnapshot without(long newVersion, long memberId) {
+        int index = indexOf(memberId);
+        if (index < 0) {
+            return this;
+        }
+        return copy(newVersion, size() - 1, index, -1);
+    }
+
+    // position 이전 행은 그대로, 이후 행은 shift 만큼 밀거나 당겨서 복사
+    private MaleCandidateSnapshot copy(long newVersion, int newSize, int position, int shift) {
+        MaleCandidateSnapshot copy = new MaleCandidateSnapshot(
+                newVersion, new long[newSize], new int[newSize], new int[newSize], new int[newSize], new int[newSize],
+                new int[newSize], new int[newSize], new float[newSize][]);
+        int tailFrom = shift < 0 ? position + 1 : position;
+        int tailLength = size() - tailFrom;
+        copyColumns(this, copy, 0, 0, position);
+        copyColumns(this, copy, tailFrom, tailFrom + shift, tailLength);
+        return copy;
+    }
+
+    private static void copyColumns(MaleCandidateSnapshot from, MaleCandidateSnapshot to,
+                                    int fromIndex, int toIndex, int length) {
+        System.arraycopy(from.ids, fromIndex, to.ids, toIndex, length);
+        System.arraycopy(from.heights, fromIndex, to.heights, toIndex, length);
+        System.arraycopy(from.religions, fromIndex, to.religions, toIndex, length);
+        System.arraycopy(from.educations, fromIndex, to.educations, toIndex, length);
+        System.arraycopy(from.assets, fromIndex, to.assets, toIndex, length);
+        System.arraycopy(from.mbtis, fromIndex, to.mbtis, toIndex, length);
+        System.arraycopy(from.regions, fromIndex, to.regions, toIndex, length);
+        System.arraycopy(from.embeddings, fromIndex, to.embeddings, toIndex, length);
+    }
+
+    private void set(int index, MaleCandidateAttributes row) {
+        ids[index] = row.id();
+        heights[index] = row.height() != null ? row.height() : ScoringPlan.NO_VALUE;
+        religions[index] = row.religion() != null ? row.religion().ordinal() : ScoringPlan.NO_VALUE;
+        educations[index] = row.education() != null ? row.education().ordinal() : ScoringPlan.NO_VALUE;
+        assets[index] = row.asset() != null ? row.asset().ordinal() : ScoringPlan.NO_VALUE;
+        mbtis[index] = MbtiCode.pack(row.mbti());
+        regions[index] = row.region() != null ? row.region().ordinal() : ScoringPlan.NO_VALUE;
+        embeddings[index] = row.embedding();
+    }
+}
@@ -0,0 +1,8 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 매칭 후보 인덱스에 남성 회원 변경이 반영된 뒤 발행됩니다.
+ * 받는 쪽은 MaleCandidateIndex.changedBetween 으로 자신이 가진 버전 이후의 변경 회원을 구합니다.
+ */
+public record MaleCandidatesChangedEvent(MaleCandidateSnapshot snapshot) {
+}
@@ -0,0 +1,270 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.entity.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여성 회원별 (남성 후보 × 매칭 점수) 행을 메모리에 보관하는 점수 행렬입니다.
+ * 여성의 선호도가 바뀌면(ScoringPlan 교체) 해당 행 전체를, 남성 프로필이 바뀌면 해당 열만 다시 계산합니다.
+ * 행은 후보 인덱스 스냅샷과 같은 순서이며, 언제든 인덱스와 선호도로부터 다시 만들 수 있습니다.
+ *
+ * 행과 별도로 여성별 상위 후보 목록(RankedCandidates)을 미리 유지합니다.
+ * 남성 한 명이 바뀌면 인덱스 이벤트를 받아 모든 목록에서 그 회원만 빼거나 넣거나 옮기고,
+ * 여성의 선호도가 바뀌면 그 여성의 목록만 점수 행에서 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingScoreMatrix {
+
+    private final MatchingScoreService matchingScoreService;
+    private final MaleCandidateIndex maleCandidateIndex;
+
+    // 보관할 최대 행(여성) 수, 초과 시 가장 오래 조회되지 않은 여성의 행을 버림
+    @Value("${matching.score-matrix.max-rows:2000}")
+    private int maxRows;
+
+    // 여성별로 미리 유지할 상위 후보 수, 남성이 빠져 절반 아래로 줄면 점수 행에서 다시 채움
+    @Value("${matching.score-matrix.ranking-size:200}")
+    private int rankingSize;
+
+    private final Map<Long, ScoreRow> rows = new ConcurrentHashMap<>();
+    private final Map<Long, Ranking> rankings = new ConcurrentHashMap<>();
+
+    // 여성별 마지막 조회 시각(논리 시계), 가득 찼을 때 버릴 행을 고르는 데만 씀
+    private final Map<Long, Long> lastAccess = new ConcurrentHashMap<>();
+    private final AtomicLong accessClock = new AtomicLong();
+
+    /**
+     * 여성 회원의 최신 점수 행을 반환합니다.
+     * 스냅샷과 선호도가 그대로면 보관된 행을, 남성 후보만 바뀌었으면 바뀐 열만 다시 계산한 행을 반환합니다.
+     */
+    public ScoreRow getRow(Member femaleMember) {
+        return getRow(femaleMember.getId(), matchingScoreService.getScoringPlan(femaleMember),
+                maleCandidateIndex.getSnapshot());
+    }
+
+    /**
+     * 지정한 가중치 프로필로 계산한 행을 반환합니다.
+     * 사용 중인 프로필이면 보관된 행을 쓰고, 다른 프로필이면 보관하지 않는 일회성 행을 계산합니다.
+     */
+    public ScoreRow getRow(Member femaleMember, ScoringWeights profile) {
+        ScoringPlan plan = matchingScoreService.getScoringPlan(femaleMember, profile);
+        if (plan == matchingScoreService.getScoringPlan(femaleMember)) {
+            return getRow(femaleMember);
+        }
+        return computeRow(plan, maleCandidateIndex.getSnapshot());
+    }
+
+    /**
+     * 여성 회원의 상위 후보 목록을 반환합니다. 남성 변경은 이벤트로 이미 반영되어 있으므로 보통 그대로 반환하며,
+     * 계획이 바뀌었으면(선호도 또는 사용 중인 가중치 프로필 변경) 그 여성의 목록만 다시 만듭니다.
+     */
+    public Ranking getRanking(Member femaleMember) {
+        touch(femaleMember.getId());
+        ScoringPlan plan = matchingScoreService.getScoringPlan(femaleMember);
+        MaleCandidateSnapshot candidates = maleCandidateIndex.getSnapshot();
+
+        Ranking cached = rankings.get(femaleMember.getId());
+        if (cached != null && cached.plan() == plan && cached.candidates() == candidates) {
+            return cached;
+        }
+        Ranking ranking = cached != null && cached.plan() == plan
+                ? advance(femaleMember.getId(), cached, candidates)
+                : rebuild(femaleMember.getId(), plan, candidates);
+        store(rankings, femaleMember.getId(), ranking);
+        return ranking;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 여성 회원의 상위 후보 목록을 미리 만듭니다. (승인 직후 첫 조회도 바로 열리도록)
+     */
+    public void warmAfterCommit(Member femaleMember) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            getRanking(femaleMember);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                getRanking(femaleMember);
+            }
+        });
+    }
+
+    /**
+     * 여성 회원의 행과 상위 후보 목록을 버립니다. 다음 조회 시 다시 계산합니다.
+     */
+    public void evict(Long femaleMemberId) {
+        rows.remove(femaleMemberId);
+        rankings.remove(femaleMemberId);
+        lastAccess.remove(femaleMemberId);
+    }
+
+    /**
+     * 남성 회원 변경이 인덱스에 반영되면 보관 중인 모든 상위 후보 목록에 바뀐 회원만 반영합니다.
+     * 여성 한 명당 바뀐 회원 수만큼의 점수 계산과 O(목록 크기) 복사만 일어납니다.
+     * 저장한 요청 스레드가 아닌 후보 변경 전용 스레드에서 실행하며, 그 전에 조회된 목록은 getRanking 이 직접 따라잡습니다.
+     */
+    @Async("candidateChangeExecutor")
+    @EventListener
+    public void onMaleCandidatesChanged(MaleCandidatesChangedEvent event) {
+        MaleCandidateSnapshot candidates = event.snapshot();
+        rankings.replaceAll((femaleMemberId, ranking) -> advance(femaleMemberId, ranking, candidates));
+    }
+
+    private ScoreRow getRow(Long femaleMemberId, ScoringPlan plan, MaleCandidateSnapshot candidates) {
+        touch(femaleMemberId);
+        return refreshRow(femaleMemberId, plan, candidates);
+    }
+
+    // 조회 시각을 갱신하지 않는 getRow, 후보 변경 이벤트처럼 관리자 조회가 아닌 경로에서 사용
+    private ScoreRow refreshRow(Long femaleMemberId, ScoringPlan plan, MaleCandidateSnapshot candidates) {
+        ScoreRow cached = rows.get(femaleMemberId);
+        if (cached != null && cached.plan() == plan && cached.candidates() == candidates) {
+            return cached;
+        }
+
+        ScoreRow row = cached != null && cached.plan() == plan
+                ? patchColumns(cached, candidates)
+                : computeRow(plan, candidates);
+        store(rows, femaleMemberId, row);
+        return row;
+    }
+
+    // 목록의 스냅샷 이후 바뀐 남성만 새 점수로 다시 넣음 (이미 더 최신이면 그대로)
+    private Ranking advance(Long femaleMemberId, Ranking ranking, MaleCandidateSnapshot candidates) {
+        if (ranking.candidates().version() >= candidates.version()) {
+            return ranking;
+        }
+        long[] changedIds = maleCandidateIndex.changedBetween(ranking.candidates().version(), candidates.version());
+        if (changedIds == null) {
+            return rebuild(femaleMemberId, ranking.plan(), candidates);
+        }
+
+        ScoringPlan plan = ranking.plan();
+        RankedCandidates ranked = ranking.ranked();
+        for (long memberId : changedIds) {
+            int index = candidates.indexOf(memberId);
+            ranked = index >= 0 && plan.isEligible(candidates, index)
+                    ? ranked.update(memberId, plan.score(candidates, index), rankingSize)
+                    : ranked.remove(memberId);
+        }
+        // 목록에서 빠진 자리는 목록 밖 후보로 채울 수 없으므로, 많이 줄었을 때만 점수 행에서 다시 만듦
+        if (!ranked.covers(rankingSize / 2)) {
+            return rebuild(femaleMemberId, plan, candidates);
+        }
+        return new Ranking(plan, candidates, ranked);
+    }
+
+    // 조회 시각은 getRanking 에서만 갱신하므로 여기서는 갱신하지 않음 (이벤트 스레드에서도 호출됨)
+    private Ranking rebuild(Long femaleMemberId, ScoringPlan plan, MaleCandidateSnapshot candidates) {
+        ScoreRow row = refreshRow(femaleMemberId, plan, candidates);
+        return new Ranking(plan, candidates,
+                RankedCandidates.of(candidates, row.scores(), row.eligible(), rankingSize));
+    }
+
+    // 반드시 충족 조건으로 후보를 먼저 거른 뒤 남은 후보만 점수 계산
+    private ScoreRow computeRow(ScoringPlan plan, MaleCandidateSnapshot candidates) {
+        long[] eligible = plan.eligibleCandidates(candidates);
+        return new ScoreRow(plan, candidates, eligible,
+                matchingScoreService.scoreCandidates(plan, candidates, eligible));
+    }
+
+    // 이전 행의 점수를 재사용하고, 그 사이 변경된 남성 회원의 열만 다시 계산
+    private ScoreRow patchColumns(ScoreRow previous, MaleCandidateSnapshot candidates) {
+        long[] changedIds = maleCandidateIndex.changedBetween(
+                previous.candidates().version(), candidates.version());
+        if (changedIds == null) {
+            return computeRow(previous.plan(), candidates);
+        }
+
+        // 조건 통과 여부는 남성 속성과 계획으로만 정해지므로, 변경되지 않은 후보는 이전 결과와 같음
+        long[] eligible = previous.plan().eligibleCandidates(candidates);
+        MaleCandidateSnapshot before = previous.candidates();
+        double[] scores = new double[candidates.size()];
+        int beforeIndex = 0;
+        for (int index = 0; index < candidates.size(); index++) {
+            if (!ScoreRow.contains(eligible, index)) {
+                continue;
+            }
+            long memberId = candidates.id(index);
+            while (beforeIndex < before.size() && before.id(beforeIndex) < memberId) {
+                beforeIndex++;
+            }
+            boolean unchanged = beforeIndex < before.size()
+                    && before.id(beforeIndex) == memberId
+                    && Arrays.binarySearch(changedIds, memberId) < 0;
+            scores[index] = unchanged
+                    ? previous.scores()[beforeIndex]
+                    : previous.plan().score(candidates, index);
+        }
+        return new ScoreRow(previous.plan(), candidates, eligible, scores);
+    }
+
+    private void touch(Long femaleMemberId) {
+        lastAccess.put(femaleMemberId, accessClock.incrementAndGet());
+    }
+
+    // 가득 찼으면 방금 쓰려는 여성을 빼고 가장 오래 조회되지 않은 여성의 항목을 버림 (가득 찼을 때만 O(maxRows) 탐색)
+    private <T> void store(Map<Long, T> map, Long femaleMemberId, T value) {
+        if (!map.containsKey(femaleMemberId) && map.size() >= maxRows) {
+            Long eldest = null;
+            long eldestAccess = Long.MAX_VALUE;
+            for (Long key : map.keySet()) {
+                long access = lastAccess.getOrDefault(key, 0L);
+                if (!key.equals(femaleMemberId) && access < eldestAccess) {
+                    eldest = key;
+                    eldestAccess = access;
+                }
+            }
+            if (eldest != null) {
+                map.remove(eldest);
+                if (!rows.containsKey(eldest) && !rankings.containsKey(eldest)) {
+                    lastAccess.remove(eldest);
+                }
+            }
+        }
+        map.put(femaleMemberId, value);
+    }
+
+    /**
+     * 여성 회원 한 명의 상위 후보 목록과, 목록이 반영하고 있는 계획 및 후보 스냅샷입니다.
+     */
+    public record Ranking(ScoringPlan plan, MaleCandidateSnapshot candidates, RankedCandidates ranked) {
+    }
+
+    /**
+     * 여성 회원 한 명의 점수 행입니다. scores[i] 는 candidates 의 i 번째 남성 후보 점수입니다.
+     * eligible 은 반드시 충족 조건을 통과한 후보 위치의 비트셋이며, null 이면 전체 후보가 대상입니다.
+     */
+    public record ScoreRow(ScoringPlan plan, MaleCandidateSnapshot candidates, long[] eligible, double[] scores) {
+
+        public int eligibleCount() {
+            if (eligible == null) {
+                return candidates.size();
+            }
+            int count = 0;
+            for (long word : eligible) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        static boolean contains(long[] eligible, int index) {
+            return eligible == null || (eligible[index >>> 6] & (1L << index)) != 0;
+        }
+    }
+}
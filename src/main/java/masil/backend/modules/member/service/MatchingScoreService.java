@@ -1,18 +1,18 @@
 package masil.backend.modules.member.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.entity.MemberPreference;
-import masil.backend.modules.member.enums.*;
 import masil.backend.modules.member.repository.MemberPreferenceRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 @Slf4j
 @Service
@@ -20,32 +20,14 @@ import java.util.List;
 public class MatchingScoreService {
     
     private final MemberPreferenceRepository memberPreferenceRepository;
-    private final ObjectMapper objectMapper;
-    
-    // 우선순위별 가중치
-    private static final double PRIORITY1_WEIGHT = 3.0;
-    private static final double PRIORITY2_WEIGHT = 2.0;
-    private static final double PRIORITY3_WEIGHT = 1.0;
-    
-    // 점수 계산 상수
-    private static final double PERFECT_SCORE = 100.0;
-    private static final double DEFAULT_SCORE = 50.0;
-    private static final double MIN_SCORE = 0.0;
-    
-    // 키 점수 계산 상수
-    private static final double HEIGHT_PENALTY_PER_CM = 2.0;
-    
-    // 학벌 점수 계산 상수
-    private static final double EDUCATION_PENALTY_PER_LEVEL = 20.0;
-    
-    // 자산 점수 계산 상수
-    private static final double ASSET_ABOVE_PENALTY_PER_LEVEL = 10.0;
-    private static final double ASSET_BELOW_PENALTY_PER_LEVEL = 15.0;
-    
-    // 직업 점수 계산 상수
-    private static final double JOB_PREFERRED_SCORE = 100.0;
-    private static final double JOB_AVOIDED_SCORE = 0.0;
-    private static final double JOB_NEUTRAL_SCORE = 60.0;
+    private final ScoringPlanCache scoringPlanCache;
+    private final ScoringWeightRegistry scoringWeightRegistry;
+    private final ForkJoinPool scoringForkJoinPool;
+    private final EmbeddingProvider embeddingProvider;
+
+    // 후보 수가 이 값 이상이면 병렬로 점수 계산
+    @Value("${matching.scoring.parallel-threshold:4096}")
+    private int parallelThreshold;
     
     // 점수 구간별 그라데이션 색상 (5점 단위, 어두운 초록 → 진한 빨강)
     private static final String COLOR_100 = "#1B5E20";      // 100: 어두운 초록
@@ -62,411 +44,127 @@ public class MatchingScoreService {
     private static final String COLOR_UNDER_50 = "#B71C1C"; // 0-50: 더 진한 빨강 (고정)
     
     public Double calculateMatchingScore(Member femaleMember, Member maleMember) {
-        log.debug("매칭 점수 계산 시작 - 여성 회원: {}, 남성 회원: {}", 
-                  femaleMember.getId(), maleMember.getId());
-        
-        MemberPreference preference = memberPreferenceRepository.findByMember(femaleMember)
-                .orElse(null);
-        
-        if (preference == null) {
-            log.warn("여성 유저 {}의 선호도 정보가 없습니다. 기본 점수 반환.", femaleMember.getId());
-            return DEFAULT_SCORE;
-        }
-        
-        double totalScore = 0.0;
-        double totalWeight = 0.0;
-        
-        PreferenceCategory priority1 = preference.getPriority1();
-        PreferenceCategory priority2 = preference.getPriority2();
-        PreferenceCategory priority3 = preference.getPriority3();
-        
-        log.debug("우선순위 설정 - P1: {}, P2: {}, P3: {}", priority1, priority2, priority3);
-        
-        // 키 매칭 
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.HEIGHT)) {
-            double heightScore = calculateHeightScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.HEIGHT);
-            totalScore += heightScore * weight;
-            totalWeight += weight;
-            log.debug("키 점수: {} (가중치: {})", heightScore, weight);
-        }
-        
-        // 종교 매칭 
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.RELIGION)) {
-            double religionScore = calculateReligionScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.RELIGION);
-            totalScore += religionScore * weight;
-            totalWeight += weight;
-            log.debug("종교 점수: {} (가중치: {})", religionScore, weight);
-        }
-        
-        // 학벌 매칭 
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.EDUCATION)) {
-            double educationScore = calculateEducationScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.EDUCATION);
-            totalScore += educationScore * weight;
-            totalWeight += weight;
-            log.debug("학벌 점수: {} (가중치: {})", educationScore, weight);
-        }
-        
-        // 자산 매칭
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.ASSET)) {
-            double assetScore = calculateAssetScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.ASSET);
-            totalScore += assetScore * weight;
-            totalWeight += weight;
-            log.debug("자산 점수: {} (가중치: {})", assetScore, weight);
-        }
-        
-        // 외모 스타일 매칭 
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.APPEARANCE)) {
-            double appearanceScore = calculateAppearanceScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.APPEARANCE);
-            totalScore += appearanceScore * weight;
-            totalWeight += weight;
-            log.debug("외모 스타일 점수: {} (가중치: {})", appearanceScore, weight);
-        }
-        
-        // 직업 매칭
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.JOB)) {
-            double jobScore = calculateJobScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.JOB);
-            totalScore += jobScore * weight;
-            totalWeight += weight;
-            log.debug("직업 점수: {} (가중치: {})", jobScore, weight);
-        }
-        
-        // 부모님 자산 매칭
-        if (isPriorityCategory(priority1, priority2, priority3, PreferenceCategory.PARENT_ASSET)) {
-            double parentAssetScore = calculateParentAssetScore(preference, maleMember);
-            double weight = getWeightForCategory(priority1, priority2, priority3, PreferenceCategory.PARENT_ASSET);
-            totalScore += parentAssetScore * weight;
-            totalWeight += weight;
-            log.debug("부모님 자산 점수: {} (가중치: {})", parentAssetScore, weight);
-        }
-        
-        if (totalWeight == 0) {
-            log.warn("총 가중치가 0입니다. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        double finalScore = totalScore / totalWeight;
-        finalScore = Math.min(PERFECT_SCORE, Math.max(MIN_SCORE, finalScore));
-        
-        log.info("최종 매칭 점수: {} (여성: {}, 남성: {})", finalScore, 
-                 femaleMember.getId(), maleMember.getId());
-        
-        return finalScore;
-    }
-    
-    /**
-     * 해당 카테고리가 우선순위에 포함되는지 확인합니다.
-     */
-    private boolean isPriorityCategory(PreferenceCategory p1, PreferenceCategory p2, 
-                                       PreferenceCategory p3, PreferenceCategory target) {
-        return target == p1 || target == p2 || target == p3;
-    }
-    
-    /**
-     * 카테고리의 우선순위에 따른 가중치를 반환합니다.
-     */
-    private double getWeightForCategory(PreferenceCategory p1, PreferenceCategory p2, 
-                                        PreferenceCategory p3, PreferenceCategory target) {
-        if (target == p1) return PRIORITY1_WEIGHT;
-        if (target == p2) return PRIORITY2_WEIGHT;
-        if (target == p3) return PRIORITY3_WEIGHT;
-        return 0.0;
+        return getScoringPlan(femaleMember).score(maleMember);
     }
-    
+
     /**
-     * 키 매칭 점수를 계산합니다.
-     * 선호 범위 내면 만점, 범위를 벗어나면 거리에 비례하여 감점합니다.
+     * 여성 회원 한 명과 남성 후보 전체의 매칭 점수를 계산합니다.
+     * 선호도는 한 번만 조회하고, 후보별 점수는 메모리에서 계산합니다.
+     *
+     * @return 남성 회원 ID → 매칭 점수 (후보 순서 유지)
      */
-    private double calculateHeightScore(MemberPreference preference, Member maleMember) {
-        if (preference.getPreferredHeightMin() == null || preference.getPreferredHeightMax() == null) {
-            log.debug("선호 키 범위가 설정되지 않음. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        Integer height = maleMember.getHeight();
-        if (height == null) {
-            log.debug("남성 회원의 키 정보 없음. 최저 점수 반환.");
-            return MIN_SCORE;
-        }
-        
-        int min = preference.getPreferredHeightMin();
-        int max = preference.getPreferredHeightMax();
-        
-        if (height >= min && height <= max) {
-            log.debug("키 {}cm가 선호 범위({}-{}) 내에 있음. 만점.", height, min, max);
-            return PERFECT_SCORE;
-        } else {
-            // 범위를 벗어나면 가장 가까운 경계와의 거리에 따라 감점
-            int distance = Math.min(
-                    Math.abs(height - min),
-                    Math.abs(height - max)
-            );
-            double score = Math.max(MIN_SCORE, PERFECT_SCORE - (distance * HEIGHT_PENALTY_PER_CM));
-            log.debug("키 {}cm가 선호 범위({}-{})를 벗어남. 거리: {}cm, 점수: {}", 
-                      height, min, max, distance, score);
-            return score;
+    public Map<Long, Double> scoreCandidates(Member femaleMember, Collection<Member> maleMembers) {
+        ScoringPlan plan = getScoringPlan(femaleMember);
+
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (Member maleMember : maleMembers) {
+            scores.put(maleMember.getId(), plan.score(maleMember));
         }
+        return scores;
     }
-    
+
     /**
-     * 종교 매칭 점수를 계산합니다.
-     * 기피 종교에 해당하면 0점, 그렇지 않으면 만점입니다.
+     * 매칭 후보 인덱스 스냅샷의 모든 행을 점수 계산합니다.
+     * 후보 수가 parallelThreshold 이상이면 구간을 나누어 fork/join 으로 병렬 계산하며,
+     * 각 구간은 자기 위치에만 쓰므로 결과 순서는 항상 같습니다.
+     *
+     * @return 스냅샷 행 순서와 같은 순서의 매칭 점수
      */
-    private double calculateReligionScore(MemberPreference preference, Member maleMember) {
-        Religion memberReligion = maleMember.getReligion();
-        
-        if (memberReligion == null) {
-            log.debug("남성 회원의 종교 정보 없음. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        if (preference.getAvoidReligionsBitmask() == null || preference.getAvoidReligionsBitmask() == 0) {
-            log.debug("기피 종교 설정 없음. 만점 반환.");
-            return PERFECT_SCORE;
-        }
-        
-        List<Religion> avoidReligions = Religion.fromBitmask(preference.getAvoidReligionsBitmask());
-        
-        if (avoidReligions.contains(memberReligion)) {
-            log.debug("종교 {}가 기피 종교 목록에 포함됨. 최저 점수.", memberReligion);
-            return MIN_SCORE;
-        }
-        
-        log.debug("종교 {}가 기피 종교가 아님. 만점.", memberReligion);
-        return PERFECT_SCORE;
+    public double[] scoreCandidates(ScoringPlan plan, MaleCandidateSnapshot candidates) {
+        return scoreCandidates(plan, candidates, null);
     }
-    
+
     /**
-     * 학벌 매칭 점수를 계산합니다.
-     * 선호 학벌 이상이면 만점, 낮으면 차이에 비례하여 감점합니다.
+     * eligible 비트셋에 포함된 후보만 점수 계산합니다. 제외된 위치의 점수는 0 으로 남습니다.
+     *
+     * @param eligible 점수 계산할 후보 위치의 비트셋 (null 이면 전체)
      */
-    private double calculateEducationScore(MemberPreference preference, Member maleMember) {
-        EducationLevel preferredLevel = preference.getPreferredEducationLevel();
-        Education memberEducation = maleMember.getEducation();
-        
-        if (preferredLevel == null) {
-            log.debug("선호 학벌 설정 없음. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        if (memberEducation == null) {
-            log.debug("남성 회원의 학벌 정보 없음. 최저 점수 반환.");
-            return MIN_SCORE;
-        }
-        
-        // EducationLevel과 Education을 비교하기 위해 ordinal 사용
-        // 높은 ordinal = 높은 학력으로 가정
-        int preferredOrdinal = preferredLevel.ordinal();
-        int memberOrdinal = memberEducation.ordinal();
-        
-        if (memberOrdinal >= preferredOrdinal) {
-            log.debug("학벌 {}가 선호 레벨 {} 이상. 만점.", memberEducation, preferredLevel);
-            return PERFECT_SCORE;
+    public double[] scoreCandidates(ScoringPlan plan, MaleCandidateSnapshot candidates, long[] eligible) {
+        double[] scores = new double[candidates.size()];
+        if (scores.length < parallelThreshold) {
+            scoreRange(plan, candidates, eligible, scores, 0, scores.length);
         } else {
-            // 낮으면 차이만큼 감점
-            int diff = preferredOrdinal - memberOrdinal;
-            double score = Math.max(MIN_SCORE, PERFECT_SCORE - (diff * EDUCATION_PENALTY_PER_LEVEL));
-            log.debug("학벌 {}가 선호 레벨 {} 미만. 차이: {}, 점수: {}", 
-                      memberEducation, preferredLevel, diff, score);
-            return score;
+            scoringForkJoinPool.invoke(new ScoreRangeTask(plan, candidates, eligible, scores, 0, scores.length));
         }
+        return scores;
     }
-    
-    /**
-     * 자산 매칭 점수를 계산합니다.
-     * Asset enum의 중간값을 기준으로 선호 범위와 비교합니다.
-     */
-    private double calculateAssetScore(MemberPreference preference, Member maleMember) {
-        Long preferredMin = preference.getPreferredAssetMin();
-        Long preferredMax = preference.getPreferredAssetMax();
-        Asset memberAsset = maleMember.getAsset();
-        
-        if (preferredMin == null || preferredMax == null) {
-            log.debug("선호 자산 범위 설정 없음. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        if (memberAsset == null) {
-            log.debug("남성 회원의 자산 정보 없음. 최저 점수 반환.");
-            return MIN_SCORE;
-        }
-        
-        // Asset enum을 실제 금액 범위로 변환
-        long memberAssetValue = convertAssetToValue(memberAsset);
-        
-        // 선호 범위 내에 있는 경우
-        if (memberAssetValue >= preferredMin && memberAssetValue <= preferredMax) {
-            log.debug("자산 {}가 선호 범위({}-{}) 내에 있음. 보너스 점수.", 
-                      memberAsset, preferredMin, preferredMax);
-            return PERFECT_SCORE;
-        }
-        
-        // 선호 범위보다 높은 경우 (약간의 보너스)
-        if (memberAssetValue > preferredMax) {
-            long excess = memberAssetValue - preferredMax;
-            long excessLevels = excess / 100_000_000; // 1억 단위로 계산
-            double score = Math.max(DEFAULT_SCORE, 
-                                  PERFECT_SCORE - (excessLevels * ASSET_ABOVE_PENALTY_PER_LEVEL));
-            log.debug("자산 {}가 선호 범위보다 높음. 초과: {}억, 점수: {}", 
-                      memberAsset, excessLevels, score);
-            return score;
+
+    private static void scoreRange(ScoringPlan plan, MaleCandidateSnapshot candidates, long[] eligible,
+                                   double[] scores, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (eligible == null || (eligible[index >>> 6] & (1L << index)) != 0) {
+                scores[index] = plan.score(candidates, index);
+            }
         }
-        
-        // 선호 범위보다 낮은 경우
-        long shortfall = preferredMin - memberAssetValue;
-        long shortfallLevels = shortfall / 100_000_000; // 1억 단위로 계산
-        double score = Math.max(MIN_SCORE, 
-                              PERFECT_SCORE - (shortfallLevels * ASSET_BELOW_PENALTY_PER_LEVEL));
-        log.debug("자산 {}가 선호 범위보다 낮음. 부족: {}억, 점수: {}", 
-                  memberAsset, shortfallLevels, score);
-        return score;
     }
-    
-    /**
-     * Asset enum을 실제 금액(중간값)으로 변환합니다.
-     */
-    private long convertAssetToValue(Asset asset) {
-        return switch (asset) {
-            case UNDER_100M -> 50_000_000L;           // 5천만원 (중간값)
-            case BETWEEN_100M_300M -> 200_000_000L;   // 2억원 (중간값)
-            case BETWEEN_300M_500M -> 400_000_000L;   // 4억원 (중간값)
-            case BETWEEN_500M_1B -> 750_000_000L;     // 7.5억원 (중간값)
-            case OVER_1B -> 1_500_000_000L;           // 15억원 (추정값)
-        };
-    }
-    
-    /**
-     * 외모 스타일 매칭 점수를 계산합니다.
-     * 현재 Member 엔티티에 AppearanceStyle 필드가 없어 기본 점수를 반환합니다.
-     * 향후 Member 엔티티에 appearanceStyle 필드 추가 시 구현 필요.
-     */
-    private double calculateAppearanceScore(MemberPreference preference, Member maleMember) {
-        AppearanceStyle preferredStyle = preference.getPreferredAppearanceStyle();
-        
-        if (preferredStyle == null) {
-            log.debug("선호 외모 스타일 설정 없음. 만점 반환.");
-            return PERFECT_SCORE;
-        }
-        
-        // TODO: Member 엔티티에 AppearanceStyle 필드 추가 후 실제 비교 로직 구현
-        // 현재는 Member에 해당 필드가 없으므로 기본 점수 반환
-        log.debug("Member 엔티티에 외모 스타일 정보 없음. 기본 점수 반환.");
-        return DEFAULT_SCORE;
-        
-        /* 향후 구현 예시:
-        AppearanceStyle memberStyle = maleMember.getAppearanceStyle();
-        if (memberStyle == null) {
-            return DEFAULT_SCORE;
+
+    private static final class ScoreRangeTask extends RecursiveAction {
+
+        private static final int CHUNK_SIZE = 1024;
+
+        private final ScoringPlan plan;
+        private final MaleCandidateSnapshot candidates;
+        private final long[] eligible;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        private ScoreRangeTask(ScoringPlan plan, MaleCandidateSnapshot candidates, long[] eligible,
+                               double[] scores, int from, int to) {
+            this.plan = plan;
+            this.candidates = candidates;
+            this.eligible = eligible;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
         }
-        if (memberStyle == preferredStyle) {
-            return PERFECT_SCORE;
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                scoreRange(plan, candidates, eligible, scores, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new ScoreRangeTask(plan, candidates, eligible, scores, from, middle),
+                    new ScoreRangeTask(plan, candidates, eligible, scores, middle, to)
+            );
         }
-        return DEFAULT_SCORE;
-        */
     }
-    
+
     /**
-     * 직업 매칭 점수를 계산합니다.
-     * JSON으로 저장된 선호/기피 직업 목록을 파싱하여 비교합니다.
-     * 현재 Member 엔티티에 JobType 필드가 없어 기본 점수를 반환합니다.
+     * 여성 회원의 컴파일된 점수 계산 계획을 반환합니다. (회원별 캐시, 현재 사용 중인 가중치 프로필 기준)
      */
-    private double calculateJobScore(MemberPreference preference, Member maleMember) {
-        // TODO: Member 엔티티에 JobType 필드 추가 후 실제 비교 로직 구현
-        // 현재는 Member에 직업 필드가 없으므로 기본 점수 반환
-        log.debug("Member 엔티티에 직업 정보 없음. 기본 점수 반환.");
-        return DEFAULT_SCORE;
-        
-        /* 향후 구현 예시:
-        JobType memberJob = maleMember.getJobType();
-        
-        if (memberJob == null) {
-            log.debug("남성 회원의 직업 정보 없음. 기본 점수 반환.");
-            return DEFAULT_SCORE;
-        }
-        
-        // 기피 직업 목록 확인
-        List<JobType> avoidedJobs = parseJobsFromJson(preference.getAvoidedJobs());
-        if (avoidedJobs.contains(memberJob)) {
-            log.debug("직업 {}가 기피 직업 목록에 포함됨. 최저 점수.", memberJob);
-            return JOB_AVOIDED_SCORE;
-        }
-        
-        // 선호 직업 목록 확인
-        List<JobType> preferredJobs = parseJobsFromJson(preference.getPreferredJobs());
-        if (!preferredJobs.isEmpty() && preferredJobs.contains(memberJob)) {
-            log.debug("직업 {}가 선호 직업 목록에 포함됨. 만점.", memberJob);
-            return JOB_PREFERRED_SCORE;
-        }
-        
-        // 선호/기피 둘 다 아닌 경우
-        log.debug("직업 {}가 중립적. 기본 점수.", memberJob);
-        return JOB_NEUTRAL_SCORE;
-        */
+    public ScoringPlan getScoringPlan(Member femaleMember) {
+        ScoringWeights profile = scoringWeightRegistry.active();
+        return scoringPlanCache.get(femaleMember.getId(), profile, () -> compileScoringPlan(femaleMember, profile));
     }
-    
+
     /**
-     * JSON 문자열로 저장된 직업 목록을 파싱합니다.
+     * 지정한 가중치 프로필로 계획을 컴파일합니다. 사용 중인 프로필이 아니면 캐시에 넣지 않습니다.
      */
-    private List<JobType> parseJobsFromJson(String jobsJson) {
-        if (jobsJson == null || jobsJson.isBlank()) {
-            return Collections.emptyList();
-        }
-        
-        try {
-            return objectMapper.readValue(jobsJson, new TypeReference<List<JobType>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("직업 목록 JSON 파싱 실패: {}", jobsJson, e);
-            return Collections.emptyList();
+    public ScoringPlan getScoringPlan(Member femaleMember, ScoringWeights profile) {
+        if (profile == scoringWeightRegistry.active()) {
+            return getScoringPlan(femaleMember);
         }
+        return compileScoringPlan(femaleMember, profile);
     }
-    
-    /**
-     * 부모님 자산 매칭 점수를 계산합니다.
-     * 현재 Member 엔티티에 ParentAssetLevel 필드가 없어 기본 점수를 반환합니다.
-     * 향후 Member 엔티티에 parentAssetLevel 필드 추가 시 구현 필요.
-     */
-    private double calculateParentAssetScore(MemberPreference preference, Member maleMember) {
-        ParentAssetLevel requirement = preference.getParentAssetRequirement();
-        
-        if (requirement == null || requirement == ParentAssetLevel.NO_CONCERN) {
-            log.debug("부모 자산 요구사항 없음. 만점 반환.");
-            return PERFECT_SCORE;
-        }
-        
-        // TODO: Member 엔티티에 ParentAssetLevel 필드 추가 후 실제 비교 로직 구현
-        // 현재는 Member에 해당 필드가 없으므로 기본 점수 반환
-        log.debug("Member 엔티티에 부모 자산 정보 없음. 기본 점수 반환.");
-        return DEFAULT_SCORE;
-        
-        /* 향후 구현 예시:
-        ParentAssetLevel memberParentAsset = maleMember.getParentAssetLevel();
-        
-        if (memberParentAsset == null) {
-            log.debug("남성 회원의 부모 자산 정보 없음. 최저 점수 반환.");
-            return MIN_SCORE;
-        }
-        
-        // 요구사항에 따른 매칭
-        if (requirement == ParentAssetLevel.OVER_100M) {
-            if (memberParentAsset == ParentAssetLevel.OVER_100M) {
-                return PERFECT_SCORE;
-            }
-            return MIN_SCORE;
-        } else if (requirement == ParentAssetLevel.RETIREMENT_ONLY) {
-            if (memberParentAsset == ParentAssetLevel.OVER_100M || 
-                memberParentAsset == ParentAssetLevel.RETIREMENT_ONLY) {
-                return PERFECT_SCORE;
-            }
-            return DEFAULT_SCORE;
+
+    private ScoringPlan compileScoringPlan(Member femaleMember, ScoringWeights profile) {
+        MemberPreference preference = memberPreferenceRepository.findByMember(femaleMember)
+                .orElse(null);
+
+        if (preference == null) {
+            log.warn("여성 유저 {}의 선호도 정보가 없습니다. 기본 점수 반환.", femaleMember.getId());
+            return ScoringPlan.noPreference();
         }
-        
-        return PERFECT_SCORE;
-        */
+
+        log.debug("점수 계산 계획 컴파일 - 여성 회원: {}, 프로필: {}, P1: {}, P2: {}, P3: {}", femaleMember.getId(),
+                  profile.name(), preference.getPriority1(), preference.getPriority2(), preference.getPriority3());
+
+        return ScoringPlan.compile(preference, profile, femaleMember.getRegion(),
+                embeddingProvider.compatible(femaleMember.getIntroductionEmbedding()));
     }
 
     public String getScoreColorGradient(double score) {
@@ -2,6 +2,7 @@ package masil.backend.modules.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.FemaleMatchingRow;
 import masil.backend.modules.member.dto.response.FemaleMatchingListResponse;
 import masil.backend.modules.member.dto.response.MalePendingMatchingResponse;
 import masil.backend.modules.member.entity.Matching;
@@ -10,13 +11,14 @@ import masil.backend.modules.member.entity.MemberImage;
 import masil.backend.modules.member.enums.Gender;
 import masil.backend.modules.member.enums.MatchingStatus;
 import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.exception.MemberException;
+import masil.backend.modules.member.exception.MemberExceptionType;
 import masil.backend.modules.member.repository.MatchingRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,27 +41,24 @@ public class MatchingService {
             throw new IllegalArgumentException("일본 여성 유저만 매칭 목록을 조회할 수 있습니다.");
         }
 
-        List<Matching> matchings = matchingRepository.findByFemaleMemberIdAndStatusOrderByMatchingOrder(
+        // 화면에 표시할 남성 회원 컬럼까지 한 번에 조회 (남성 회원 지연 로딩 없음)
+        List<FemaleMatchingRow> matchings = matchingRepository.findFemaleMatchingRows(
                 femaleMemberId,
-                MatchingStatus.PENDING_FEMALE_SELECTION
+                List.of(MatchingStatus.PENDING_FEMALE_SELECTION)
         );
 
         // 남성 회원들의 ID 추출
         List<Long> maleMemberIds = matchings.stream()
-                .map(matching -> matching.getMaleMember().getId())
+                .map(FemaleMatchingRow::maleMemberId)
                 .toList();
 
         // 남성 회원들의 이미지를 일괄 조회
-        Map<Long, List<MemberImage>> memberImagesMap = maleMemberIds.stream()
-                .collect(Collectors.toMap(
-                        memberId -> memberId,
-                        memberId -> memberImageLowService.findByMemberId(memberId)
-                ));
+        Map<Long, List<MemberImage>> memberImagesMap = memberImageLowService.findByMemberIds(maleMemberIds);
 
         return matchings.stream()
-                .map(matching -> FemaleMatchingListResponse.from(
-                        matching,
-                        memberImagesMap.get(matching.getMaleMember().getId())
+                .map(row -> FemaleMatchingListResponse.from(
+                        row,
+                        memberImagesMap.get(row.maleMemberId())
                 ))
                 .toList();
     }
@@ -84,24 +83,18 @@ public class MatchingService {
             throw new IllegalArgumentException("선택 대기 중인 매칭만 선택할 수 있습니다.");
         }
 
-        // 같은 여성의 다른 매칭들을 먼저 조회 (선택 전에 조회해야 함)
-        List<Matching> otherMatchings = matchingRepository.findByFemaleMemberIdAndStatusOrderByMatchingOrder(
-                femaleMemberId,
-                MatchingStatus.PENDING_FEMALE_SELECTION
-        );
-
-        // 같은 여성의 다른 매칭들을 거절 상태로 변경
-        otherMatchings.forEach(matching -> {
-            if (!matching.getId().equals(matchingId)) {
-                matching.reject();
-            }
-        });
-
         // 상태 변경 및 알림 전송 (항상 함께 호출되어야 함)
         changeStatusToPendingMaleAcceptance(selectedMatching, femaleMember);
 
-        log.info("여성이 남성 선택: femaleMemberId={}, matchingId={}, selectedMaleId={}",
-                femaleMemberId, matchingId, selectedMatching.getMaleMember().getId()
+        // 같은 여성의 다른 선택 대기 매칭들을 UPDATE 한 번으로 거절
+        int rejectedCount = matchingRepository.rejectByFemaleMemberId(
+                femaleMemberId,
+                List.of(MatchingStatus.PENDING_FEMALE_SELECTION),
+                matchingId
+        );
+
+        log.info("여성이 남성 선택: femaleMemberId={}, matchingId={}, selectedMaleId={}, 거절된 매칭 수={}",
+                femaleMemberId, matchingId, selectedMatching.getMaleMember().getId(), rejectedCount
         );
     }
 
@@ -134,11 +127,7 @@ public class MatchingService {
                 .toList();
 
         // 여성 회원들의 이미지를 일괄 조회
-        Map<Long, List<MemberImage>> memberImagesMap = femaleMemberIds.stream()
-                .collect(Collectors.toMap(
-                        memberId -> memberId,
-                        memberId -> memberImageLowService.findByMemberId(memberId)
-                ));
+        Map<Long, List<MemberImage>> memberImagesMap = memberImageLowService.findByMemberIds(femaleMemberIds);
 
         return matchings.stream()
                 .map(matching -> MalePendingMatchingResponse.from(
@@ -169,14 +158,8 @@ public class MatchingService {
             throw new IllegalArgumentException("수락 대기 중인 매칭만 수락할 수 있습니다.");
         }
 
-        // 같은 남성의 다른 매칭들을 먼저 조회 (수락 전에 조회해야 함)
-        List<Matching> otherMatchings = matchingRepository.findByMaleMemberIdAndStatus(
-                maleMemberId,
-                MatchingStatus.PENDING_MALE_ACCEPTANCE
-        );
-
-        // 매칭 수락
-        matching.acceptByMale();
+        // 매칭 수락 (동시에 두 건을 수락해도 한 요청만 성공)
+        transition(matchingId, MatchingStatus.PENDING_MALE_ACCEPTANCE, MatchingStatus.ACCEPTED);
 
         // 여성 Member를 명시적으로 조회 (Lazy Loading 문제 방지)
         Long femaleMemberId = matching.getFemaleMember().getId();
@@ -200,23 +183,14 @@ public class MatchingService {
             log.warn("여성 상태가 CONNECTING이 아닙니다: femaleMemberId={}, currentStatus={}", femaleMemberId, femaleMember.getStatus());
         }
 
-        // 같은 남성의 다른 매칭들을 거절 상태로 변경하고, 해당 여성들의 상태도 재매칭 가능하도록 변경
-        otherMatchings.forEach(otherMatching -> {
-            if (!otherMatching.getId().equals(matchingId)) {
-                otherMatching.reject();
-                
-                // 거절된 매칭의 여성 상태 변경: CONNECTING → APPROVED (재매칭 가능하도록)
-                Member otherFemaleMember = otherMatching.getFemaleMember();
-                if (otherFemaleMember.getStatus() == MemberStatus.CONNECTING) {
-                    otherFemaleMember.changeStatus(MemberStatus.APPROVED);
-                    log.info("남성 매칭 수락으로 인한 다른 여성 상태 변경: femaleMemberId={}, CONNECTING → APPROVED", otherFemaleMember.getId());
-                }
-            }
-        });
-
-        log.info("남성이 매칭 수락 완료: maleMemberId={}, matchingId={}, femaleMemberId={}, 거절된 매칭 수={}",
-                maleMemberId, matchingId, femaleMember.getId(),
-                otherMatchings.size() - 1);
+        // 같은 남성의 다른 수락 대기 매칭의 여성들을 재매칭 가능하도록 변경(CONNECTING → APPROVED)한 뒤 매칭을 거절
+        // (여성 조회 조건에 매칭 상태가 쓰이므로 거절보다 먼저 실행, 매칭 수와 관계없이 UPDATE 두 번)
+        List<MatchingStatus> pendingStatuses = List.of(MatchingStatus.PENDING_MALE_ACCEPTANCE);
+        int releasedFemaleCount = memberLowService.releaseFemalesMatchedWith(maleMemberId, pendingStatuses, matchingId);
+        int rejectedCount = matchingRepository.rejectByMaleMemberId(maleMemberId, pendingStatuses, matchingId);
+
+        log.info("남성이 매칭 수락 완료: maleMemberId={}, matchingId={}, femaleMemberId={}, 거절된 매칭 수={}, 재매칭 가능 여성 수={}",
+                maleMemberId, matchingId, femaleMember.getId(), rejectedCount, releasedFemaleCount);
     }
     //commit
 
@@ -241,8 +215,8 @@ public class MatchingService {
             throw new IllegalArgumentException("수락 대기 중인 매칭만 거절할 수 있습니다.");
         }
 
-        // 매칭 거절
-        matching.reject();
+        // 매칭 거절 (수락과 동시에 들어와도 한 요청만 성공)
+        transition(matchingId, MatchingStatus.PENDING_MALE_ACCEPTANCE, MatchingStatus.REJECTED);
 
         // 남성 상태 변경: CONNECTING → APPROVED (재매칭 가능하도록)
         if (maleMember.getStatus() == MemberStatus.CONNECTING) {
@@ -278,7 +252,7 @@ public class MatchingService {
                 MatchingStatus.REJECTED
         );
 
-        List<Matching> matchings = matchingRepository.findByFemaleMemberIdAndStatusIn(
+        List<FemaleMatchingRow> matchings = matchingRepository.findFemaleMatchingRows(
                 femaleMemberId,
                 statuses
         );
@@ -287,20 +261,16 @@ public class MatchingService {
 
         // 남성 회원들의 ID 추출
         List<Long> maleMemberIds = matchings.stream()
-                .map(matching -> matching.getMaleMember().getId())
+                .map(FemaleMatchingRow::maleMemberId)
                 .toList();
 
         // 남성 회원들의 이미지를 일괄 조회
-        Map<Long, List<MemberImage>> memberImagesMap = maleMemberIds.stream()
-                .collect(Collectors.toMap(
-                        memberId -> memberId,
-                        memberId -> memberImageLowService.findByMemberId(memberId)
-                ));
+        Map<Long, List<MemberImage>> memberImagesMap = memberImageLowService.findByMemberIds(maleMemberIds);
 
         return matchings.stream()
-                .map(matching -> FemaleMatchingListResponse.from(
-                        matching,
-                        memberImagesMap.get(matching.getMaleMember().getId())
+                .map(row -> FemaleMatchingListResponse.from(
+                        row,
+                        memberImagesMap.get(row.maleMemberId())
                 ))
                 .toList();
     }
@@ -321,32 +291,18 @@ public class MatchingService {
                 MatchingStatus.ACCEPTED
         );
         
-        List<Matching> allMatchings = matchingRepository.findByFemaleMemberIdAndStatusIn(
-                femaleMemberId,
-                statuses
-        );
+        // 상대 남성들을 재매칭 가능하도록 변경(CONNECTING → APPROVED)한 뒤 매칭을 거절
+        // (남성 조회 조건에 매칭 상태가 쓰이므로 거절보다 먼저 실행, 매칭 수와 관계없이 UPDATE 두 번)
+        int releasedMaleCount = memberLowService.releaseMalesMatchedWith(femaleMemberId, statuses, null);
+        int rejectedCount = matchingRepository.rejectByFemaleMemberId(femaleMemberId, statuses, null);
 
-        if (allMatchings.isEmpty()) {
+        if (rejectedCount == 0) {
             log.info("거절할 매칭이 없습니다: femaleMemberId={}", femaleMemberId);
             return;
         }
 
-        log.info("여성이 매칭 거절 시작: femaleMemberId={}, 거절할 매칭 수={}", femaleMemberId, allMatchings.size());
-
-        // 모든 매칭 거절 및 각 남성의 상태 변경
-        for (Matching matching : allMatchings) {
-            // 매칭 거절
-            matching.reject();
-            
-            // 해당 남성의 상태 변경: CONNECTING → APPROVED (재매칭 가능하도록)
-            Member maleMember = matching.getMaleMember();
-            if (maleMember.getStatus() == MemberStatus.CONNECTING) {
-                maleMember.changeStatus(MemberStatus.APPROVED);
-                log.info("여성 매칭 거절로 인한 남성 상태 변경: maleMemberId={}, CONNECTING → APPROVED", maleMember.getId());
-            }
-            
-            log.info("매칭 거절 완료: matchingId={}, maleMemberId={}", matching.getId(), maleMember.getId());
-        }
+        log.info("여성 매칭 거절로 인한 남성 상태 변경: femaleMemberId={}, CONNECTING → APPROVED {}명",
+                femaleMemberId, releasedMaleCount);
 
         // 여성 상태 변경: CONNECTING → APPROVED (재매칭 가능하도록)
         if (femaleMember.getStatus() == MemberStatus.CONNECTING) {
@@ -354,33 +310,37 @@ public class MatchingService {
             log.info("여성 매칭 거절로 인한 상태 변경: femaleMemberId={}, CONNECTING → APPROVED", femaleMemberId);
         }
 
-        log.info("여성이 모든 매칭 거절 완료: femaleMemberId={}, 총 거절된 매칭 수={}", femaleMemberId, allMatchings.size());
+        log.info("여성이 모든 매칭 거절 완료: femaleMemberId={}, 총 거절된 매칭 수={}", femaleMemberId, rejectedCount);
     }
 
     //매칭 상태를 PENDING_MALE_ACCEPTANCE로 변경하고 알림 전송 메서드
     private void changeStatusToPendingMaleAcceptance(Matching matching, Member femaleMember) {
-        // 상태 변경
-        matching.selectByFemale();
+        // 상태 변경 (전환에 성공한 요청만 알림을 보냄)
+        transition(matching.getId(), MatchingStatus.PENDING_FEMALE_SELECTION, MatchingStatus.PENDING_MALE_ACCEPTANCE);
         // 상태 변경 후 알림 전송 (항상 함께 실행됨)
         sendNotificationForPendingMaleAcceptance(matching, femaleMember);
     }
 
-    //PENDING_MALE_ACCEPTANCE 상태로 변경된 매칭에 대해 남성에게 푸시 알림 전송
-    private void sendNotificationForPendingMaleAcceptance(Matching matching, Member femaleMember) {
-        // 상태 확인 (안전장치)
-        if (matching.getStatus() != MatchingStatus.PENDING_MALE_ACCEPTANCE) {
-            log.warn("매칭 상태가 PENDING_MALE_ACCEPTANCE가 아닙니다. 알림을 전송하지 않습니다. matchingId={}, status={}",
-                    matching.getId(), matching.getStatus());
-            return;
+    /**
+     * 매칭 상태를 조건부 UPDATE 로 전환합니다. 현재 상태가 expected 가 아니면(다른 요청이 먼저 전환함) 409 입니다.
+     * 전환한 매칭 엔티티는 영속성 컨텍스트에 이전 상태로 남아 있으므로, 이후 이 매칭의 getStatus() 는 사용하지 않습니다.
+     */
+    private void transition(Long matchingId, MatchingStatus expected, MatchingStatus next) {
+        if (matchingRepository.compareAndSetStatus(matchingId, expected, next) == 0) {
+            log.warn("매칭 상태 전환 충돌: matchingId={}, expected={}, next={}", matchingId, expected, next);
+            throw new MemberException(MemberExceptionType.MATCHING_ALREADY_PROCESSED);
         }
+    }
 
+    //PENDING_MALE_ACCEPTANCE 상태로 변경된 매칭에 대해 남성에게 푸시 알림 전송
+    private void sendNotificationForPendingMaleAcceptance(Matching matching, Member femaleMember) {
         Member maleMember = matching.getMaleMember();
         if (maleMember.getFcmToken() != null && !maleMember.getFcmToken().isBlank()) {
             String title = "매칭 알림";
             String body = String.format("%s님이 당신을 선택했습니다. 수락하시겠습니까?", femaleMember.getName());
             fcmService.sendPushNotification(maleMember.getFcmToken(), title, body);
-            log.info("매칭 상태 변경 알림 전송: matchingId={}, status={}, maleMemberId={}, femaleMemberId={}",
-                    matching.getId(), matching.getStatus(), maleMember.getId(), femaleMember.getId());
+            log.info("매칭 상태 변경 알림 전송: matchingId={}, maleMemberId={}, femaleMemberId={}",
+                    matching.getId(), maleMember.getId(), femaleMember.getId());
         } else {
             log.warn("FCM 토큰이 없어 알림을 전송할 수 없습니다: maleMemberId={}", maleMember.getId());
         }
@@ -0,0 +1,82 @@
+package masil.backend.modules.member.service;
+
+/**
+ * MBTI 를 4비트 값으로 다룹니다. (비트 3 → 0 = E/I, N/S, T/F, J/P 축, 1 이면 앞 글자 E·N·T·J)
+ * 선호도는 같은 배치의 값과, 상관없음(X)이 아닌 축만 1인 마스크로 나타내며
+ * 일치하는 축 수는 popcount(~(type ^ preferred) & mask) 입니다.
+ */
+public final class MbtiCode {
+
+    public static final int AXES = 4;
+
+    private static final String FIRST_LETTERS = "ENTJ";
+    private static final String SECOND_LETTERS = "ISFP";
+    private static final char DONT_CARE = 'X';
+
+    private MbtiCode() {
+    }
+
+    /**
+     * "ENTJ" 같은 네 글자 유형을 4비트 값으로 변환합니다. 비어 있거나 형식이 다르면 ScoringPlan.NO_VALUE 입니다.
+     */
+    public static int pack(String type) {
+        if (type == null || type.length() != AXES) {
+            return ScoringPlan.NO_VALUE;
+        }
+        int bits = 0;
+        for (int axis = 0; axis < AXES; axis++) {
+            char letter = type.charAt(axis);
+            if (letter == FIRST_LETTERS.charAt(axis)) {
+                bits |= bit(axis);
+            } else if (letter != SECOND_LETTERS.charAt(axis)) {
+                return ScoringPlan.NO_VALUE;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 축별 선호("E"/"I"/"X" 등)를 4비트 값으로 변환합니다. 상관없음 축은 0 입니다.
+     */
+    public static int preferenceBits(String... axes) {
+        int bits = 0;
+        for (int axis = 0; axis < AXES; axis++) {
+            if (letter(axes, axis) == FIRST_LETTERS.charAt(axis)) {
+                bits |= bit(axis);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 축별 선호에서 상관없음(X)이 아닌 축만 1인 마스크를 만듭니다.
+     */
+    public static int preferenceMask(String... axes) {
+        int mask = 0;
+        for (int axis = 0; axis < AXES; axis++) {
+            char letter = letter(axes, axis);
+            if (letter == FIRST_LETTERS.charAt(axis) || letter == SECOND_LETTERS.charAt(axis)) {
+                mask |= bit(axis);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 마스크 안에서 유형과 선호가 일치하는 축 수
+     */
+    public static int matchingAxes(int type, int preferredBits, int mask) {
+        return Integer.bitCount(~(type ^ preferredBits) & mask);
+    }
+
+    private static char letter(String[] axes, int axis) {
+        if (axes == null || axis >= axes.length || axes[axis] == null || axes[axis].isEmpty()) {
+            return DONT_CARE;
+        }
+        return axes[axis].charAt(0);
+    }
+
+    private static int bit(int axis) {
+        return 1 << (AXES - 1 - axis);
+    }
+}
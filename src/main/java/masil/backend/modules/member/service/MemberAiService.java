@@ -2,11 +2,9 @@ package masil.backend.modules.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import masil.backend.modules.member.entity.Member;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -15,8 +13,9 @@ public class MemberAiService {
     private final ChatClient.Builder chatClientBuilder;
     private final MemberLowService memberLowService;
 
+    // 자기소개를 저장한 트랜잭션이 커밋된 뒤에 호출해야 함
+    // GPT 호출 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 요약하고, 저장만 MemberLowService 에서 짧게 함
     @Async
-    @Transactional
     public void generateMemberSummary(final Long memberId, final String otherInfo) {
         try {
             log.info("AI 요약 생성 시작 - memberId: {}", memberId);
@@ -35,9 +34,10 @@ public class MemberAiService {
             final String aiSummaryJp = callGptApi(japanesePrompt);
 
             // 회원 정보 업데이트
-            final Member member = memberLowService.getValidateExistMemberById(memberId);
-            member.updateAiSummary(aiSummaryKr);
-            member.updateAiSummaryJp(aiSummaryJp);
+            if (!memberLowService.updateAiSummary(memberId, otherInfo, aiSummaryKr, aiSummaryJp)) {
+                log.info("자기소개가 바뀌어 AI 요약 저장 생략 - memberId: {}", memberId);
+                return;
+            }
 
             log.info("AI 요약 생성 완료 - memberId: {}, summaryKr: {}, summaryJp: {}",
                     memberId, aiSummaryKr, aiSummaryJp);
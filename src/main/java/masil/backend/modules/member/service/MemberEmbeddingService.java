@@ -0,0 +1,43 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 자기소개(otherInfo) 임베딩을 만들어 회원에 저장합니다.
+ * 남성의 임베딩은 엔티티 리스너를 통해 후보 인덱스와 임베딩 색인에 반영되고,
+ * 여성의 임베딩은 본인의 점수 계산 계획에 들어가므로 계획과 점수 행을 무효화합니다.
+ * 임베딩 계산 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 임베딩하고, 저장만 MemberLowService 에서 짧게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberEmbeddingService {
+    private final EmbeddingProvider embeddingProvider;
+    private final MemberLowService memberLowService;
+    private final ScoringPlanCache scoringPlanCache;
+    private final MatchingScoreMatrix matchingScoreMatrix;
+
+    // 자기소개를 저장한 트랜잭션이 커밋된 뒤에 호출해야 함
+    @Async
+    public void generateIntroductionEmbedding(final Long memberId, final String otherInfo) {
+        try {
+            // 자기소개가 비어 있으면 null 이 저장되어 성격 점수는 기본 점수가 됨
+            final float[] embedding = embeddingProvider.embed(otherInfo);
+
+            if (!memberLowService.updateIntroductionEmbedding(memberId, otherInfo, embedding)) {
+                log.info("자기소개가 바뀌어 임베딩 저장 생략 - memberId: {}", memberId);
+                return;
+            }
+
+            scoringPlanCache.evict(memberId);
+            matchingScoreMatrix.evict(memberId);
+            log.info("자기소개 임베딩 생성 완료 - memberId: {}, 차원: {}", memberId,
+                    embedding != null ? embedding.length : 0);
+        } catch (Exception e) {
+            log.error("자기소개 임베딩 생성 실패 - memberId: {}", memberId, e);
+        }
+    }
+}
@@ -7,7 +7,11 @@ import masil.backend.modules.member.repository.MemberImageRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,4 +39,19 @@ public class MemberImageLowService {
     public List<MemberImage> findByMemberId(final Long memberId) {
         return memberImageRepository.findByMemberIdOrderByDisplayOrder(memberId);
     }
+
+    /**
+     * 여러 회원의 이미지를 쿼리 한 번으로 조회하여 회원 ID 별 표시 순서 목록으로 묶습니다.
+     * 이미지가 없는 회원도 빈 목록으로 포함됩니다.
+     */
+    public Map<Long, List<MemberImage>> findByMemberIds(final Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<Long, List<MemberImage>> memberImagesMap = new HashMap<>(memberImageRepository
+                .findByMemberIdInOrderByMemberIdAscDisplayOrderAsc(memberIds).stream()
+                .collect(Collectors.groupingBy(image -> image.getMember().getId())));
+        memberIds.forEach(memberId -> memberImagesMap.putIfAbsent(memberId, List.of()));
+        return memberImagesMap;
+    }
 }
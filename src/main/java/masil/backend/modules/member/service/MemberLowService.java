@@ -9,6 +9,7 @@ import masil.backend.modules.member.enums.Asset;
 import masil.backend.modules.member.enums.DrinkingFrequency;
 import masil.backend.modules.member.enums.Education;
 import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MatchingStatus;
 import masil.backend.modules.member.enums.MemberStatus;
 import masil.backend.modules.member.enums.Provider;
 import masil.backend.modules.member.dto.response.OAuth2UserInfo;
@@ -21,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 import masil.backend.modules.member.dto.OAuth2TempUserInfo;
 import masil.backend.modules.member.dto.request.CompleteOAuth2ProfileRequest;
 
+import java.util.Collection;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -106,13 +110,14 @@ public class MemberLowService {
             final Religion religion,
             final Education education,
             final Asset asset,
+            final String mbti,
             final String otherInfo,
             final String thumbnailImageUrl
     ) {
         member.updateProfile(
                 name, gender, height, weight, residenceArea,
                 smokingStatus, drinkingFrequency, religion,
-                education, asset, otherInfo, thumbnailImageUrl
+                education, asset, mbti, otherInfo, thumbnailImageUrl
         );
     }
 
@@ -121,4 +126,49 @@ public class MemberLowService {
         final Member member = getValidateExistMemberById(memberId);
         memberRepository.delete(member);
     }
+
+    // 자기소개 임베딩 기록 (기록했으면 true)
+    // 임베딩한 자기소개가 그 사이 바뀌었으면 새 자기소개의 임베딩을 덮어쓰지 않도록 기록하지 않음
+    @Transactional
+    public boolean updateIntroductionEmbedding(final Long memberId, final String otherInfo, final float[] embedding) {
+        final Member member = memberRepository.findByIdForUpdate(memberId)
+                .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+        if (!Objects.equals(member.getOtherInfo(), otherInfo)) {
+            return false;
+        }
+        member.updateIntroductionEmbedding(embedding);
+        return true;
+    }
+
+    // 자기소개 AI 요약 기록 (기록했으면 true)
+    // 행 잠금으로 임베딩 기록과 차례로 실행되므로 두 비동기 작업이 @Version 충돌로 결과를 잃지 않음
+    @Transactional
+    public boolean updateAiSummary(final Long memberId, final String otherInfo,
+                                   final String aiSummary, final String aiSummaryJp) {
+        final Member member = memberRepository.findByIdForUpdate(memberId)
+                .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+        if (!Objects.equals(member.getOtherInfo(), otherInfo)) {
+            return false;
+        }
+        member.updateAiSummary(aiSummary);
+        member.updateAiSummaryJp(aiSummaryJp);
+        return true;
+    }
+
+    // 여성의 매칭 상대 남성들을 재매칭 가능하도록 CONNECTING → APPROVED 로 일괄 변경 (변경된 회원 수 반환)
+    // 엔티티 리스너를 거치지 않지만, 두 상태 모두 매칭 후보이고 후보 속성에 상태가 없으므로 후보 인덱스 갱신은 필요 없음
+    @Transactional
+    public int releaseMalesMatchedWith(final Long femaleMemberId, final Collection<MatchingStatus> matchingStatuses,
+                                       final Long exceptMatchingId) {
+        return memberRepository.changeStatusOfMatchedMales(femaleMemberId, matchingStatuses, exceptMatchingId,
+                MemberStatus.CONNECTING, MemberStatus.APPROVED);
+    }
+
+    // 남성의 매칭 상대 여성들을 재매칭 가능하도록 CONNECTING → APPROVED 로 일괄 변경 (변경된 회원 수 반환)
+    @Transactional
+    public int releaseFemalesMatchedWith(final Long maleMemberId, final Collection<MatchingStatus> matchingStatuses,
+                                         final Long exceptMatchingId) {
+        return memberRepository.changeStatusOfMatchedFemales(maleMemberId, matchingStatuses, exceptMatchingId,
+                MemberStatus.CONNECTING, MemberStatus.APPROVED);
+    }
 }
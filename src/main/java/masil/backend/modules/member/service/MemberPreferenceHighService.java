@@ -10,12 +10,15 @@ import masil.backend.modules.member.dto.response.MemberPreferenceResponse;
 import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.entity.MemberImage;
 import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.JobType;
 import masil.backend.modules.member.enums.MemberStatus;
 import masil.backend.modules.member.enums.PreferenceCategory;
 import masil.backend.modules.member.enums.Religion;
 import masil.backend.modules.member.exception.MemberException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +27,7 @@ public class MemberPreferenceHighService {
     private final MemberPreferenceLowService memberPreferenceLowService;
     private final MemberLowService memberLowService;
     private final MemberAiService memberAiService;
+    private final MemberEmbeddingService memberEmbeddingService;
     private final MemberImageLowService memberImageLowService;
 
     public void saveMemberPreference(
@@ -38,7 +42,7 @@ public class MemberPreferenceHighService {
                 request.gender(), request.height(), request.weight(),
                 request.residenceArea(), request.smokingStatus(), request.drinkingFrequency(),
                 request.religion(), request.education(), request.asset(),
-                request.otherInfo(), request.thumbnailImageUrl()
+                request.mbti(), request.otherInfo(), request.thumbnailImageUrl()
         );
 
         memberImageLowService.deleteAllByMemberId(memberId);
@@ -47,22 +51,29 @@ public class MemberPreferenceHighService {
         validatePriorityDuplication(request.priority1(), request.priority2(), request.priority3());
 
         final Integer avoidReligionsBitmask = Religion.toBitmask(request.avoidReligions());
-        final String preferredJobsJson = memberPreferenceLowService.convertJobListToJson(request.preferredJobs());
-        final String avoidedJobsJson = memberPreferenceLowService.convertJobListToJson(request.avoidedJobs());
+        final Long preferredJobsBitmask = JobType.toBitmask(request.preferredJobs());
+        final Long avoidedJobsBitmask = JobType.toBitmask(request.avoidedJobs());
 
         memberPreferenceLowService.saveOrUpdateMemberPreference(
                 member,
                 request.preferredHeightMin(), request.preferredHeightMax(),
                 avoidReligionsBitmask, request.preferredEducationLevel(), request.preferredAppearanceStyle(),
                 request.parentAssetRequirement(), request.preferredAssetMin(), request.preferredAssetMax(),
-                preferredJobsJson, avoidedJobsJson,
+                preferredJobsBitmask, avoidedJobsBitmask,
                 request.mbti1(), request.mbti2(), request.mbti3(), request.mbti4(),
-                request.priority1(), request.priority2(), request.priority3()
+                request.priority1(), request.priority2(), request.priority3(),
+                PreferenceCategory.toBitmask(request.mustSatisfy())
         );
 
         member.changeStatus(MemberStatus.PENDING_APPROVAL);
 
-        memberAiService.generateMemberSummary(memberId, request.otherInfo());
+        // 자기소개로 만드는 요약과 임베딩은 커밋된 회원에 기록해야 하므로 커밋 후에 시작
+        // (요청 트랜잭션과 같은 행을 고치면 @Version 충돌로 저장이나 결과 중 하나가 실패함)
+        final String otherInfo = request.otherInfo();
+        afterCommit(() -> {
+            memberAiService.generateMemberSummary(memberId, otherInfo);
+            memberEmbeddingService.generateIntroductionEmbedding(memberId, otherInfo);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -85,4 +96,17 @@ public class MemberPreferenceHighService {
             throw new MemberException(MEMBER_PRIORITY_DUPLICATE_ERROR);
         }
     }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
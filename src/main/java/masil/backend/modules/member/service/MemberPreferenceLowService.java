@@ -1,23 +1,16 @@
 package masil.backend.modules.member.service;
 
-import static masil.backend.global.error.GeneralExceptionType.FAILED_TO_CONVERT_JSON;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import masil.backend.global.error.GeneralException;
 import masil.backend.modules.member.entity.Member;
 import masil.backend.modules.member.entity.MemberPreference;
 import masil.backend.modules.member.enums.AppearanceStyle;
 import masil.backend.modules.member.enums.EducationLevel;
-import masil.backend.modules.member.enums.JobType;
 import masil.backend.modules.member.enums.ParentAssetLevel;
 import masil.backend.modules.member.enums.PreferenceCategory;
 import masil.backend.modules.member.repository.MemberPreferenceRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -25,23 +18,13 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MemberPreferenceLowService {
     private final MemberPreferenceRepository memberPreferenceRepository;
-    private final ObjectMapper objectMapper;
+    private final ScoringPlanCache scoringPlanCache;
+    private final MatchingScoreMatrix matchingScoreMatrix;
 
     public Optional<MemberPreference> findByMemberId(final Long memberId) {
         return memberPreferenceRepository.findByMemberId(memberId);
     }
 
-    public String convertJobListToJson(final List<JobType> jobs) {
-        if (jobs == null || jobs.isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(jobs);
-        } catch (JsonProcessingException e) {
-            throw new GeneralException(FAILED_TO_CONVERT_JSON);
-        }
-    }
-
     @Transactional
     public void saveOrUpdateMemberPreference(
             final Member member,
@@ -53,25 +36,27 @@ public class MemberPreferenceLowService {
             final ParentAssetLevel parentAssetRequirement,
             final Long preferredAssetMin,
             final Long preferredAssetMax,
-            final String preferredJobsJson,
-            final String avoidedJobsJson,
+            final Long preferredJobsBitmask,
+            final Long avoidedJobsBitmask,
             final String mbti1,
             final String mbti2,
             final String mbti3,
             final String mbti4,
             final PreferenceCategory priority1,
             final PreferenceCategory priority2,
-            final PreferenceCategory priority3
+            final PreferenceCategory priority3,
+            final Integer mustSatisfyBitmask
     ) {
         final Optional<MemberPreference> existingPreference = findByMemberId(member.getId());
 
         if (existingPreference.isPresent()) {
             // 수정
+            existingPreference.get().changeMustSatisfy(mustSatisfyBitmask);
             existingPreference.get().updatePreference(
                     preferredHeightMin, preferredHeightMax,
                     avoidReligionsBitmask, preferredEducationLevel, preferredAppearanceStyle,
                     parentAssetRequirement, preferredAssetMin, preferredAssetMax,
-                    preferredJobsJson, avoidedJobsJson,
+                    preferredJobsBitmask, avoidedJobsBitmask,
                     mbti1, mbti2, mbti3, mbti4
             );
         } else {
@@ -81,11 +66,17 @@ public class MemberPreferenceLowService {
                     preferredHeightMin, preferredHeightMax,
                     avoidReligionsBitmask, preferredEducationLevel, preferredAppearanceStyle,
                     parentAssetRequirement, preferredAssetMin, preferredAssetMax,
-                    preferredJobsJson, avoidedJobsJson,
+                    preferredJobsBitmask, avoidedJobsBitmask,
                     mbti1, mbti2, mbti3, mbti4,
                     priority1, priority2, priority3
             );
+            preference.changeMustSatisfy(mustSatisfyBitmask);
             memberPreferenceRepository.save(preference);
         }
+
+        // 선호도가 바뀌었으므로 컴파일된 점수 계산 계획 무효화
+        scoringPlanCache.evict(member.getId());
+        // 이 회원의 점수 행과 상위 후보 목록만 버림 (다른 여성의 목록은 그대로)
+        matchingScoreMatrix.evict(member.getId());
     }
 }
@@ -0,0 +1,23 @@
+package masil.backend.modules.member.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임베딩을 만들지 않는 제공자입니다. 실제 임베딩 API 가 설정되지 않았을 때의 기본값이며,
+ * 모든 회원의 임베딩이 비어 있으므로 성격 점수는 항상 기본 점수이고 유사 후보 조회는 빈 결과입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "matching.embedding.provider", havingValue = "none", matchIfMissing = true)
+public class NoOpEmbeddingProvider implements EmbeddingProvider {
+
+    @Override
+    public int dimension() {
+        return 0;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return null;
+    }
+}
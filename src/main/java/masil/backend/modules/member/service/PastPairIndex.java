@@ -0,0 +1,176 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.MatchingPair;
+import masil.backend.modules.member.enums.PastPairPolicy;
+import masil.backend.modules.member.repository.MatchingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * 여성 회원별로 과거에 매칭된 적 있는 남성 회원 ID 를 정렬된 long[] 로 보관하는 메모리 인덱스입니다.
+ * 첫 조회 시 매칭 이력 전체를 프로젝션 쿼리 한 번으로 적재하고, 이후에는 매칭 생성이 커밋될 때마다 해당 여성의 배열만 교체합니다.
+ * 여성 한 명의 과거 쌍은 많아야 수십 개이므로 후보마다 쿼리하는 대신 배열 이진 탐색으로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PastPairIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final MatchingRepository matchingRepository;
+
+    // 순위 조회 시 정책을 지정하지 않으면 사용할 기본 정책
+    @Value("${matching.past-pairs.policy:EXCLUDE}")
+    private PastPairPolicy defaultPolicy;
+
+    private volatile Map<Long, long[]> pairs;
+
+    // 적재 쿼리는 한 번에 하나만 실행 (record 는 이 잠금을 기다리지 않음)
+    private final Object loadLock = new Object();
+
+    // 적재 쿼리가 도는 동안 커밋된 쌍, 적재가 끝나면 합침 (this 로 보호, 적재 중이 아니면 null)
+    private List<PendingPairs> pending;
+
+    public PastPairPolicy defaultPolicy() {
+        return defaultPolicy;
+    }
+
+    /**
+     * 여성 회원과 과거에 매칭된 남성 회원 ID (오름차순, 없으면 빈 배열)
+     */
+    public long[] maleIdsFor(Long femaleMemberId) {
+        return loaded().getOrDefault(femaleMemberId, NONE);
+    }
+
+    /**
+     * 새 매칭 쌍을 기록합니다. 트랜잭션이 커밋된 후에 인덱스에 반영됩니다.
+     */
+    public void record(Long femaleMemberId, Collection<Long> maleMemberIds) {
+        long[] added = maleMemberIds.stream().mapToLong(Long::longValue).toArray();
+        afterCommit(() -> {
+            Map<Long, long[]> current;
+            synchronized (this) {
+                current = pairs;
+                if (current == null) {
+                    // 적재 중이면 쿼리가 이 쌍을 못 읽었을 수 있으므로 모아 두었다가 합치고,
+                    // 적재 전이면 첫 조회 시 DB 에서 최신 이력을 읽으므로 반영할 필요 없음
+                    if (pending != null) {
+                        pending.add(new PendingPairs(femaleMemberId, added));
+                    }
+                    return;
+                }
+            }
+            merge(current, femaleMemberId, added);
+        });
+    }
+
+    public static boolean contains(long[] pastMaleIds, long maleMemberId) {
+        return pastMaleIds.length > 0 && Arrays.binarySearch(pastMaleIds, maleMemberId) >= 0;
+    }
+
+    /**
+     * 점수순으로 정렬된 후보 ID 에 정책을 적용하여 [offset, end) 구간에 들어갈 후보의 위치(rankedIds 의 인덱스)를 반환합니다.
+     * 호출자는 과거 쌍 수만큼 더 많은 후보(end + pastMaleIds.length)를 넘겨야 제외 후에도 end 명이 남습니다.
+     *
+     * @param exhausted rankedIds 가 조건을 통과한 후보 전체인지 여부 (DEMOTE 는 이때만 과거 쌍을 맨 뒤에 붙임)
+     */
+    public static int[] arrange(long[] rankedIds, long[] pastMaleIds, PastPairPolicy policy,
+                                boolean exhausted, int offset, int end) {
+        List<Integer> fresh = new ArrayList<>();
+        List<Integer> past = new ArrayList<>();
+        for (int rank = 0; rank < rankedIds.length; rank++) {
+            if (policy != PastPairPolicy.INCLUDE && contains(pastMaleIds, rankedIds[rank])) {
+                past.add(rank);
+            } else {
+                fresh.add(rank);
+            }
+        }
+        if (policy == PastPairPolicy.DEMOTE && exhausted) {
+            fresh.addAll(past);
+        }
+        int to = Math.min(end, fresh.size());
+        if (offset >= to) {
+            return new int[0];
+        }
+        return fresh.subList(offset, to).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private Map<Long, long[]> loaded() {
+        Map<Long, long[]> current = pairs;
+        if (current != null) {
+            return current;
+        }
+        synchronized (loadLock) {
+            if (pairs != null) {
+                return pairs;
+            }
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+
+            try {
+                Map<Long, List<Long>> grouped = new HashMap<>();
+                List<MatchingPair> rows = matchingRepository.findAllPairs();
+                for (MatchingPair row : rows) {
+                    grouped.computeIfAbsent(row.femaleMemberId(), id -> new ArrayList<>()).add(row.maleMemberId());
+                }
+                Map<Long, long[]> next = new ConcurrentHashMap<>();
+                grouped.forEach((femaleMemberId, maleMemberIds) -> next.put(femaleMemberId,
+                        sortedDistinct(maleMemberIds.stream().mapToLong(Long::longValue))));
+
+                // 모아 둔 쌍을 합친 뒤 같은 잠금 안에서 공개하여, 이후 record 는 공개된 맵에 바로 반영
+                synchronized (this) {
+                    for (PendingPairs recorded : pending) {
+                        merge(next, recorded.femaleMemberId(), recorded.maleMemberIds());
+                    }
+                    pairs = next;
+                }
+                log.info("과거 매칭 쌍 인덱스 적재 완료: 여성 수={}, 쌍 수={}", next.size(), rows.size());
+                return next;
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    private static void merge(Map<Long, long[]> target, Long femaleMemberId, long[] maleMemberIds) {
+        target.merge(femaleMemberId, sortedDistinct(LongStream.of(maleMemberIds)),
+                (existing, fresh) -> sortedDistinct(LongStream.concat(LongStream.of(existing), LongStream.of(fresh))));
+    }
+
+    private static long[] sortedDistinct(LongStream ids) {
+        return ids.sorted().distinct().toArray();
+    }
+
+    private record PendingPairs(Long femaleMemberId, long[] maleMemberIds) {
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
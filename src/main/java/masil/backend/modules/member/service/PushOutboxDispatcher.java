@@ -0,0 +1,85 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.dto.PushMessage;
+import masil.backend.modules.member.entity.PushOutbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커밋된 푸시 알림 아웃박스를 주기적으로 읽어 PushSender 로 묶어서 전송하는 작업입니다.
+ * 조회와 결과 반영은 각각 짧은 트랜잭션이며, 전송 중에는 DB 커넥션을 잡지 않습니다.
+ * 조회 시 행을 SENDING 으로 점유하므로 여러 인스턴스가 함께 실행해도 같은 알림을 중복 전송하지 않습니다.
+ * 전송 후 결과 반영 전에 서버가 멈추면 점유가 만료된 뒤 다시 전송하므로 알림은 최소 한 번 전달됩니다.
+ * 완료/실패 알림은 FCM 토큰을 담고 있으므로 보관 기간이 지나면 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxDispatcher {
+
+    private final PushSender pushSender;
+    private final FcmService fcmService;
+
+    // 한 번에 전송할 최대 건수 (FCM 제한 500 을 넘으면 500)
+    @Value("${push.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 완료/실패 알림 보관 일수
+    @Value("${push.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${push.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int size = Math.max(1, Math.min(batchSize, PushSender.MAX_BATCH_SIZE));
+        List<PushOutbox> batch;
+        boolean allDelivered;
+        do {
+            batch = fcmService.claimDue(size);
+            if (batch.isEmpty()) {
+                return;
+            }
+            allDelivered = deliver(batch);
+            // 일시적 실패가 있으면 같은 실행에서 이어 보내지 않고 다음 실행으로 미룸
+        } while (allDelivered && batch.size() == size);
+    }
+
+    @Scheduled(cron = "${push.outbox.cleanup-cron:0 0 4 * * *}")
+    public void cleanUp() {
+        int deleted = fcmService.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 푸시 알림 아웃박스 삭제: {}건", deleted);
+        }
+    }
+
+    // 재시도할 알림이 없으면 true
+    private boolean deliver(List<PushOutbox> batch) {
+        List<PushMessage> messages = batch.stream()
+                .map(outbox -> new PushMessage(outbox.getFcmToken(), outbox.getTitle(), outbox.getBody()))
+                .toList();
+        List<PushSender.Result> results = pushSender.sendEach(messages);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        for (int index = 0; index < batch.size(); index++) {
+            Long outboxId = batch.get(index).getId();
+            switch (results.get(index)) {
+                case SENT -> sentIds.add(outboxId);
+                case RETRY -> retryIds.add(outboxId);
+                case REJECTED -> rejectedIds.add(outboxId);
+            }
+        }
+        fcmService.recordResults(sentIds, retryIds, rejectedIds);
+
+        log.info("푸시 알림 일괄 전송: 전체={}, 성공={}, 재시도={}, 실패={}",
+                batch.size(), sentIds.size(), retryIds.size(), rejectedIds.size());
+        return retryIds.isEmpty();
+    }
+}
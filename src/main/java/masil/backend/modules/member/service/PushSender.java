@@ -0,0 +1,26 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.dto.PushMessage;
+
+import java.util.List;
+
+/**
+ * 푸시 알림을 한 번의 요청으로 여러 건 전송하는 전송기입니다.
+ * 기본 구현은 FCM(FirebasePushSender)이며, push.sender=log 이면 외부 호출 없이 로그만 남깁니다.
+ */
+public interface PushSender {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 메시지를 전송하고 messages 와 같은 순서로 건별 결과를 반환합니다. (최대 MAX_BATCH_SIZE 건)
+     */
+    List<Result> sendEach(List<PushMessage> messages);
+
+    enum Result {
+        SENT,     // 전송 완료
+        RETRY,    // 일시적 실패, 나중에 다시 시도
+        REJECTED  // 다시 보내도 실패 (만료되거나 잘못된 토큰)
+    }
+}
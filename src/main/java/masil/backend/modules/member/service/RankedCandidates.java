@@ -0,0 +1,128 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 여성 회원 한 명의 상위 후보 목록을 점수 내림차순(동점이면 회원 ID 오름차순)으로 담은 불변 배열입니다.
+ * 항상 조건을 통과한 후보 전체 중 앞쪽 size() 명과 정확히 같으며, complete 이면 통과한 후보 전체를 담고 있습니다.
+ * 남성 한 명이 바뀌면 그 회원만 빼고 새 점수 위치에 다시 넣은 새 목록을 만듭니다. (O(size))
+ */
+public final class RankedCandidates {
+
+    private final long[] ids;
+    private final double[] scores;
+    private final boolean complete;
+
+    private RankedCandidates(long[] ids, double[] scores, boolean complete) {
+        this.ids = ids;
+        this.scores = scores;
+        this.complete = complete;
+    }
+
+    /**
+     * 점수 행에서 상위 capacity 명으로 목록을 만듭니다.
+     */
+    public static RankedCandidates of(MaleCandidateSnapshot candidates, double[] rowScores, long[] eligible,
+                                      int capacity) {
+        int[] top = TopKSelector.select(rowScores, eligible, capacity + 1);
+        int size = Math.min(capacity, top.length);
+        long[] ids = new long[size];
+        double[] scores = new double[size];
+        for (int rank = 0; rank < size; rank++) {
+            ids[rank] = candidates.id(top[rank]);
+            scores[rank] = rowScores[top[rank]];
+        }
+        return new RankedCandidates(ids, scores, top.length <= capacity);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int rank) {
+        return ids[rank];
+    }
+
+    public double score(int rank) {
+        return scores[rank];
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 앞쪽 count 명을 정확히 답할 수 있는지 여부입니다.
+     */
+    public boolean covers(int count) {
+        return complete || ids.length >= count;
+    }
+
+    /**
+     * 회원의 점수가 바뀐 목록을 반환합니다. 목록 끝보다 뒤로 밀리면 빠지고, 앞서면 들어오며 넘친 꼬리는 버립니다.
+     */
+    public RankedCandidates update(long memberId, double score, int capacity) {
+        RankedCandidates removed = remove(memberId);
+        int insertAt = removed.insertionPoint(memberId, score);
+        // 목록 밖의 후보는 모두 목록 끝보다 뒤이므로, 끝보다 뒤로 가는 회원은 넣지 않아야 순위가 정확함
+        if (insertAt == removed.ids.length && !removed.complete) {
+            return removed;
+        }
+
+        int size = Math.min(capacity, removed.ids.length + 1);
+        if (insertAt >= size) {
+            // 꽉 찬 전체 목록에 들어갈 자리가 없으면 이제 목록 밖에도 후보가 있음
+            return new RankedCandidates(removed.ids, removed.scores, false);
+        }
+        long[] nextIds = new long[size];
+        double[] nextScores = new double[size];
+        System.arraycopy(removed.ids, 0, nextIds, 0, insertAt);
+        System.arraycopy(removed.scores, 0, nextScores, 0, insertAt);
+        nextIds[insertAt] = memberId;
+        nextScores[insertAt] = score;
+        System.arraycopy(removed.ids, insertAt, nextIds, insertAt + 1, size - insertAt - 1);
+        System.arraycopy(removed.scores, insertAt, nextScores, insertAt + 1, size - insertAt - 1);
+        boolean complete = removed.complete && removed.ids.length + 1 <= capacity;
+        return new RankedCandidates(nextIds, nextScores, complete);
+    }
+
+    /**
+     * 회원을 뺀 목록을 반환합니다. 없으면 자기 자신을 반환합니다.
+     */
+    public RankedCandidates remove(long memberId) {
+        int rank = rankOf(memberId);
+        if (rank < 0) {
+            return this;
+        }
+        long[] nextIds = new long[ids.length - 1];
+        double[] nextScores = new double[ids.length - 1];
+        System.arraycopy(ids, 0, nextIds, 0, rank);
+        System.arraycopy(scores, 0, nextScores, 0, rank);
+        System.arraycopy(ids, rank + 1, nextIds, rank, ids.length - rank - 1);
+        System.arraycopy(scores, rank + 1, nextScores, rank, ids.length - rank - 1);
+        return new RankedCandidates(nextIds, nextScores, complete);
+    }
+
+    private int rankOf(long memberId) {
+        for (int rank = 0; rank < ids.length; rank++) {
+            if (ids[rank] == memberId) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    // 새 점수가 들어갈 위치: 자기보다 앞서는 후보 수
+    private int insertionPoint(long memberId, double score) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compared = Double.compare(scores[middle], score);
+            if (compared > 0 || (compared == 0 && ids[middle] < memberId)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,72 @@
+package masil.backend.modules.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.modules.member.enums.Region;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * region 컬럼 추가 전에 저장된 회원의 거주 지역을 권역으로 채우는 기동 시 보정 작업입니다.
+ * 새로 저장되는 회원은 엔티티에서 바로 정규화되므로, region 이 비어 있는 기존 행만 대상입니다.
+ * 별칭으로 인식할 수 없는 거주 지역은 UNKNOWN 으로 표시하여 다음 기동 때 다시 읽지 않으며, 거리 점수는 기본 점수가 됩니다.
+ * (별칭을 추가한 뒤 UNKNOWN 행을 다시 인식하려면 region 을 NULL 로 되돌리면 됩니다)
+ * 엔티티를 거치지 않는 갱신이므로 version 을 함께 올려, 동시에 같은 회원을 수정한 요청은 낙관적 잠금 충돌로 감지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionBackfill {
+
+    private static final String SELECT_UNRESOLVED_ROWS = """
+            SELECT id, residence_area
+            FROM member
+            WHERE region IS NULL AND residence_area IS NOT NULL
+            """;
+
+    private static final String UPDATE_REGION = """
+            UPDATE member
+            SET region = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoringPlanCache scoringPlanCache;
+    private final MaleCandidateIndex maleCandidateIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_UNRESOLVED_ROWS);
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>();
+        int unknownCount = 0;
+        for (Map<String, Object> row : rows) {
+            Region region = Region.fromResidenceArea((String) row.get("residence_area"));
+            if (region == null) {
+                region = Region.UNKNOWN;
+            }
+            long memberId = ((Number) row.get("id")).longValue();
+            updates.add(new Object[]{region.name(), memberId});
+            memberIds.add(memberId);
+            if (region == Region.UNKNOWN) {
+                unknownCount++;
+            }
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_REGION, updates);
+
+        // 기동 직후 권역 없이 컴파일된 계획과 적재된 후보 행이 있을 수 있으므로 다시 읽게 함
+        memberIds.forEach(scoringPlanCache::evict);
+        maleCandidateIndex.refresh(memberIds);
+        log.info("거주 권역 보정 완료 - {}건 (인식 불가 {}건)", updates.size(), unknownCount);
+    }
+}
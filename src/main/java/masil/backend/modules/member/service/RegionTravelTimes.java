@@ -0,0 +1,48 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.enums.Region;
+
+/**
+ * 권역 간 대표 이동 시간(분)을 Region ordinal 로 인덱싱한 대칭 표입니다.
+ * 권역 중심지 간 일반적인 대중교통/항공 소요 시간을 미리 계산해 둔 근사값이며,
+ * 한국↔일본 구간은 인천·김해 중 빠른 공항 기준으로 공항 이동 + 비행 + 출입국 시간을 더했습니다.
+ * 요청 처리 중에는 지오코딩이나 문자열 비교 없이 이 표만 조회합니다.
+ */
+public final class RegionTravelTimes {
+
+    // 행/열 순서 = Region 선언 순서 (맨 뒤의 UNKNOWN 은 표에 없음)
+    private static final short[][] MINUTES = {
+            { 40,  60, 150, 120, 180, 180, 180, 150, 360, 325, 335, 310, 300, 290, 280, 330},  // SEOUL
+            { 60,  60, 150, 120, 210, 210, 210, 180, 360, 325, 335, 310, 300, 290, 280, 330},  // GYEONGGI
+            {150, 150,  90, 180, 300, 240, 270, 270, 480, 445, 455, 430, 420, 410, 400, 450},  // GANGWON
+            {120, 120, 180,  90, 120, 150, 150, 210, 450, 415, 410, 385, 370, 355, 340, 405},  // CHUNGCHEONG
+            {180, 210, 300, 120,  90, 180, 180, 150, 450, 435, 410, 385, 370, 355, 340, 405},  // JEOLLA
+            {180, 210, 240, 150, 180,  90,  60, 180, 360, 345, 320, 295, 280, 265, 250, 315},  // GYEONGSANG
+            {180, 210, 270, 150, 180,  60,  40, 150, 340, 325, 300, 275, 260, 245, 230, 295},  // BUSAN
+            {150, 180, 270, 210, 150, 180, 150,  60, 420, 405, 380, 355, 340, 325, 310, 375},  // JEJU
+            {360, 360, 480, 450, 450, 360, 340, 420, 120, 180, 210, 240, 240, 270, 270, 300},  // HOKKAIDO
+            {325, 325, 445, 415, 435, 345, 325, 405, 180, 120, 120, 210, 240, 300, 300, 330},  // TOHOKU
+            {335, 335, 455, 410, 410, 320, 300, 380, 210, 120,  60, 120, 150, 240, 240, 240},  // KANTO
+            {310, 310, 430, 385, 385, 295, 275, 355, 240, 210, 120,  90,  90, 180, 240, 270},  // CHUBU
+            {300, 300, 420, 370, 370, 280, 260, 340, 240, 240, 150,  90,  60, 120, 180, 210},  // KANSAI
+            {290, 290, 410, 355, 355, 265, 245, 325, 270, 300, 240, 180, 120, 120, 120, 240},  // CHUGOKU_SHIKOKU
+            {280, 280, 400, 340, 340, 250, 230, 310, 270, 300, 240, 240, 180, 120,  90, 150},  // KYUSHU
+            {330, 330, 450, 405, 405, 315, 295, 375, 300, 330, 240, 270, 210, 240, 150,  60},  // OKINAWA
+    };
+
+    static {
+        if (MINUTES.length != Region.UNKNOWN.ordinal()) {
+            throw new IllegalStateException("권역 이동 시간 표의 크기가 Region 수와 다릅니다.");
+        }
+    }
+
+    private RegionTravelTimes() {
+    }
+
+    /**
+     * 두 권역 사이의 이동 시간(분), UNKNOWN 은 넘기지 않아야 합니다.
+     */
+    public static int minutes(Region from, Region to) {
+        return MINUTES[from.ordinal()][to.ordinal()];
+    }
+}
@@ -0,0 +1,607 @@
+package masil.backend.modules.member.service;
+
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.AppearanceStyle;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Region;
+import masil.backend.modules.member.enums.Religion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 여성 회원의 선호도를 한 번 컴파일해 둔 불변 점수 계산 계획입니다.
+ * 가중치는 PreferenceCategory ordinal 로 인덱싱된 배열에 두고,
+ * 학벌·자산·종교·키·MBTI·거리 점수는 미리 계산한 조회 테이블(ordinal, cm 또는 MBTI 4비트 값으로 인덱싱)에 둡니다.
+ * 거리 테이블은 여성 회원의 권역 행을 RegionTravelTimes 에서 읽어 남성 권역별 점수로 바꿔 둔 것입니다.
+ * 성격 점수만은 자기소개 임베딩의 내적으로 계산하며, 성격이 우선순위에 있을 때만 계산합니다.
+ * 테이블의 0번 칸은 남성 회원 속성이 비어 있는 경우(NO_VALUE)이므로,
+ * 남성 회원 한 명의 점수 계산은 항목마다 배열 조회 한 번으로 끝납니다.
+ */
+public final class ScoringPlan {
+
+    // 남성 회원 속성이 비어 있음을 나타내는 값
+    public static final int NO_VALUE = -1;
+
+    // 점수 계산 상수
+    static final double PERFECT_SCORE = 100.0;
+    static final double DEFAULT_SCORE = 50.0;
+    static final double MIN_SCORE = 0.0;
+
+    private static final int HEIGHT = PreferenceCategory.HEIGHT.ordinal();
+    private static final int RELIGION = PreferenceCategory.RELIGION.ordinal();
+    private static final int EDUCATION = PreferenceCategory.EDUCATION.ordinal();
+    private static final int ASSET = PreferenceCategory.ASSET.ordinal();
+    private static final int APPEARANCE = PreferenceCategory.APPEARANCE.ordinal();
+    private static final int JOB = PreferenceCategory.JOB.ordinal();
+    private static final int PARENT_ASSET = PreferenceCategory.PARENT_ASSET.ordinal();
+    private static final int MBTI = PreferenceCategory.MBTI.ordinal();
+    private static final int DISTANCE = PreferenceCategory.DISTANCE.ordinal();
+    private static final int PERSONALITY = PreferenceCategory.PERSONALITY.ordinal();
+
+    // 키 조회 테이블 범위 (0cm ~ HEIGHT_TABLE_MAX_CM), 범위 밖의 키는 공식으로 계산
+    static final int HEIGHT_TABLE_MAX_CM = 300;
+
+    // 이동 시간이 이 값 이하면 만점, DISTANCE_ZERO_SCORE_MINUTES 이상이면 0점 (사이는 선형 감점)
+    static final int DISTANCE_FULL_SCORE_MINUTES = 180;
+    static final int DISTANCE_ZERO_SCORE_MINUTES = 600;
+
+    // Asset ordinal → 실제 금액(중간값)
+    private static final long[] ASSET_VALUES = new long[Asset.values().length];
+
+    static {
+        for (Asset asset : Asset.values()) {
+            ASSET_VALUES[asset.ordinal()] = convertAssetToValue(asset);
+        }
+    }
+
+    private static final ScoringPlan NO_PREFERENCE = new ScoringPlan();
+
+    private final boolean hasPreference;
+    // 컴파일에 사용한 가중치 프로필 (우선순위 가중치, 감점, 직업 점수)
+    private final ScoringWeights profile;
+    private final double[] weights;
+    private final double totalWeight;
+
+    private final boolean hasHeightRange;
+    private final int preferredHeightMin;
+    private final int preferredHeightMax;
+
+    private final int avoidReligionMask;
+
+    private final int preferredEducationOrdinal;
+
+    private final boolean hasAssetRange;
+    private final long preferredAssetMin;
+    private final long preferredAssetMax;
+
+    private final long preferredJobMask;
+    private final long avoidedJobMask;
+
+    // MBTI 선호 (MbtiCode 4비트 값과 상관없음이 아닌 축의 마스크)
+    private final int preferredMbtiBits;
+    private final int preferredMbtiMask;
+
+    // 여성 회원 본인의 권역 (없으면 거리 점수는 기본 점수)
+    private final Region femaleRegion;
+    // 여성 회원 본인의 자기소개 임베딩 (없으면 성격 점수는 기본 점수)
+    private final float[] femaleEmbedding;
+
+    // 조회 테이블 (인덱스 = ordinal + 1 또는 cm + 1, 0번 칸은 정보 없음)
+    private final double[] heightTable;
+    private final double[] religionTable;
+    private final double[] educationTable;
+    private final double[] assetTable;
+    private final double[] mbtiTable;
+    private final double[] distanceTable;
+
+    // 남성 회원 정보와 무관한 항목(외모, 부모님 자산)의 점수와, 직업을 포함한 가중 점수 합
+    private final double appearanceScore;
+    private final double parentAssetScore;
+    private final double constantWeightedScore;
+
+    // 반드시 충족해야 하는 조건: 해당 항목이 만점인 후보만 남김 (칸 = ordinal + 1, null 이면 조건 없음)
+    private final boolean requireHeightRange;
+    private final boolean[] requiredReligionSlots;
+    private final boolean[] requiredEducationSlots;
+    private final boolean[] requiredAssetSlots;
+
+    private ScoringPlan() {
+        this.hasPreference = false;
+        this.profile = ScoringWeights.DEFAULT;
+        this.weights = new double[PreferenceCategory.values().length];
+        this.totalWeight = 0.0;
+        this.hasHeightRange = false;
+        this.preferredHeightMin = 0;
+        this.preferredHeightMax = 0;
+        this.avoidReligionMask = 0;
+        this.preferredEducationOrdinal = NO_VALUE;
+        this.hasAssetRange = false;
+        this.preferredAssetMin = 0L;
+        this.preferredAssetMax = 0L;
+        this.preferredJobMask = 0L;
+        this.avoidedJobMask = 0L;
+        this.preferredMbtiBits = 0;
+        this.preferredMbtiMask = 0;
+        this.femaleRegion = null;
+        this.femaleEmbedding = null;
+        this.heightTable = new double[0];
+        this.religionTable = new double[0];
+        this.educationTable = new double[0];
+        this.assetTable = new double[0];
+        this.mbtiTable = new double[0];
+        this.distanceTable = new double[0];
+        this.appearanceScore = DEFAULT_SCORE;
+        this.parentAssetScore = DEFAULT_SCORE;
+        this.constantWeightedScore = 0.0;
+        this.requireHeightRange = false;
+        this.requiredReligionSlots = null;
+        this.requiredEducationSlots = null;
+        this.requiredAssetSlots = null;
+    }
+
+    private ScoringPlan(MemberPreference preference, ScoringWeights profile, Region femaleRegion,
+                        float[] femaleEmbedding) {
+        this.hasPreference = true;
+        this.profile = profile;
+        this.weights = compileWeights(preference, profile);
+
+        this.hasHeightRange = preference.getPreferredHeightMin() != null && preference.getPreferredHeightMax() != null;
+        this.preferredHeightMin = hasHeightRange ? preference.getPreferredHeightMin() : 0;
+        this.preferredHeightMax = hasHeightRange ? preference.getPreferredHeightMax() : 0;
+
+        this.avoidReligionMask = preference.getAvoidReligionsBitmask() != null ? preference.getAvoidReligionsBitmask() : 0;
+
+        this.preferredEducationOrdinal = preference.getPreferredEducationLevel() != null
+                ? preference.getPreferredEducationLevel().ordinal()
+                : NO_VALUE;
+
+        this.hasAssetRange = preference.getPreferredAssetMin() != null && preference.getPreferredAssetMax() != null;
+        this.preferredAssetMin = hasAssetRange ? preference.getPreferredAssetMin() : 0L;
+        this.preferredAssetMax = hasAssetRange ? preference.getPreferredAssetMax() : 0L;
+
+        this.preferredJobMask = preference.getPreferredJobsBitmask() != null ? preference.getPreferredJobsBitmask() : 0L;
+        this.avoidedJobMask = preference.getAvoidedJobsBitmask() != null ? preference.getAvoidedJobsBitmask() : 0L;
+
+        String[] mbtiAxes = {preference.getMbtiE(), preference.getMbtiN(), preference.getMbtiT(), preference.getMbtiJ()};
+        this.preferredMbtiBits = MbtiCode.preferenceBits(mbtiAxes);
+        this.preferredMbtiMask = MbtiCode.preferenceMask(mbtiAxes);
+
+        this.femaleRegion = femaleRegion;
+        this.femaleEmbedding = femaleEmbedding;
+
+        this.heightTable = new double[HEIGHT_TABLE_MAX_CM + 2];
+        for (int index = 0; index < heightTable.length; index++) {
+            heightTable[index] = calculateHeightScore(index - 1);
+        }
+        this.religionTable = new double[Religion.values().length + 1];
+        religionTable[0] = calculateReligionScore(null);
+        for (Religion religion : Religion.values()) {
+            religionTable[religion.ordinal() + 1] = calculateReligionScore(religion);
+        }
+        this.educationTable = new double[Education.values().length + 1];
+        for (int index = 0; index < educationTable.length; index++) {
+            educationTable[index] = calculateEducationScore(index - 1);
+        }
+        this.assetTable = new double[Asset.values().length + 1];
+        for (int index = 0; index < assetTable.length; index++) {
+            assetTable[index] = calculateAssetScore(index - 1);
+        }
+        this.mbtiTable = new double[(1 << MbtiCode.AXES) + 1];
+        for (int index = 0; index < mbtiTable.length; index++) {
+            mbtiTable[index] = calculateMbtiScore(index - 1);
+        }
+        this.distanceTable = new double[Region.values().length + 1];
+        distanceTable[0] = calculateDistanceScore(null);
+        for (Region region : Region.values()) {
+            distanceTable[region.ordinal() + 1] = calculateDistanceScore(region);
+        }
+
+        double weightSum = 0.0;
+        for (int category : new int[]{
+                HEIGHT, RELIGION, EDUCATION, ASSET, APPEARANCE, JOB, PARENT_ASSET, MBTI, DISTANCE, PERSONALITY}) {
+            weightSum += weights[category];
+        }
+        this.totalWeight = weightSum;
+
+        this.appearanceScore = calculateAppearanceScore(preference.getPreferredAppearanceStyle());
+        this.parentAssetScore = calculateParentAssetScore(preference.getParentAssetRequirement());
+        this.constantWeightedScore = appearanceScore * weights[APPEARANCE]
+                + jobScore(NO_VALUE) * weights[JOB]
+                + parentAssetScore * weights[PARENT_ASSET];
+
+        // 선호 값이 없는 항목은 반드시 충족으로 지정되어도 조건을 두지 않음
+        List<PreferenceCategory> mustSatisfy = PreferenceCategory.fromBitmask(preference.getMustSatisfyBitmask());
+        this.requireHeightRange = hasHeightRange && mustSatisfy.contains(PreferenceCategory.HEIGHT);
+        this.requiredReligionSlots = avoidReligionMask != 0 && mustSatisfy.contains(PreferenceCategory.RELIGION)
+                ? perfectSlots(religionTable) : null;
+        this.requiredEducationSlots = preferredEducationOrdinal != NO_VALUE
+                && mustSatisfy.contains(PreferenceCategory.EDUCATION) ? perfectSlots(educationTable) : null;
+        this.requiredAssetSlots = hasAssetRange && mustSatisfy.contains(PreferenceCategory.ASSET)
+                ? perfectSlots(assetTable) : null;
+    }
+
+    public static ScoringPlan noPreference() {
+        return NO_PREFERENCE;
+    }
+
+    public static ScoringPlan compile(MemberPreference preference) {
+        return compile(preference, ScoringWeights.DEFAULT);
+    }
+
+    public static ScoringPlan compile(MemberPreference preference, ScoringWeights profile) {
+        return compile(preference, profile, null, null);
+    }
+
+    /**
+     * @param femaleRegion    선호도 주인(여성 회원)의 권역, 거리 점수의 기준 (null 이면 거리 점수는 기본 점수)
+     * @param femaleEmbedding 선호도 주인의 자기소개 임베딩, 성격 점수의 기준 (null 이면 성격 점수는 기본 점수)
+     */
+    public static ScoringPlan compile(MemberPreference preference, ScoringWeights profile, Region femaleRegion,
+                                      float[] femaleEmbedding) {
+        if (preference == null) {
+            return NO_PREFERENCE;
+        }
+        return new ScoringPlan(preference, profile, femaleRegion, femaleEmbedding);
+    }
+
+    public boolean hasPreference() {
+        return hasPreference;
+    }
+
+    /**
+     * 선호도가 없는 계획은 프로필과 무관하므로 어떤 프로필로 컴파일한 것으로도 취급합니다.
+     */
+    public boolean isCompiledWith(ScoringWeights profile) {
+        return !hasPreference || this.profile == profile;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public boolean hasHardConstraints() {
+        return requireHeightRange || requiredReligionSlots != null
+                || requiredEducationSlots != null || requiredAssetSlots != null;
+    }
+
+    /**
+     * 반드시 충족 조건을 만족하는 후보 위치의 비트셋을 반환합니다. 조건이 없으면 null 입니다.
+     * 점수 계산 없이 속성별 비트셋의 OR/AND 만으로 계산합니다.
+     */
+    public long[] eligibleCandidates(MaleCandidateSnapshot candidates) {
+        if (!hasHardConstraints()) {
+            return null;
+        }
+        CandidateBitmaps bitmaps = candidates.bitmaps();
+        long[] eligible = bitmaps.all();
+        if (requiredReligionSlots != null) {
+            bitmaps.retainReligions(eligible, requiredReligionSlots);
+        }
+        if (requiredEducationSlots != null) {
+            bitmaps.retainEducations(eligible, requiredEducationSlots);
+        }
+        if (requiredAssetSlots != null) {
+            bitmaps.retainAssets(eligible, requiredAssetSlots);
+        }
+        if (requireHeightRange) {
+            bitmaps.retainHeightRange(eligible, preferredHeightMin, preferredHeightMax);
+        }
+        return eligible;
+    }
+
+    /**
+     * 후보 한 명이 반드시 충족 조건을 만족하는지 확인합니다. (eligibleCandidates 의 한 행 버전)
+     */
+    public boolean isEligible(MaleCandidateSnapshot candidates, int index) {
+        if (requiredReligionSlots != null && !requiredReligionSlots[candidates.religion(index) + 1]) {
+            return false;
+        }
+        if (requiredEducationSlots != null && !requiredEducationSlots[candidates.education(index) + 1]) {
+            return false;
+        }
+        if (requiredAssetSlots != null && !requiredAssetSlots[candidates.asset(index) + 1]) {
+            return false;
+        }
+        if (requireHeightRange) {
+            int height = candidates.height(index);
+            return height != NO_VALUE && height >= preferredHeightMin && height <= preferredHeightMax;
+        }
+        return true;
+    }
+
+    public double score(Member maleMember) {
+        return score(
+                maleMember.getHeight() != null ? maleMember.getHeight() : NO_VALUE,
+                maleMember.getReligion() != null ? maleMember.getReligion().ordinal() : NO_VALUE,
+                maleMember.getEducation() != null ? maleMember.getEducation().ordinal() : NO_VALUE,
+                maleMember.getAsset() != null ? maleMember.getAsset().ordinal() : NO_VALUE,
+                MbtiCode.pack(maleMember.getMbti()),
+                maleMember.getRegion() != null ? maleMember.getRegion().ordinal() : NO_VALUE,
+                maleMember.getIntroductionEmbedding()
+        );
+    }
+
+    public double score(MaleCandidateSnapshot candidates, int index) {
+        return score(
+                candidates.height(index),
+                candidates.religion(index),
+                candidates.education(index),
+                candidates.asset(index),
+                candidates.mbti(index),
+                candidates.region(index),
+                candidates.embedding(index)
+        );
+    }
+
+    /**
+     * 남성 회원 한 명의 매칭 점수를 계산합니다.
+     * 비어 있는 속성은 NO_VALUE 로, 자기소개 임베딩이 없으면 null 로 전달합니다.
+     */
+    public double score(int height, int religionOrdinal, int educationOrdinal, int assetOrdinal, int mbti,
+                        int regionOrdinal, float[] embedding) {
+        if (totalWeight == 0) {
+            return DEFAULT_SCORE;
+        }
+
+        // 우선순위에 없는 항목은 가중치가 0이므로 합계에 영향을 주지 않음
+        double totalScore = heightScore(height) * weights[HEIGHT]
+                + religionTable[religionOrdinal + 1] * weights[RELIGION]
+                + educationTable[educationOrdinal + 1] * weights[EDUCATION]
+                + assetTable[assetOrdinal + 1] * weights[ASSET]
+                + mbtiTable[mbti + 1] * weights[MBTI]
+                + distanceTable[regionOrdinal + 1] * weights[DISTANCE]
+                + constantWeightedScore;
+        // 내적은 조회 한 번보다 비싸므로 성격이 우선순위에 있을 때만 계산
+        if (weights[PERSONALITY] != 0) {
+            totalScore += personalityScore(embedding) * weights[PERSONALITY];
+        }
+
+        double finalScore = totalScore / totalWeight;
+        return Math.min(PERFECT_SCORE, Math.max(MIN_SCORE, finalScore));
+    }
+
+    /**
+     * 점수 설명용: 가중치가 있는 항목별 점수와 가중치를 가중치 내림차순으로 반환합니다.
+     * 조회 결과 화면에 표시할 후보에 대해서만 호출하며, 일반 점수 계산 경로에서는 쓰지 않습니다.
+     */
+    public List<ScoreComponent> explain(MaleCandidateSnapshot candidates, int index) {
+        int height = candidates.height(index);
+        int religionOrdinal = candidates.religion(index);
+        int educationOrdinal = candidates.education(index);
+        int assetOrdinal = candidates.asset(index);
+        int mbti = candidates.mbti(index);
+        int regionOrdinal = candidates.region(index);
+        float[] embedding = candidates.embedding(index);
+
+        List<ScoreComponent> components = new ArrayList<>();
+        for (PreferenceCategory category : PreferenceCategory.values()) {
+            double weight = weights[category.ordinal()];
+            if (weight == 0) {
+                continue;
+            }
+            double componentScore = switch (category) {
+                case HEIGHT -> heightScore(height);
+                case RELIGION -> religionTable[religionOrdinal + 1];
+                case EDUCATION -> educationTable[educationOrdinal + 1];
+                case ASSET -> assetTable[assetOrdinal + 1];
+                case APPEARANCE -> appearanceScore;
+                case JOB -> jobScore(NO_VALUE);
+                case PARENT_ASSET -> parentAssetScore;
+                case MBTI -> mbtiTable[mbti + 1];
+                case DISTANCE -> distanceTable[regionOrdinal + 1];
+                case PERSONALITY -> personalityScore(embedding);
+            };
+            components.add(new ScoreComponent(category, componentScore, weight));
+        }
+        components.sort(Comparator.comparingDouble(ScoreComponent::weight).reversed());
+        return components;
+    }
+
+    /**
+     * 항목 하나의 점수(0~100)와 가중치
+     */
+    public record ScoreComponent(PreferenceCategory category, double score, double weight) {
+    }
+
+    private double heightScore(int height) {
+        int index = height + 1;
+        if (index >= 0 && index < heightTable.length) {
+            return heightTable[index];
+        }
+        return calculateHeightScore(height);
+    }
+
+    /**
+     * 키 매칭 점수: 선호 범위 내면 만점, 벗어나면 가장 가까운 경계와의 거리에 비례하여 감점합니다.
+     */
+    private double calculateHeightScore(int height) {
+        if (!hasHeightRange) {
+            return DEFAULT_SCORE;
+        }
+        if (height == NO_VALUE) {
+            return MIN_SCORE;
+        }
+        if (height >= preferredHeightMin && height <= preferredHeightMax) {
+            return PERFECT_SCORE;
+        }
+        int distance = Math.min(Math.abs(height - preferredHeightMin), Math.abs(height - preferredHeightMax));
+        return Math.max(MIN_SCORE, PERFECT_SCORE - (distance * profile.heightPenaltyPerCm()));
+    }
+
+    /**
+     * 종교 매칭 점수: 기피 종교에 해당하면 0점, 그렇지 않으면 만점입니다.
+     */
+    private double calculateReligionScore(Religion religion) {
+        if (religion == null) {
+            return DEFAULT_SCORE;
+        }
+        return (avoidReligionMask & religion.getBitmask()) != 0 ? MIN_SCORE : PERFECT_SCORE;
+    }
+
+    /**
+     * 학벌 매칭 점수: 선호 학벌 이상이면 만점, 낮으면 차이에 비례하여 감점합니다.
+     */
+    private double calculateEducationScore(int educationOrdinal) {
+        if (preferredEducationOrdinal == NO_VALUE) {
+            return DEFAULT_SCORE;
+        }
+        if (educationOrdinal == NO_VALUE) {
+            return MIN_SCORE;
+        }
+        if (educationOrdinal >= preferredEducationOrdinal) {
+            return PERFECT_SCORE;
+        }
+        int diff = preferredEducationOrdinal - educationOrdinal;
+        return Math.max(MIN_SCORE, PERFECT_SCORE - (diff * profile.educationPenaltyPerLevel()));
+    }
+
+    /**
+     * 자산 매칭 점수: Asset 의 중간값을 기준으로 선호 범위와 비교합니다.
+     */
+    private double calculateAssetScore(int assetOrdinal) {
+        if (!hasAssetRange) {
+            return DEFAULT_SCORE;
+        }
+        if (assetOrdinal == NO_VALUE) {
+            return MIN_SCORE;
+        }
+
+        long memberAssetValue = ASSET_VALUES[assetOrdinal];
+        if (memberAssetValue >= preferredAssetMin && memberAssetValue <= preferredAssetMax) {
+            return PERFECT_SCORE;
+        }
+
+        // 선호 범위보다 높은 경우 (약간의 보너스)
+        if (memberAssetValue > preferredAssetMax) {
+            long excessLevels = (memberAssetValue - preferredAssetMax) / 100_000_000; // 1억 단위
+            return Math.max(DEFAULT_SCORE, PERFECT_SCORE - (excessLevels * profile.assetAbovePenaltyPerLevel()));
+        }
+
+        long shortfallLevels = (preferredAssetMin - memberAssetValue) / 100_000_000; // 1억 단위
+        return Math.max(MIN_SCORE, PERFECT_SCORE - (shortfallLevels * profile.assetBelowPenaltyPerLevel()));
+    }
+
+    /**
+     * MBTI 매칭 점수: 상관없음이 아닌 축 중 일치하는 축의 비율만큼 점수를 줍니다.
+     * 본인 MBTI 는 선택 항목이므로 비어 있으면 기본 점수입니다.
+     */
+    private double calculateMbtiScore(int mbti) {
+        if (preferredMbtiMask == 0 || mbti == NO_VALUE) {
+            return DEFAULT_SCORE;
+        }
+        int matched = MbtiCode.matchingAxes(mbti, preferredMbtiBits, preferredMbtiMask);
+        return PERFECT_SCORE * matched / Integer.bitCount(preferredMbtiMask);
+    }
+
+    /**
+     * 거리 매칭 점수: 여성 권역에서 남성 권역까지의 이동 시간이 짧을수록 높습니다.
+     * 두 회원 중 한 명이라도 권역을 알 수 없으면 기본 점수입니다.
+     */
+    private double calculateDistanceScore(Region maleRegion) {
+        if (femaleRegion == null || maleRegion == null
+                || femaleRegion == Region.UNKNOWN || maleRegion == Region.UNKNOWN) {
+            return DEFAULT_SCORE;
+        }
+        int minutes = RegionTravelTimes.minutes(femaleRegion, maleRegion);
+        if (minutes <= DISTANCE_FULL_SCORE_MINUTES) {
+            return PERFECT_SCORE;
+        }
+        if (minutes >= DISTANCE_ZERO_SCORE_MINUTES) {
+            return MIN_SCORE;
+        }
+        return PERFECT_SCORE * (DISTANCE_ZERO_SCORE_MINUTES - minutes)
+                / (DISTANCE_ZERO_SCORE_MINUTES - DISTANCE_FULL_SCORE_MINUTES);
+    }
+
+    /**
+     * 성격 매칭 점수: 자기소개 임베딩의 코사인 유사도를 0~100 으로 옮깁니다. (무관한 소개인 유사도 0 이 기본 점수)
+     * 두 회원 중 한 명이라도 자기소개가 없거나 임베딩 차원이 다르면 기본 점수입니다.
+     */
+    private double personalityScore(float[] maleEmbedding) {
+        if (femaleEmbedding == null || maleEmbedding == null || maleEmbedding.length != femaleEmbedding.length) {
+            return DEFAULT_SCORE;
+        }
+        double similarity = EmbeddingVectors.dot(femaleEmbedding, maleEmbedding);
+        return Math.min(PERFECT_SCORE, Math.max(MIN_SCORE, DEFAULT_SCORE + DEFAULT_SCORE * similarity));
+    }
+
+    /**
+     * 직업 매칭 점수: 기피 직업이면 0점, 선호 직업이면 만점, 그 외에는 중립 점수입니다.
+     * 현재 Member 엔티티에 직업 필드가 없어 NO_VALUE 로 호출되며 기본 점수를 반환합니다.
+     */
+    private double jobScore(int jobOrdinal) {
+        if (jobOrdinal == NO_VALUE) {
+            return DEFAULT_SCORE;
+        }
+        long jobBit = 1L << jobOrdinal;
+        if ((avoidedJobMask & jobBit) != 0) {
+            return profile.jobAvoidedScore();
+        }
+        if ((preferredJobMask & jobBit) != 0) {
+            return profile.jobPreferredScore();
+        }
+        return profile.jobNeutralScore();
+    }
+
+    /**
+     * 외모 스타일 매칭 점수: Member 엔티티에 외모 스타일 정보가 없어 선호가 있으면 기본 점수입니다.
+     */
+    private static double calculateAppearanceScore(AppearanceStyle preferredStyle) {
+        return preferredStyle == null ? PERFECT_SCORE : DEFAULT_SCORE;
+    }
+
+    /**
+     * 부모님 자산 매칭 점수: Member 엔티티에 부모 자산 정보가 없어 요구사항이 있으면 기본 점수입니다.
+     */
+    private static double calculateParentAssetScore(ParentAssetLevel requirement) {
+        if (requirement == null || requirement == ParentAssetLevel.NO_CONCERN) {
+            return PERFECT_SCORE;
+        }
+        return DEFAULT_SCORE;
+    }
+
+    /**
+     * Asset enum을 실제 금액(중간값)으로 변환합니다.
+     */
+    private static long convertAssetToValue(Asset asset) {
+        return switch (asset) {
+            case UNDER_100M -> 50_000_000L;           // 5천만원 (중간값)
+            case BETWEEN_100M_300M -> 200_000_000L;   // 2억원 (중간값)
+            case BETWEEN_300M_500M -> 400_000_000L;   // 4억원 (중간값)
+            case BETWEEN_500M_1B -> 750_000_000L;     // 7.5억원 (중간값)
+            case OVER_1B -> 1_500_000_000L;           // 15억원 (추정값)
+        };
+    }
+
+    private static boolean[] perfectSlots(double[] table) {
+        boolean[] slots = new boolean[table.length];
+        for (int slot = 0; slot < table.length; slot++) {
+            slots[slot] = table[slot] == PERFECT_SCORE;
+        }
+        return slots;
+    }
+
+    /**
+     * 우선순위를 PreferenceCategory ordinal 로 인덱싱된 가중치 배열로 변환합니다.
+     * 같은 카테고리가 중복되면 높은 우선순위의 가중치가 적용됩니다.
+     */
+    private static double[] compileWeights(MemberPreference preference, ScoringWeights profile) {
+        double[] weights = new double[PreferenceCategory.values().length];
+        if (preference.getPriority3() != null) {
+            weights[preference.getPriority3().ordinal()] = profile.priority3Weight();
+        }
+        if (preference.getPriority2() != null) {
+            weights[preference.getPriority2().ordinal()] = profile.priority2Weight();
+        }
+        if (preference.getPriority1() != null) {
+            weights[preference.getPriority1().ordinal()] = profile.priority1Weight();
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,62 @@
+package masil.backend.modules.member.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 ScoringPlan 캐시입니다.
+ * 선호도가 저장되면 evict 로 무효화하며, 트랜잭션 안에서는 커밋 직후에 한 번 더 무효화합니다.
+ * 계획은 컴파일에 사용한 가중치 프로필과 함께 보관되며, 사용 중인 프로필이 바뀌면 다음 조회 때 다시 컴파일합니다.
+ */
+@Component
+public class ScoringPlanCache {
+
+    private final Map<Long, ScoringPlan> plans = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가하여, 컴파일 도중 무효화된 계획이 캐시에 들어가지 않도록 함
+    private final AtomicLong generation = new AtomicLong();
+
+    public ScoringPlan get(Long memberId, ScoringWeights profile, Supplier<ScoringPlan> compiler) {
+        ScoringPlan cached = plans.get(memberId);
+        if (cached != null && cached.isCompiledWith(profile)) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        ScoringPlan compiled = compiler.get();
+        // 세대 확인과 저장을 같은 compute 안에서 하여, 그 사이 무효화된 계획이 들어가지 않게 함
+        // (invalidate 는 세대를 올린 뒤 remove 하므로, remove 는 이 compute 가 끝날 때까지 기다림)
+        plans.compute(memberId, (id, existing) -> {
+            if (generation.get() != startGeneration) {
+                return existing;
+            }
+            // 다른 스레드가 같은 프로필로 먼저 넣었으면 그 계획을 유지, 이전 프로필의 계획이면 교체
+            return existing != null && existing.isCompiledWith(profile) ? existing : compiled;
+        });
+        return compiled;
+    }
+
+    public void evict(Long memberId) {
+        invalidate(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long memberId) {
+        generation.incrementAndGet();
+        plans.remove(memberId);
+    }
+}
@@ -0,0 +1,134 @@
+package masil.backend.modules.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import masil.backend.global.config.ScoringWeightProperties;
+import masil.backend.modules.member.entity.ScoringWeightProfile;
+import masil.backend.modules.member.repository.ScoringWeightProfileRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이름 있는 점수 가중치 프로필 목록과 현재 사용 중인 프로필을 보관합니다.
+ * 설정 파일 프로필 위에 DB 프로필을 덮어써서 불변 스냅샷을 만들고, volatile 참조 교체로 한 번에 바꿉니다.
+ * 읽는 쪽은 잠금 없이 현재 스냅샷을 사용하며, 다시 읽기(reload)만 직렬화합니다.
+ */
+@Slf4j
+@Component
+public class ScoringWeightRegistry {
+
+    private final ScoringWeightProperties properties;
+    private final ScoringWeightProfileRepository scoringWeightProfileRepository;
+
+    private volatile Profiles profiles;
+
+    public ScoringWeightRegistry(final ScoringWeightProperties properties,
+                                 final ScoringWeightProfileRepository scoringWeightProfileRepository) {
+        this.properties = properties;
+        this.scoringWeightProfileRepository = scoringWeightProfileRepository;
+        // DB 를 읽기 전까지는 설정 파일 프로필만 사용
+        this.profiles = build(Collections.emptyList(), null);
+    }
+
+    public ScoringWeights active() {
+        return profiles.active();
+    }
+
+    /**
+     * 이름으로 프로필을 찾습니다.
+     */
+    public ScoringWeights get(String name) {
+        ScoringWeights weights = profiles.byName().get(name);
+        if (weights == null) {
+            throw new IllegalArgumentException("존재하지 않는 가중치 프로필입니다: " + name);
+        }
+        return weights;
+    }
+
+    public Collection<ScoringWeights> all() {
+        return profiles.byName().values();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        Profiles previous = profiles;
+        Profiles next = build(scoringWeightProfileRepository.findAll(), previous);
+        profiles = next;
+        if (next.active() != previous.active()) {
+            log.info("매칭 가중치 프로필 교체: {} -> {}", previous.active().name(), next.active().name());
+        }
+    }
+
+    private Profiles build(Collection<ScoringWeightProfile> stored, Profiles previous) {
+        Map<String, ScoringWeights> byName = new LinkedHashMap<>();
+        byName.put(ScoringWeights.DEFAULT_NAME, ScoringWeights.DEFAULT);
+        properties.getProfiles().forEach((name, profile) -> byName.put(name, fromProperties(name, profile)));
+
+        String activeName = properties.getActive();
+        for (ScoringWeightProfile profile : stored) {
+            byName.put(profile.getName(), fromEntity(profile));
+            if (Boolean.TRUE.equals(profile.getActive())) {
+                activeName = profile.getName();
+            }
+        }
+
+        // 값이 그대로인 프로필은 이전 인스턴스를 재사용 (계획 캐시가 참조로 비교하므로 불필요한 재컴파일 방지)
+        if (previous != null) {
+            byName.replaceAll((name, weights) -> weights.equals(previous.byName().get(name))
+                    ? previous.byName().get(name)
+                    : weights);
+        }
+
+        ScoringWeights active = byName.get(activeName);
+        if (active == null) {
+            log.warn("가중치 프로필 {} 이(가) 없어 기본 프로필을 사용합니다.", activeName);
+            active = ScoringWeights.DEFAULT;
+        }
+        return new Profiles(Collections.unmodifiableMap(byName), active);
+    }
+
+    private static ScoringWeights fromProperties(String name, ScoringWeightProperties.Profile profile) {
+        ScoringWeights base = ScoringWeights.DEFAULT;
+        return new ScoringWeights(
+                name,
+                valueOr(profile.getPriority1Weight(), base.priority1Weight()),
+                valueOr(profile.getPriority2Weight(), base.priority2Weight()),
+                valueOr(profile.getPriority3Weight(), base.priority3Weight()),
+                valueOr(profile.getHeightPenaltyPerCm(), base.heightPenaltyPerCm()),
+                valueOr(profile.getEducationPenaltyPerLevel(), base.educationPenaltyPerLevel()),
+                valueOr(profile.getAssetAbovePenaltyPerLevel(), base.assetAbovePenaltyPerLevel()),
+                valueOr(profile.getAssetBelowPenaltyPerLevel(), base.assetBelowPenaltyPerLevel()),
+                valueOr(profile.getJobPreferredScore(), base.jobPreferredScore()),
+                valueOr(profile.getJobAvoidedScore(), base.jobAvoidedScore()),
+                valueOr(profile.getJobNeutralScore(), base.jobNeutralScore())
+        );
+    }
+
+    private static ScoringWeights fromEntity(ScoringWeightProfile profile) {
+        return new ScoringWeights(
+                profile.getName(),
+                profile.getPriority1Weight(),
+                profile.getPriority2Weight(),
+                profile.getPriority3Weight(),
+                profile.getHeightPenaltyPerCm(),
+                profile.getEducationPenaltyPerLevel(),
+                profile.getAssetAbovePenaltyPerLevel(),
+                profile.getAssetBelowPenaltyPerLevel(),
+                profile.getJobPreferredScore(),
+                profile.getJobAvoidedScore(),
+                profile.getJobNeutralScore()
+        );
+    }
+
+    private static double valueOr(Double value, double fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private record Profiles(Map<String, ScoringWeights> byName, ScoringWeights active) {
+    }
+}
@@ -0,0 +1,29 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 점수 계산 가중치 프로필의 불변 스냅샷입니다.
+ * ScoringPlan 은 컴파일 시점의 프로필을 참조로 보관하므로, 프로필이 교체되면 참조 비교만으로 계획을 다시 만듭니다.
+ */
+public record ScoringWeights(
+        String name,
+        double priority1Weight,
+        double priority2Weight,
+        double priority3Weight,
+        double heightPenaltyPerCm,
+        double educationPenaltyPerLevel,
+        double assetAbovePenaltyPerLevel,
+        double assetBelowPenaltyPerLevel,
+        double jobPreferredScore,
+        double jobAvoidedScore,
+        double jobNeutralScore
+) {
+    public static final String DEFAULT_NAME = "default";
+
+    // 기존 고정 상수와 같은 값
+    public static final ScoringWeights DEFAULT = new ScoringWeights(
+            DEFAULT_NAME,
+            3.0, 2.0, 1.0,
+            2.0, 20.0, 10.0, 15.0,
+            100.0, 0.0, 60.0
+    );
+}
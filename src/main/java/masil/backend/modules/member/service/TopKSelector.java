@@ -0,0 +1,91 @@
+package masil.backend.modules.member.service;
+
+/**
+ * 점수 배열에서 상위 k개의 위치를 크기 k의 최소 힙으로 고릅니다. (O(n log k))
+ * 점수 내림차순, 동점이면 위치 오름차순으로 정렬합니다.
+ * MaleCandidateSnapshot 의 행은 회원 ID 오름차순이므로 동점 시 회원 ID 가 작은 쪽이 앞섭니다.
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * @return 상위 k개의 위치 (가장 높은 점수부터)
+     */
+    public static int[] select(double[] scores, int k) {
+        return select(scores, null, k);
+    }
+
+    /**
+     * eligible 비트셋에 포함된 위치 중에서만 상위 k개를 고릅니다. (null 이면 전체)
+     */
+    public static int[] select(double[] scores, long[] eligible, int k) {
+        int size = Math.min(k, scores.length);
+        if (size <= 0) {
+            return new int[0];
+        }
+
+        // 루트가 보관 중인 후보 중 가장 낮은 순위인 힙
+        int[] heap = new int[size];
+        int count = 0;
+        for (int index = 0; index < scores.length; index++) {
+            if (eligible != null && (eligible[index >>> 6] & (1L << index)) == 0) {
+                continue;
+            }
+            if (count < size) {
+                heap[count] = index;
+                siftUp(heap, count, scores);
+                count++;
+            } else if (ranksBefore(scores, index, heap[0])) {
+                heap[0] = index;
+                siftDown(heap, 0, count, scores);
+            }
+        }
+
+        // 가장 낮은 순위부터 꺼내 뒤에서부터 채움
+        int[] ranked = new int[count];
+        for (int last = count - 1; last >= 0; last--) {
+            ranked[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, 0, last, scores);
+        }
+        return ranked;
+    }
+
+    private static boolean ranksBefore(double[] scores, int a, int b) {
+        int compared = Double.compare(scores[a], scores[b]);
+        return compared > 0 || (compared == 0 && a < b);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] scores) {
+        int item = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksBefore(scores, heap[parent], item)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+
+    private static void siftDown(int[] heap, int position, int count, double[] scores) {
+        int item = heap[position];
+        int half = count >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < count && ranksBefore(scores, heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ranksBefore(scores, item, heap[child])) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+}
@@ -0,0 +1,255 @@
+package masil.backend.modules.adminMember.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MatchingAssignmentSolver 가 작은 입력에서 전수 탐색과 같은 (배정 수, 비용 합) 을 내는지,
+ * 전부 아니면 전무 배정이 일부만 채운 여성 때문에 다 채울 수 있는 여성을 놓치지 않는지 확인합니다.
+ */
+class MatchingAssignmentSolverTest {
+
+    @Test
+    void 수용_인원이_부족하면_점수가_높은_쪽에_배정한다() {
+        // 남성 0 은 한 명만 받을 수 있고, 여성 1 에게는 남성 0 만 후보
+        int[][] assignments = MatchingAssignmentSolver.solve(
+                1,
+                new int[]{1, 1},
+                new int[][]{{0, 1}, {0}},
+                new long[][]{{0, 10}, {5}});
+
+        assertArrayEquals(new int[]{1}, assignments[0]);
+        assertArrayEquals(new int[]{0}, assignments[1]);
+    }
+
+    @Test
+    void 긴_증가_경로에서도_호출_스택을_쓰지_않는다() {
+        // 여성 i 는 남성 i(비용 1), i+1(비용 0) 이 후보이고 남성 i+1 까지 모두 차 있으므로,
+        // 마지막 여성의 증가 경로는 앞의 모든 여성을 거슬러 올라가 남성 0 에 닿음
+        int count = 100_000;
+        int[] capacities = new int[count];
+        Arrays.fill(capacities, 1);
+        int[][] candidates = new int[count][];
+        long[][] costs = new long[count][];
+        for (int female = 0; female < count; female++) {
+            candidates[female] = female + 1 < count ? new int[]{female, female + 1} : new int[]{female};
+            costs[female] = female + 1 < count ? new long[]{1, 0} : new long[]{0};
+        }
+
+        int[][] assignments = MatchingAssignmentSolver.solve(1, capacities, candidates, costs);
+
+        for (int female = 0; female < count; female++) {
+            assertArrayEquals(new int[]{female}, assignments[female]);
+        }
+    }
+
+    @Test
+    void 무작위_입력에서_전수_탐색과_같은_최적값을_낸다() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            int femaleCount = 1 + random.nextInt(3);
+            int maleCount = 1 + random.nextInt(4);
+            int perFemale = 1 + random.nextInt(2);
+
+            int[] capacities = new int[maleCount];
+            for (int male = 0; male < maleCount; male++) {
+                capacities[male] = random.nextInt(3);
+            }
+            int[][] candidates = new int[femaleCount][];
+            long[][] costs = new long[femaleCount][];
+            for (int female = 0; female < femaleCount; female++) {
+                candidates[female] = random.ints(0, maleCount).distinct().limit(random.nextInt(maleCount + 1))
+                        .toArray();
+                costs[female] = random.longs(candidates[female].length, 0, 20).toArray();
+            }
+
+            int[][] assignments = MatchingAssignmentSolver.solve(perFemale, capacities, candidates, costs);
+
+            long[] expected = bruteForce(0, perFemale, capacities.clone(), candidates, costs);
+            long assigned = 0;
+            long totalCost = 0;
+            int[] used = new int[maleCount];
+            for (int female = 0; female < femaleCount; female++) {
+                assertTrue(assignments[female].length <= perFemale);
+                for (int male : assignments[female]) {
+                    used[male]++;
+                    totalCost += costOf(candidates[female], costs[female], male);
+                    assigned++;
+                }
+            }
+            for (int male = 0; male < maleCount; male++) {
+                assertTrue(used[male] <= capacities[male]);
+            }
+            assertEquals(expected[0], assigned, "round " + round);
+            assertEquals(expected[1], totalCost, "round " + round);
+        }
+    }
+
+    @Test
+    void 일부만_채운_배정이_다_채울_수_있는_배정을_막지_않는다() {
+        // 배정 수 최대화만 하면 비용이 0 인 여성 0 ← 남성 0, 여성 1 ← 남성 1 로 둘 다 한 명씩만 채움
+        int perFemale = 2;
+        int[] capacities = {1, 1};
+        int[][] candidates = {{0, 1}, {0, 1}};
+        long[][] costs = {{0, 5}, {5, 0}};
+
+        int[][] partial = MatchingAssignmentSolver.solve(perFemale, capacities, candidates, costs);
+        assertEquals(1, partial[0].length);
+        assertEquals(1, partial[1].length);
+
+        int[][] assignments = MatchingAssignmentSolver.solveComplete(perFemale, capacities, candidates, costs);
+        assertEquals(bruteForceComplete(0, perFemale, capacities.clone(), candidates), completeCount(assignments,
+                perFemale));
+        assertArrayEquals(new int[]{0, 1}, assignments[0]);
+        assertArrayEquals(new int[0], assignments[1]);
+    }
+
+    @Test
+    void 후보가_모자란_여성에게_남성을_나눠_주지_않는다() {
+        // 여성 1, 2 는 배정 가능한 후보가 한 명뿐이라 다 채울 수 없고, 비용이 낮아 배정 수 최대화에서는 남성을 가져감
+        int perFemale = 2;
+        int[] capacities = {1, 1, 0, 0};
+        int[][] candidates = {{0, 1}, {0, 2}, {1, 3}};
+        long[][] costs = {{10, 10}, {0, 0}, {0, 0}};
+
+        int[][] partial = MatchingAssignmentSolver.solve(perFemale, capacities, candidates, costs);
+        assertEquals(0, partial[0].length);
+
+        int[][] assignments = MatchingAssignmentSolver.solveComplete(perFemale, capacities, candidates, costs);
+        assertArrayEquals(new int[]{0, 1}, assignments[0]);
+        assertArrayEquals(new int[0], assignments[1]);
+        assertArrayEquals(new int[0], assignments[2]);
+    }
+
+    @Test
+    void 무작위_입력에서_전부_아니면_전무_배정은_수용_인원을_지키고_최적을_넘지_않는다() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            int femaleCount = 1 + random.nextInt(4);
+            int maleCount = 1 + random.nextInt(5);
+            int perFemale = 1 + random.nextInt(3);
+
+            int[] capacities = new int[maleCount];
+            for (int male = 0; male < maleCount; male++) {
+                capacities[male] = random.nextInt(3);
+            }
+            int[][] candidates = new int[femaleCount][];
+            long[][] costs = new long[femaleCount][];
+            for (int female = 0; female < femaleCount; female++) {
+                candidates[female] = random.ints(0, maleCount).distinct().limit(random.nextInt(maleCount + 1))
+                        .toArray();
+                costs[female] = random.longs(candidates[female].length, 0, 20).toArray();
+            }
+
+            int[][] assignments = MatchingAssignmentSolver.solveComplete(perFemale, capacities, candidates, costs);
+
+            int[] used = new int[maleCount];
+            for (int female = 0; female < femaleCount; female++) {
+                assertTrue(assignments[female].length == 0 || assignments[female].length == perFemale,
+                        "round " + round);
+                for (int male : assignments[female]) {
+                    costOf(candidates[female], costs[female], male);
+                    used[male]++;
+                }
+            }
+            for (int male = 0; male < maleCount; male++) {
+                assertTrue(used[male] <= capacities[male], "round " + round);
+            }
+            int complete = completeCount(assignments, perFemale);
+            int naive = completeCount(MatchingAssignmentSolver.solve(perFemale, capacities, candidates, costs),
+                    perFemale);
+            assertTrue(complete >= naive, "round " + round);
+            assertTrue(complete <= bruteForceComplete(0, perFemale, capacities.clone(), candidates),
+                    "round " + round);
+        }
+    }
+
+    private static int completeCount(int[][] assignments, int perFemale) {
+        int count = 0;
+        for (int[] males : assignments) {
+            if (males.length == perFemale) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 정확히 perFemale 명을 채울 수 있는 여성 수의 최댓값
+    private static int bruteForceComplete(int female, int perFemale, int[] capacities, int[][] candidates) {
+        if (female == candidates.length) {
+            return 0;
+        }
+        int best = bruteForceComplete(female + 1, perFemale, capacities, candidates);
+        int[] males = candidates[female];
+        for (int subset = 0; subset < (1 << males.length); subset++) {
+            if (Integer.bitCount(subset) != perFemale) {
+                continue;
+            }
+            boolean feasible = true;
+            for (int i = 0; i < males.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    feasible &= capacities[males[i]]-- > 0;
+                }
+            }
+            if (feasible) {
+                best = Math.max(best, 1 + bruteForceComplete(female + 1, perFemale, capacities, candidates));
+            }
+            for (int i = 0; i < males.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    capacities[males[i]]++;
+                }
+            }
+        }
+        return best;
+    }
+
+    // {배정 수, 비용 합}: 배정 수 최대, 같으면 비용 최소
+    private static long[] bruteForce(int female, int perFemale, int[] capacities, int[][] candidates,
+                                     long[][] costs) {
+        if (female == candidates.length) {
+            return new long[]{0, 0};
+        }
+        int[] males = candidates[female];
+        long[] best = null;
+        for (int subset = 0; subset < (1 << males.length); subset++) {
+            if (Integer.bitCount(subset) > perFemale) {
+                continue;
+            }
+            boolean feasible = true;
+            long cost = 0;
+            for (int i = 0; i < males.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    feasible &= capacities[males[i]]-- > 0;
+                    cost += costs[female][i];
+                }
+            }
+            if (feasible) {
+                long[] rest = bruteForce(female + 1, perFemale, capacities, candidates, costs);
+                long[] total = {rest[0] + Integer.bitCount(subset), rest[1] + cost};
+                if (best == null || total[0] > best[0] || (total[0] == best[0] && total[1] < best[1])) {
+                    best = total;
+                }
+            }
+            for (int i = 0; i < males.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    capacities[males[i]]++;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long costOf(int[] males, long[] costs, int male) {
+        for (int i = 0; i < males.length; i++) {
+            if (males[i] == male) {
+                return costs[i];
+            }
+        }
+        throw new IllegalStateException("후보가 아닌 남성이 배정되었습니다: " + male);
+    }
+}
@@ -0,0 +1,35 @@
+package masil.backend.modules.member.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import masil.backend.modules.member.entity.Member;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 자유 입력 거주 지역이 회원 저장 시점에 권역으로 정규화되는지 확인합니다.
+ */
+class RegionTest {
+
+    @Test
+    void 거주_지역_입력은_저장_시점에_권역으로_정규화된다() {
+        assertEquals(Region.SEOUL, Member.builder().residenceArea("서울 강남구").build().getRegion());
+        assertEquals(Region.GYEONGGI, Member.builder().residenceArea("경기 광주시").build().getRegion());
+        assertEquals(Region.KANTO, Member.builder().residenceArea("東京都 港区").build().getRegion());
+        assertEquals(Region.KANSAI, Member.builder().residenceArea("京都府").build().getRegion());
+        assertEquals(Region.KANSAI, Member.builder().residenceArea("Osaka").build().getRegion());
+        assertEquals(Region.UNKNOWN, Member.builder().residenceArea("해외").build().getRegion());
+        assertNull(Member.builder().residenceArea(" ").build().getRegion());
+        assertNull(Member.builder().build().getRegion());
+    }
+
+    @Test
+    void 프로필을_수정하면_권역도_다시_정해진다() {
+        Member member = Member.builder().residenceArea("서울").build();
+        member.updateProfile(null, null, null, null, "大阪府", null, null, null, null, null, null, null, null);
+        assertEquals(Region.KANSAI, member.getRegion());
+
+        member.updateProfile(null, null, null, null, null, null, null, null, null, null, null, null, null);
+        assertNull(member.getRegion());
+    }
+}
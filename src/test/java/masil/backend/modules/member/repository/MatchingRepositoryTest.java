@@ -0,0 +1,168 @@
+package masil.backend.modules.member.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import masil.backend.modules.member.dto.FemaleMatchingRow;
+import masil.backend.modules.member.dto.response.FemaleMatchingListResponse;
+import masil.backend.modules.member.entity.Matching;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberImage;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MatchingStatus;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.service.MemberImageLowService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 여성 매칭 목록 화면이 남성 수와 관계없이 일정한 쿼리 수로 조회되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(MemberImageLowService.class)
+class MatchingRepositoryTest {
+
+    private static final int MALE_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberImageLowService memberImageLowService;
+
+    private Long femaleMemberId;
+
+    @BeforeEach
+    void setUp() {
+        Member female = entityManager.persist(member("female@test.com", Gender.JAPANESE_FEMALE));
+        femaleMemberId = female.getId();
+        for (int order = 1; order <= MALE_COUNT; order++) {
+            Member male = entityManager.persist(member("male" + order + "@test.com", Gender.KOREAN_MALE));
+            entityManager.persist(new MemberImage(male, "https://image/" + order + "/0", 0));
+            entityManager.persist(new MemberImage(male, "https://image/" + order + "/1", 1));
+            Matching matching = entityManager.persist(Matching.builder()
+                    .femaleMember(female)
+                    .maleMember(male)
+                    .matchingOrder(order)
+                    .build());
+            if (order == MALE_COUNT) {
+                matching.selectByFemale();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 여성_매칭_목록은_매칭_조회와_이미지_조회_두_번의_쿼리로_만든다() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<FemaleMatchingRow> rows = matchingRepository.findFemaleMatchingRows(
+                femaleMemberId, List.of(MatchingStatus.PENDING_FEMALE_SELECTION));
+        Map<Long, List<MemberImage>> memberImagesMap = memberImageLowService.findByMemberIds(
+                rows.stream().map(FemaleMatchingRow::maleMemberId).toList());
+        List<FemaleMatchingListResponse> responses = rows.stream()
+                .map(row -> FemaleMatchingListResponse.from(row, memberImagesMap.get(row.maleMemberId())))
+                .toList();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(MALE_COUNT - 1, responses.size());
+        for (int index = 0; index < responses.size(); index++) {
+            FemaleMatchingListResponse response = responses.get(index);
+            int order = index + 1;
+            assertEquals(order, response.matchingOrder());
+            assertEquals("male" + order + "@test.com", response.maleEmail());
+            assertEquals(List.of("https://image/" + order + "/0", "https://image/" + order + "/1"),
+                    response.profileImageUrls());
+        }
+    }
+
+    @Test
+    void 선택한_매칭_상태는_지정한_상태만_조회한다() {
+        List<FemaleMatchingRow> rows = matchingRepository.findFemaleMatchingRows(femaleMemberId,
+                List.of(MatchingStatus.PENDING_MALE_ACCEPTANCE, MatchingStatus.ACCEPTED, MatchingStatus.REJECTED));
+
+        assertEquals(1, rows.size());
+        assertEquals(MALE_COUNT, rows.get(0).matchingOrder());
+        assertEquals(MatchingStatus.PENDING_MALE_ACCEPTANCE, rows.get(0).status());
+    }
+
+    @Test
+    void 조건부_상태_전환은_먼저_도착한_요청만_성공한다() {
+        Long matchingId = matchingRepository.findFemaleMatchingRows(
+                femaleMemberId, List.of(MatchingStatus.PENDING_MALE_ACCEPTANCE)).get(0).matchingId();
+
+        int accepted = matchingRepository.compareAndSetStatus(
+                matchingId, MatchingStatus.PENDING_MALE_ACCEPTANCE, MatchingStatus.ACCEPTED);
+        int rejected = matchingRepository.compareAndSetStatus(
+                matchingId, MatchingStatus.PENDING_MALE_ACCEPTANCE, MatchingStatus.REJECTED);
+        entityManager.clear();
+
+        assertEquals(1, accepted);
+        assertEquals(0, rejected);
+        Matching matching = entityManager.find(Matching.class, matchingId);
+        assertEquals(MatchingStatus.ACCEPTED, matching.getStatus());
+        // 선택(1회)과 수락(1회) 전환마다 버전이 올라감
+        assertEquals(2L, matching.getVersion());
+    }
+
+    @Test
+    void 선택한_매칭을_제외한_매칭과_상대_남성을_한_번에_되돌린다() {
+        List<FemaleMatchingRow> pending = matchingRepository.findFemaleMatchingRows(
+                femaleMemberId, List.of(MatchingStatus.PENDING_FEMALE_SELECTION));
+        Long keptMatchingId = pending.get(0).matchingId();
+        memberRepository.findAll().forEach(member -> member.changeStatus(MemberStatus.CONNECTING));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<MatchingStatus> statuses = List.of(MatchingStatus.PENDING_FEMALE_SELECTION);
+        int released = memberRepository.changeStatusOfMatchedMales(femaleMemberId, statuses, keptMatchingId,
+                MemberStatus.CONNECTING, MemberStatus.APPROVED);
+        int rejected = matchingRepository.rejectByFemaleMemberId(femaleMemberId, statuses, keptMatchingId);
+        entityManager.clear();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(pending.size() - 1, released);
+        assertEquals(pending.size() - 1, rejected);
+        for (FemaleMatchingRow row : pending) {
+            boolean kept = row.matchingId().equals(keptMatchingId);
+            assertEquals(kept ? MatchingStatus.PENDING_FEMALE_SELECTION : MatchingStatus.REJECTED,
+                    entityManager.find(Matching.class, row.matchingId()).getStatus());
+            assertEquals(kept ? MemberStatus.CONNECTING : MemberStatus.APPROVED,
+                    entityManager.find(Member.class, row.maleMemberId()).getStatus());
+        }
+        // 여성 본인은 대상이 아니므로 그대로
+        assertEquals(MemberStatus.CONNECTING, entityManager.find(Member.class, femaleMemberId).getStatus());
+    }
+
+    private static Member member(String email, Gender gender) {
+        return Member.builder()
+                .email(email)
+                .name(email)
+                .gender(gender)
+                .height(175)
+                .residenceArea("서울")
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package masil.backend.modules.member.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import masil.backend.modules.member.entity.PushOutbox;
+import masil.backend.modules.member.enums.PushOutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 푸시 알림 아웃박스의 전송 대상 조회와 점유, 재시도 상태 전환, 보관 기간 삭제를 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class PushOutboxRepositoryTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PushOutboxRepository pushOutboxRepository;
+
+    @Test
+    void 점유한_행은_다른_실행이_가져가지_못하고_점유가_만료되면_다시_가져간다() {
+        Long outboxId = persist();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, pushOutboxRepository.claim(List.of(outboxId), "first", now, now.plusMinutes(5)));
+        // 같은 후보를 읽은 다른 실행은 아무것도 점유하지 못함
+        assertEquals(0, pushOutboxRepository.claim(List.of(outboxId), "second", now, now.plusMinutes(5)));
+        assertEquals(List.of(outboxId), claimedIds("first"));
+        assertEquals(List.of(), claimedIds("second"));
+        assertEquals(PushOutboxStatus.SENDING, entityManager.find(PushOutbox.class, outboxId).getStatus());
+        assertEquals(List.of(), dueIds(now.plusMinutes(4)));
+
+        // 결과 반영 없이 점유 시간이 지나면 다시 가져갈 수 있음
+        LocalDateTime expired = now.plusMinutes(5);
+        assertEquals(List.of(outboxId), dueIds(expired));
+        assertEquals(1, pushOutboxRepository.claim(List.of(outboxId), "second", expired, expired.plusMinutes(5)));
+        assertEquals(List.of(outboxId), claimedIds("second"));
+
+        pushOutboxRepository.markSent(List.of(outboxId), expired);
+        entityManager.clear();
+        assertEquals(List.of(), dueIds(expired.plusMinutes(10)));
+    }
+
+    @Test
+    void 보관_기간이_지난_완료_실패_알림만_삭제한다() {
+        Long sentId = persist();
+        Long failedId = persist();
+        Long pendingId = persist();
+        LocalDateTime now = LocalDateTime.now();
+        pushOutboxRepository.claim(List.of(sentId, failedId), "claim", now, now.plusMinutes(5));
+        pushOutboxRepository.markSent(List.of(sentId), now);
+        pushOutboxRepository.markFailed(List.of(failedId));
+
+        assertEquals(0, pushOutboxRepository.deleteFinishedBefore(now.plusMinutes(5)));
+        assertEquals(2, pushOutboxRepository.deleteFinishedBefore(now.plusMinutes(6)));
+        entityManager.clear();
+        assertNull(entityManager.find(PushOutbox.class, sentId));
+        assertNull(entityManager.find(PushOutbox.class, failedId));
+        assertEquals(PushOutboxStatus.PENDING, entityManager.find(PushOutbox.class, pendingId).getStatus());
+    }
+
+    @Test
+    void 재시도는_최대_시도_횟수에_도달하면_실패로_바뀌고_대기_시간_전에는_조회되지_않는다() {
+        Long outboxId = persist();
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(List.of(outboxId), dueIds(now));
+
+        pushOutboxRepository.markRetry(List.of(outboxId), MAX_ATTEMPTS, now.plusMinutes(1));
+        entityManager.clear();
+        PushOutbox retried = entityManager.find(PushOutbox.class, outboxId);
+        assertEquals(PushOutboxStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertEquals(List.of(), dueIds(now));
+        assertEquals(List.of(outboxId), dueIds(now.plusMinutes(1)));
+
+        pushOutboxRepository.markRetry(List.of(outboxId), MAX_ATTEMPTS, now.plusMinutes(2));
+        entityManager.clear();
+        PushOutbox failed = entityManager.find(PushOutbox.class, outboxId);
+        assertEquals(PushOutboxStatus.FAILED, failed.getStatus());
+        assertEquals(MAX_ATTEMPTS, failed.getAttempts());
+        assertEquals(List.of(), dueIds(now.plusMinutes(2)));
+    }
+
+    private Long persist() {
+        return entityManager.persistAndFlush(PushOutbox.builder()
+                .fcmToken("token")
+                .title("title")
+                .body("body")
+                .build()).getId();
+    }
+
+    private List<Long> dueIds(LocalDateTime now) {
+        return pushOutboxRepository.findClaimableIds(now, PageRequest.of(0, 500));
+    }
+
+    private List<Long> claimedIds(String claimToken) {
+        return pushOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken).stream()
+                .map(PushOutbox::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.Religion;
+import masil.backend.modules.member.service.IntroductionVectorIndex.Neighbor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IVF 색인의 조회 결과를 전수 비교 결과와 비교합니다.
+ */
+class IvfIndexTest {
+
+    private static final int DIMENSION = 64;
+
+    private static final String[] PHRASES = {
+            "주말에는 등산을 자주 가요.", "카페에서 책 읽는 시간을 좋아합니다.", "요리하는 걸 좋아해요.",
+            "여행을 좋아해서 일본에도 다녀왔어요.", "운동은 수영을 꾸준히 합니다.", "영화를 즐겨 봐요.",
+            "조용하고 차분한 성격입니다.", "반려견과 산책하는 게 일상입니다.", "音楽が好きです", "旅行が大好き"
+    };
+
+    private final HashingEmbeddingProvider embeddingProvider = new HashingEmbeddingProvider(DIMENSION);
+
+    @Test
+    void 모든_목록을_비교하면_전수_비교와_같다() {
+        Random random = new Random(7);
+        MaleCandidateSnapshot snapshot = snapshot(random, 2_000);
+        IvfIndex index = IvfIndex.build(snapshot, DIMENSION);
+
+        for (int query = 0; query < 50; query++) {
+            float[] vector = embeddingProvider.embed(introduction(random));
+            assertEquals(bruteForce(snapshot, vector, 20), index.nearest(vector, 20, index.listCount()));
+        }
+    }
+
+    @Test
+    void 일부_목록만_비교해도_대부분의_최근접_이웃을_찾는다() {
+        Random random = new Random(11);
+        MaleCandidateSnapshot snapshot = snapshot(random, 2_000);
+        IvfIndex index = IvfIndex.build(snapshot, DIMENSION);
+
+        int found = 0;
+        int total = 0;
+        for (int query = 0; query < 50; query++) {
+            float[] vector = embeddingProvider.embed(introduction(random));
+            List<Double> exact = bruteForce(snapshot, vector, 10).stream().map(Neighbor::similarity).toList();
+            for (Neighbor neighbor : index.nearest(vector, 10, 8)) {
+                found += exact.contains(neighbor.similarity()) ? 1 : 0;
+            }
+            total += exact.size();
+        }
+        assertTrue(found >= total * 0.9, "recall=" + (double) found / total);
+    }
+
+    @Test
+    void 회원_변경은_해당_회원만_목록에서_옮긴다() {
+        Random random = new Random(3);
+        MaleCandidateSnapshot snapshot = snapshot(random, 500);
+        IvfIndex index = IvfIndex.build(snapshot, DIMENSION);
+        long memberId = snapshot.id(0);
+
+        float[] moved = embeddingProvider.embed("완전히 새로운 자기소개입니다");
+        IvfIndex updated = index.with(memberId, moved);
+        assertEquals(index.size(), updated.size());
+        assertEquals(new Neighbor(memberId, EmbeddingVectors.dot(moved, moved)),
+                updated.nearest(moved, 1, updated.listCount()).get(0));
+
+        IvfIndex removed = updated.with(memberId, null);
+        assertEquals(index.size() - 1, removed.size());
+        assertTrue(removed.nearest(moved, removed.size(), removed.listCount()).stream()
+                .noneMatch(neighbor -> neighbor.memberId() == memberId));
+    }
+
+    private MaleCandidateSnapshot snapshot(Random random, int size) {
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            // 자기소개가 없는 회원은 색인에 들어가지 않음
+            float[] embedding = id % 10 == 0 ? null : embeddingProvider.embed(introduction(random));
+            rows.add(new MaleCandidateAttributes(id, 175, Religion.NONE, Education.BACHELOR_DEGREE,
+                    Asset.UNDER_100M, null, null, embedding));
+        }
+        return MaleCandidateSnapshot.of(1L, rows);
+    }
+
+    private static String introduction(Random random) {
+        return PHRASES[random.nextInt(PHRASES.length)] + " " + PHRASES[random.nextInt(PHRASES.length)];
+    }
+
+    private static List<Neighbor> bruteForce(MaleCandidateSnapshot snapshot, float[] query, int k) {
+        List<Neighbor> neighbors = new ArrayList<>();
+        for (int index = 0; index < snapshot.size(); index++) {
+            if (snapshot.embedding(index) != null) {
+                neighbors.add(new Neighbor(snapshot.id(index), EmbeddingVectors.dot(query, snapshot.embedding(index))));
+            }
+        }
+        neighbors.sort(Comparator.comparingDouble(Neighbor::similarity).reversed()
+                .thenComparingLong(Neighbor::memberId));
+        return neighbors.subList(0, Math.min(k, neighbors.size()));
+    }
+}
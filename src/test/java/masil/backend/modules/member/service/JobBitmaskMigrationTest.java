@@ -0,0 +1,117 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.JobType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 직업 비트마스크 마이그레이션이 비트마스크가 없거나 JSON 과 다른 행만 옮기고, 롤백을 위해 JSON 컬럼을 남겨 두는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JobBitmaskMigration.class, ScoringPlanCache.class})
+class JobBitmaskMigrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobBitmaskMigration jobBitmaskMigration;
+
+    @Test
+    void 비트마스크가_없는_행을_옮기고_JSON_컬럼은_남긴다() {
+        Long legacyId = legacyPreference("legacy@test.com", "[\"DOCTOR\",\"UNKNOWN_JOB\"]", "[\"FREELANCER\"]");
+        Long emptyId = legacyPreference("empty@test.com", null, null);
+        Long migratedId = entityManager.persistAndFlush(preference("migrated@test.com",
+                JobType.toBitmask(Set.of(JobType.TEACHER)))).getId();
+
+        jobBitmaskMigration.migrate();
+
+        assertEquals(JobType.DOCTOR.getBitmask(), bitmask("preferred_jobs_bitmask", legacyId));
+        assertEquals(JobType.FREELANCER.getBitmask(), bitmask("avoided_jobs_bitmask", legacyId));
+        assertEquals(0L, bitmask("preferred_jobs_bitmask", emptyId));
+        assertEquals(0L, bitmask("avoided_jobs_bitmask", emptyId));
+        assertEquals(JobType.TEACHER.getBitmask(), bitmask("preferred_jobs_bitmask", migratedId));
+
+        // JSON 컬럼은 그대로 남아 이전 릴리스로 되돌려도 읽을 수 있음
+        assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT preferred_jobs FROM member_preference WHERE id = ?", Object.class, legacyId));
+    }
+
+    @Test
+    void 이전_릴리스가_이미_옮긴_행의_JSON_만_고치면_다시_옮긴다() {
+        Long migratedId = entityManager.persistAndFlush(preference("updated@test.com",
+                JobType.toBitmask(Set.of(JobType.TEACHER)))).getId();
+        Long untouchedId = entityManager.persistAndFlush(preference("untouched@test.com",
+                JobType.toBitmask(Set.of(JobType.DOCTOR)))).getId();
+        jobBitmaskMigration.migrate();
+
+        // 이전 릴리스는 비트마스크를 모르므로 JSON 컬럼만 바꿈
+        jdbcTemplate.update("UPDATE member_preference SET preferred_jobs = ? FORMAT JSON WHERE id = ?",
+                "[\"FREELANCER\"]", migratedId);
+        jobBitmaskMigration.migrate();
+
+        assertEquals(JobType.FREELANCER.getBitmask(), bitmask("preferred_jobs_bitmask", migratedId));
+        assertEquals(JobType.DOCTOR.getBitmask(), bitmask("preferred_jobs_bitmask", untouchedId));
+
+        // 비운 경우도 반영
+        jdbcTemplate.update("UPDATE member_preference SET preferred_jobs = NULL WHERE id = ?", migratedId);
+        jobBitmaskMigration.migrate();
+        assertEquals(0L, bitmask("preferred_jobs_bitmask", migratedId));
+    }
+
+    @Test
+    void 저장한_선호도는_이전_릴리스의_JSON_형식도_함께_가진다() {
+        MemberPreference saved = preference("dual@test.com",
+                JobType.toBitmask(List.of(JobType.TEACHER, JobType.DOCTOR)));
+
+        assertEquals("[\"DOCTOR\",\"TEACHER\"]", ReflectionTestUtils.getField(saved, "legacyPreferredJobs"));
+        assertNull(ReflectionTestUtils.getField(saved, "legacyAvoidedJobs"));
+    }
+
+    // 이전 릴리스가 저장한 행: JSON 컬럼만 있고 비트마스크는 비어 있음
+    private Long legacyPreference(String email, String preferredJobs, String avoidedJobs) {
+        Long id = entityManager.persistAndFlush(preference(email, null)).getId();
+        jdbcTemplate.update("""
+                UPDATE member_preference
+                SET preferred_jobs = ? FORMAT JSON, avoided_jobs = ? FORMAT JSON,
+                    preferred_jobs_bitmask = NULL, avoided_jobs_bitmask = NULL
+                WHERE id = ?
+                """, preferredJobs, avoidedJobs, id);
+        return id;
+    }
+
+    private MemberPreference preference(String email, Long preferredJobsBitmask) {
+        Member member = entityManager.persist(Member.builder()
+                .email(email)
+                .name(email)
+                .gender(Gender.JAPANESE_FEMALE)
+                .build());
+        return new MemberPreference(member, null, null, null, null, null, null, null, null,
+                preferredJobsBitmask, null, "X", "X", "X", "X", null, null, null);
+    }
+
+    private Long bitmask(String column, Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM member_preference WHERE id = ?", Long.class, id);
+    }
+}
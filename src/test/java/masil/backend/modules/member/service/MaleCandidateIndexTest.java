@@ -0,0 +1,100 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * MaleCandidateIndex 의 변경 기록(changedBetween)이 원형 버퍼 범위 안에서는 정확하고, 덮어써진 뒤에는 null 인지 확인합니다.
+ */
+class MaleCandidateIndexTest {
+
+    private MemberRepository memberRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private MaleCandidateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rows.add(new MaleCandidateAttributes(id, 175, null, null, null, null, null, null));
+        }
+        when(memberRepository.findCandidateAttributes(any(), any())).thenReturn(rows);
+        index = new MaleCandidateIndex(memberRepository, eventPublisher);
+        index.getSnapshot();
+    }
+
+    @Test
+    void 변경된_회원_ID를_오름차순으로_중복_없이_반환한다() {
+        save(7L, 180);
+        save(3L, 181);
+        save(7L, 182);
+        remove(5L);
+        // 없는 회원 삭제는 스냅샷을 바꾸지 않으므로 기록되지 않음
+        remove(99L);
+
+        MaleCandidateSnapshot snapshot = index.getSnapshot();
+        assertEquals(5L, snapshot.version());
+        assertEquals(9, snapshot.size());
+        assertEquals(182, snapshot.height(snapshot.indexOf(7L)));
+        assertArrayEquals(new long[]{3L, 5L, 7L}, index.changedBetween(1L, 5L));
+        assertArrayEquals(new long[]{5L}, index.changedBetween(4L, 5L));
+        assertArrayEquals(new long[0], index.changedBetween(5L, 5L));
+        assertNull(index.changedBetween(6L, 5L));
+        verify(eventPublisher, times(4)).publishEvent(any(MaleCandidatesChangedEvent.class));
+    }
+
+    @Test
+    void 변경_기록이_덮어써지면_null_을_반환한다() {
+        int logSize = MaleCandidateIndex.CHANGE_LOG_SIZE;
+        for (int change = 0; change < logSize - 1; change++) {
+            save(1L + change % 10, 150 + change % 50);
+        }
+        long version = index.getSnapshot().version();
+        assertEquals(logSize, version);
+        // 아직 처음 버전 이후의 기록이 모두 남아 있음
+        assertEquals(10, index.changedBetween(1L, version).length);
+
+        save(1L, 200);
+        assertNull(index.changedBetween(1L, version + 1));
+        assertArrayEquals(new long[]{1L}, index.changedBetween(version, version + 1));
+    }
+
+    private void save(long memberId, int height) {
+        Member member = Member.builder()
+                .id(memberId)
+                .email(memberId + "@test.com")
+                .gender(Gender.KOREAN_MALE)
+                .height(height)
+                .build();
+        member.changeStatus(MemberStatus.APPROVED);
+        index.stage(member, false);
+    }
+
+    private void remove(long memberId) {
+        Member member = Member.builder()
+                .id(memberId)
+                .email(memberId + "@test.com")
+                .gender(Gender.KOREAN_MALE)
+                .build();
+        index.stage(member, true);
+    }
+}
@@ -0,0 +1,118 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.Region;
+import masil.backend.modules.member.enums.Religion;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MaleCandidateSnapshot 의 복사 후 변경(추가, 갱신, 삭제)이 정렬된 모델과 같은 결과를 내고 이전 스냅샷을 바꾸지 않는지 확인합니다.
+ */
+class MaleCandidateSnapshotTest {
+
+    @Test
+    void 무작위_추가_갱신_삭제_후에도_회원_ID_순서와_속성이_모델과_같다() {
+        Random random = new Random(17);
+        TreeMap<Long, MaleCandidateAttributes> model = new TreeMap<>();
+        for (long id = 1; id <= 20; id += 2) {
+            model.put(id, row(random, id));
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, model.values());
+        assertMatches(model, snapshot);
+
+        for (int step = 0; step < 2_000; step++) {
+            long memberId = random.nextInt(40);
+            MaleCandidateSnapshot before = snapshot;
+            TreeMap<Long, MaleCandidateAttributes> beforeModel = new TreeMap<>(model);
+            long nextVersion = snapshot.version() + 1;
+
+            if (random.nextInt(3) == 0) {
+                snapshot = snapshot.without(nextVersion, memberId);
+                if (model.remove(memberId) == null) {
+                    // 없는 회원을 지우면 같은 스냅샷
+                    assertSame(before, snapshot);
+                }
+            } else {
+                MaleCandidateAttributes row = row(random, memberId);
+                snapshot = snapshot.with(nextVersion, row);
+                model.put(memberId, row);
+            }
+
+            assertMatches(model, snapshot);
+            // 이전 스냅샷은 그대로
+            assertMatches(beforeModel, before);
+            if (snapshot != before) {
+                assertEquals(nextVersion, snapshot.version());
+            }
+        }
+    }
+
+    @Test
+    void 맨_앞과_맨_뒤에_추가하고_삭제할_수_있다() {
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, List.of(row(new Random(1), 5L)));
+        snapshot = snapshot.with(2L, row(new Random(2), 1L));
+        snapshot = snapshot.with(3L, row(new Random(3), 9L));
+        assertArrayEquals(new long[]{1L, 5L, 9L}, ids(snapshot));
+
+        snapshot = snapshot.without(4L, 1L);
+        snapshot = snapshot.without(5L, 9L);
+        assertArrayEquals(new long[]{5L}, ids(snapshot));
+        snapshot = snapshot.without(6L, 5L);
+        assertEquals(0, snapshot.size());
+        assertTrue(snapshot.indexOf(5L) < 0);
+    }
+
+    private static void assertMatches(Map<Long, MaleCandidateAttributes> model, MaleCandidateSnapshot snapshot) {
+        assertEquals(model.size(), snapshot.size());
+        int index = 0;
+        for (MaleCandidateAttributes row : model.values()) {
+            assertEquals(row.id(), snapshot.id(index));
+            assertEquals(index, snapshot.indexOf(row.id()));
+            assertEquals(row.height() != null ? row.height() : ScoringPlan.NO_VALUE, snapshot.height(index));
+            assertEquals(row.religion() != null ? row.religion().ordinal() : ScoringPlan.NO_VALUE,
+                    snapshot.religion(index));
+            assertEquals(row.education().ordinal(), snapshot.education(index));
+            assertEquals(row.asset().ordinal(), snapshot.asset(index));
+            assertEquals(MbtiCode.pack(row.mbti()), snapshot.mbti(index));
+            assertEquals(row.region() != null ? row.region().ordinal() : ScoringPlan.NO_VALUE, snapshot.region(index));
+            assertSame(row.embedding(), snapshot.embedding(index));
+            index++;
+        }
+    }
+
+    private static long[] ids(MaleCandidateSnapshot snapshot) {
+        long[] ids = new long[snapshot.size()];
+        for (int index = 0; index < ids.length; index++) {
+            ids[index] = snapshot.id(index);
+        }
+        return ids;
+    }
+
+    private static MaleCandidateAttributes row(Random random, long id) {
+        Religion[] religions = Religion.values();
+        Education[] educations = Education.values();
+        Asset[] assets = Asset.values();
+        Region[] regions = Region.values();
+        return new MaleCandidateAttributes(
+                id,
+                random.nextInt(5) == 0 ? null : 160 + random.nextInt(30),
+                random.nextInt(5) == 0 ? null : religions[random.nextInt(religions.length)],
+                educations[random.nextInt(educations.length)],
+                assets[random.nextInt(assets.length)],
+                random.nextBoolean() ? "ENTJ" : null,
+                random.nextInt(5) == 0 ? null : regions[random.nextInt(regions.length)],
+                random.nextBoolean() ? new float[]{random.nextFloat()} : null);
+    }
+}
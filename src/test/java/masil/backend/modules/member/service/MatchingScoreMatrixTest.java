@@ -0,0 +1,175 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * MatchingScoreMatrix 의 열 단위 갱신(patchColumns)이 전체 재계산과 같은 행을 만들고,
+ * 가득 찼을 때 가장 오래 조회되지 않은 행을 버리며, 후보 변경 이벤트는 조회 시각을 바꾸지 않는지 확인합니다.
+ */
+class MatchingScoreMatrixTest {
+
+    private MaleCandidateIndex index;
+    private MatchingScoreService matchingScoreService;
+    private MatchingScoreMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rows.add(new MaleCandidateAttributes(id, 164 + (int) id * 2, null, null, null, null, null, null));
+        }
+        when(memberRepository.findCandidateAttributes(any(), any())).thenReturn(rows);
+        index = new MaleCandidateIndex(memberRepository, mock(ApplicationEventPublisher.class));
+
+        MemberPreference preference = new MemberPreference(null, 170, 180, null, EducationLevel.MID_TIER, null, null,
+                null, null, null, null, "X", "X", "X", "X", PreferenceCategory.HEIGHT, null, null);
+        preference.changeMustSatisfy(PreferenceCategory.toBitmask(List.of(PreferenceCategory.HEIGHT)));
+        ScoringPlan plan = ScoringPlan.compile(preference);
+
+        matchingScoreService = mock(MatchingScoreService.class);
+        when(matchingScoreService.getScoringPlan(any(Member.class))).thenReturn(plan);
+        when(matchingScoreService.scoreCandidates(any(), any(), any())).thenAnswer(invocation -> {
+            ScoringPlan scoringPlan = invocation.getArgument(0);
+            MaleCandidateSnapshot candidates = invocation.getArgument(1);
+            long[] eligible = invocation.getArgument(2);
+            double[] scores = new double[candidates.size()];
+            for (int i = 0; i < scores.length; i++) {
+                if (MatchingScoreMatrix.ScoreRow.contains(eligible, i)) {
+                    scores[i] = scoringPlan.score(candidates, i);
+                }
+            }
+            return scores;
+        });
+
+        matrix = new MatchingScoreMatrix(matchingScoreService, index);
+        ReflectionTestUtils.setField(matrix, "maxRows", 2);
+        ReflectionTestUtils.setField(matrix, "rankingSize", 4);
+    }
+
+    @Test
+    void 열_단위_갱신은_추가_수정_삭제_후_전체_재계산과_같다() {
+        Member female = female(100L);
+        matrix.getRow(female);
+
+        // 추가, 조건 안으로 이동, 조건 밖으로 이동, 삭제
+        save(11L, 175);
+        save(2L, 172);
+        save(4L, 190);
+        remove(5L);
+
+        MatchingScoreMatrix.ScoreRow patched = matrix.getRow(female);
+        // 처음 한 번만 전체 계산하고, 이후는 바뀐 열만 계산함
+        verify(matchingScoreService, times(1)).scoreCandidates(any(), any(), any());
+
+        matrix.evict(female.getId());
+        MatchingScoreMatrix.ScoreRow recomputed = matrix.getRow(female);
+        verify(matchingScoreService, times(2)).scoreCandidates(any(), any(), any());
+
+        assertSame(recomputed.candidates(), patched.candidates());
+        assertNotNull(patched.eligible());
+        assertArrayEquals(recomputed.eligible(), patched.eligible());
+        assertArrayEquals(recomputed.scores(), patched.scores());
+    }
+
+    @Test
+    void 가득_차면_가장_오래_조회되지_않은_행을_버린다() {
+        Member first = female(100L);
+        Member second = female(200L);
+        Member third = female(300L);
+
+        matrix.getRow(first);
+        matrix.getRow(second);
+        matrix.getRow(first);
+        matrix.getRow(third);
+        verify(matchingScoreService, times(3)).scoreCandidates(any(), any(), any());
+
+        // 최근에 조회한 first 는 남고, second 가 버려짐
+        matrix.getRow(first);
+        verify(matchingScoreService, times(3)).scoreCandidates(any(), any(), any());
+        matrix.getRow(second);
+        verify(matchingScoreService, times(4)).scoreCandidates(any(), any(), any());
+    }
+
+    @Test
+    void 후보_변경_이벤트로_목록을_다시_만들어도_조회_시각은_그대로다() {
+        Member first = female(100L);
+        Member second = female(200L);
+        matrix.getRanking(first);
+        matrix.getRanking(second);
+        Map<Long, Long> accessedBefore = Map.copyOf(lastAccess());
+
+        // 조건을 통과한 상위 4명(3~6 번) 중 3명이 빠져 두 목록 모두 점수 행에서 다시 만듦
+        remove(3L);
+        remove(4L);
+        remove(5L);
+        MaleCandidateSnapshot candidates = index.getSnapshot();
+        matrix.onMaleCandidatesChanged(new MaleCandidatesChangedEvent(candidates));
+
+        assertSame(candidates, rankings().get(100L).candidates());
+        assertSame(candidates, rankings().get(200L).candidates());
+        assertEquals(accessedBefore, lastAccess());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> lastAccess() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(matrix, "lastAccess");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, MatchingScoreMatrix.Ranking> rankings() {
+        return (Map<Long, MatchingScoreMatrix.Ranking>) ReflectionTestUtils.getField(matrix, "rankings");
+    }
+
+    private static Member female(long memberId) {
+        return Member.builder()
+                .id(memberId)
+                .email(memberId + "@test.com")
+                .gender(Gender.JAPANESE_FEMALE)
+                .build();
+    }
+
+    private void save(long memberId, int height) {
+        Member member = Member.builder()
+                .id(memberId)
+                .email(memberId + "@test.com")
+                .gender(Gender.KOREAN_MALE)
+                .height(height)
+                .build();
+        member.changeStatus(MemberStatus.APPROVED);
+        index.stage(member, false);
+    }
+
+    private void remove(long memberId) {
+        Member member = Member.builder()
+                .id(memberId)
+                .email(memberId + "@test.com")
+                .gender(Gender.KOREAN_MALE)
+                .build();
+        index.stage(member, true);
+    }
+}
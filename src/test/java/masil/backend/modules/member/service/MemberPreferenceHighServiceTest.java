@@ -0,0 +1,136 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+import masil.backend.modules.member.dto.request.SaveMemberPreferenceRequest;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.enums.AppearanceStyle;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.DrinkingFrequency;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.Gender;
+import masil.backend.modules.member.enums.JobType;
+import masil.backend.modules.member.enums.MemberStatus;
+import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Religion;
+import masil.backend.modules.member.enums.SmokingStatus;
+import masil.backend.modules.member.repository.MemberPreferenceRepository;
+import masil.backend.modules.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 선호도를 저장하면 요청과 커밋 후 시작되는 AI 요약, 자기소개 임베딩 작업이 모두 저장되는지 확인합니다.
+ * 세 트랜잭션이 같은 회원 행을 고치므로 @Version 충돌로 어느 하나가 사라지지 않아야 합니다.
+ * 커밋 후 작업이 실제로 시작되도록 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "matching.embedding.provider=hashing"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MemberPreferenceHighService.class, MemberPreferenceLowService.class, MemberLowService.class,
+        MemberImageLowService.class, MemberAiService.class, MemberEmbeddingService.class,
+        HashingEmbeddingProvider.class, ScoringPlanCache.class, MemberPreferenceHighServiceTest.AsyncConfig.class})
+class MemberPreferenceHighServiceTest {
+
+    private static final String OTHER_INFO = "주말에는 등산을 가고 평일 저녁에는 요리를 해요.";
+
+    @TestConfiguration
+    @EnableAsync
+    static class AsyncConfig {
+    }
+
+    @MockitoBean(answers = Answers.RETURNS_DEEP_STUBS)
+    private ChatClient.Builder chatClientBuilder;
+
+    @MockitoBean
+    private MatchingScoreMatrix matchingScoreMatrix;
+
+    @Autowired
+    private MemberPreferenceHighService memberPreferenceHighService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberPreferenceRepository memberPreferenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM member_image");
+        jdbcTemplate.update("DELETE FROM member_preference");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void 선호도_저장과_커밋_후_작업의_결과가_모두_저장된다() throws InterruptedException {
+        given(chatClientBuilder.build().prompt().user(anyString()).call().content())
+                .willReturn("등산과 요리를 즐기는 분입니다.");
+        Long memberId = memberRepository.save(Member.builder()
+                .email("female@test.com")
+                .gender(Gender.JAPANESE_FEMALE)
+                .build()).getId();
+
+        memberPreferenceHighService.saveMemberPreference(memberId, request());
+
+        Member member = awaitAsyncResults(memberId);
+        assertEquals(OTHER_INFO, member.getOtherInfo());
+        assertEquals(MemberStatus.PENDING_APPROVAL, member.getStatus());
+        assertTrue(memberPreferenceRepository.findByMemberId(memberId).isPresent());
+        assertNotNull(member.getIntroductionEmbedding());
+        assertEquals("등산과 요리를 즐기는 분입니다.", member.getAiSummary());
+        assertEquals("등산과 요리를 즐기는 분입니다.", member.getAiSummaryJp());
+    }
+
+    // 두 비동기 작업이 모두 기록할 때까지 최대 5초 기다림
+    private Member awaitAsyncResults(Long memberId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            Member member = memberRepository.findById(memberId).orElseThrow();
+            boolean done = member.getIntroductionEmbedding() != null && member.getAiSummaryJp() != null;
+            if (done || System.currentTimeMillis() > deadline) {
+                return member;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static SaveMemberPreferenceRequest request() {
+        return new SaveMemberPreferenceRequest(
+                "하나코", Gender.JAPANESE_FEMALE, 160, 50, "東京都 港区",
+                SmokingStatus.NON_SMOKER, DrinkingFrequency.ONCE_A_WEEK, Religion.NONE,
+                Education.BACHELOR_DEGREE, Asset.UNDER_100M, OTHER_INFO,
+                List.of("https://image.test/1.png"), "https://image.test/1.png",
+                170, 185, List.of(), EducationLevel.MID_TIER, AppearanceStyle.NATURAL,
+                ParentAssetLevel.NO_CONCERN, 0L, 1_000_000_000L, List.of(JobType.TEACHER), List.of(),
+                "X", "X", "X", "X",
+                PreferenceCategory.HEIGHT, PreferenceCategory.EDUCATION, PreferenceCategory.JOB,
+                List.of(), "ISFJ"
+        );
+    }
+}
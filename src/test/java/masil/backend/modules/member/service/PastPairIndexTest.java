@@ -0,0 +1,49 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import masil.backend.modules.member.dto.MatchingPair;
+import masil.backend.modules.member.repository.MatchingRepository;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PastPairIndex 가 적재 쿼리 도중에 커밋된 매칭 쌍을 잃지 않는지 확인합니다.
+ */
+class PastPairIndexTest {
+
+    @Test
+    void 적재_도중_기록된_쌍은_적재가_끝난_뒤_합쳐진다() {
+        MatchingRepository matchingRepository = mock(MatchingRepository.class);
+        PastPairIndex index = new PastPairIndex(matchingRepository);
+        // 쿼리가 스냅샷을 읽은 뒤 다른 매칭이 커밋된 상황 (트랜잭션 밖이므로 record 는 바로 반영을 시도)
+        when(matchingRepository.findAllPairs()).thenAnswer(invocation -> {
+            index.record(1L, List.of(30L, 10L));
+            index.record(2L, List.of(40L));
+            return List.of(new MatchingPair(1L, 20L), new MatchingPair(1L, 10L));
+        });
+
+        assertArrayEquals(new long[]{10L, 20L, 30L}, index.maleIdsFor(1L));
+        assertArrayEquals(new long[]{40L}, index.maleIdsFor(2L));
+
+        // 적재 후의 기록은 공개된 인덱스에 바로 반영
+        index.record(2L, List.of(5L));
+        assertArrayEquals(new long[]{5L, 40L}, index.maleIdsFor(2L));
+        verify(matchingRepository, times(1)).findAllPairs();
+    }
+
+    @Test
+    void 적재_전의_기록은_첫_조회의_쿼리가_읽는다() {
+        MatchingRepository matchingRepository = mock(MatchingRepository.class);
+        PastPairIndex index = new PastPairIndex(matchingRepository);
+        index.record(1L, List.of(10L));
+        when(matchingRepository.findAllPairs()).thenReturn(List.of(new MatchingPair(1L, 10L)));
+
+        assertArrayEquals(new long[]{10L}, index.maleIdsFor(1L));
+        assertArrayEquals(new long[0], index.maleIdsFor(3L));
+    }
+}
@@ -0,0 +1,181 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RankedCandidates 의 update/remove 결과가 항상 조건을 통과한 전체 후보를 정렬한 앞부분과 정확히 같은지 확인합니다.
+ * (점수 내림차순, 동점이면 회원 ID 오름차순, complete 이면 전체 후보)
+ */
+class RankedCandidatesTest {
+
+    private static final int MEMBER_COUNT = 40;
+
+    private final MaleCandidateSnapshot candidates = snapshot();
+
+    @Test
+    void 불완전한_목록의_끝보다_뒤로_밀린_회원은_목록에서_빠진다() {
+        Map<Long, Double> model = new TreeMap<>(Map.of(1L, 90.0, 2L, 80.0, 3L, 70.0, 4L, 60.0, 5L, 50.0));
+        RankedCandidates ranked = rank(model, 3);
+        assertFalse(ranked.isComplete());
+
+        // 목록 밖의 4, 5 번이 60, 50 점이라도 목록은 그 사실을 모르므로 2 번을 끝에 둘 수 없음
+        model.put(2L, 65.0);
+        ranked = ranked.update(2L, 65.0, 3);
+        assertHead(model, ranked);
+        assertEquals(2, ranked.size());
+        assertFalse(ranked.covers(3));
+
+        // 목록 안으로 다시 올라오면 들어감
+        model.put(2L, 95.0);
+        ranked = ranked.update(2L, 95.0, 3);
+        assertHead(model, ranked);
+        assertEquals(3, ranked.size());
+    }
+
+    @Test
+    void 완전한_목록이_넘치면_꼬리를_버리고_불완전해진다() {
+        Map<Long, Double> model = new TreeMap<>(Map.of(1L, 90.0, 2L, 80.0, 3L, 70.0));
+        RankedCandidates ranked = rank(model, 3);
+        assertTrue(ranked.isComplete());
+
+        // 끝보다 뒤인 새 회원: 들어갈 자리가 없으므로 목록은 그대로이고 목록 밖에 후보가 생김
+        model.put(4L, 10.0);
+        ranked = ranked.update(4L, 10.0, 3);
+        assertHead(model, ranked);
+        assertFalse(ranked.isComplete());
+        assertEquals(3, ranked.size());
+
+        // 앞서는 새 회원: 꼬리(3 번)를 버림
+        model.put(5L, 85.0);
+        ranked = ranked.update(5L, 85.0, 3);
+        assertHead(model, ranked);
+        assertEquals(List.of(1L, 5L, 2L), ids(ranked));
+    }
+
+    @Test
+    void 완전한_목록은_끝보다_뒤로_밀려도_끝에_남는다() {
+        Map<Long, Double> model = new TreeMap<>(Map.of(1L, 90.0, 2L, 80.0, 3L, 70.0));
+        RankedCandidates ranked = rank(model, 5);
+        assertTrue(ranked.isComplete());
+
+        model.put(1L, 10.0);
+        ranked = ranked.update(1L, 10.0, 5);
+        assertHead(model, ranked);
+        assertTrue(ranked.isComplete());
+
+        model.remove(2L);
+        ranked = ranked.remove(2L);
+        assertHead(model, ranked);
+        assertTrue(ranked.isComplete());
+        assertEquals(List.of(3L, 1L), ids(ranked));
+    }
+
+    @Test
+    void 동점은_회원_ID_오름차순으로_들어간다() {
+        Map<Long, Double> model = new TreeMap<>(Map.of(1L, 50.0, 3L, 50.0, 5L, 50.0));
+        RankedCandidates ranked = rank(model, 4);
+
+        model.put(4L, 50.0);
+        ranked = ranked.update(4L, 50.0, 4);
+        model.put(2L, 50.0);
+        ranked = ranked.update(2L, 50.0, 4);
+        assertHead(model, ranked);
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(ranked));
+        assertFalse(ranked.isComplete());
+    }
+
+    @Test
+    void 무작위_변경_후에도_전체_정렬의_앞부분과_같다() {
+        Random random = new Random(17);
+        for (int round = 0; round < 300; round++) {
+            int capacity = 1 + random.nextInt(10);
+            Map<Long, Double> model = new TreeMap<>();
+            for (long id = 1; id <= MEMBER_COUNT; id++) {
+                if (random.nextBoolean()) {
+                    model.put(id, score(random));
+                }
+            }
+            RankedCandidates ranked = rank(model, capacity);
+
+            for (int step = 0; step < 100; step++) {
+                long memberId = 1 + random.nextInt(MEMBER_COUNT);
+                if (random.nextInt(4) == 0) {
+                    model.remove(memberId);
+                    ranked = ranked.remove(memberId);
+                } else {
+                    double score = score(random);
+                    model.put(memberId, score);
+                    ranked = ranked.update(memberId, score, capacity);
+                }
+                assertTrue(ranked.size() <= capacity);
+                assertHead(model, ranked);
+                // MatchingScoreMatrix 와 같이 많이 줄면 전체에서 다시 만듦
+                if (!ranked.covers(capacity / 2)) {
+                    ranked = rank(model, capacity);
+                }
+            }
+        }
+    }
+
+    private void assertHead(Map<Long, Double> model, RankedCandidates ranked) {
+        List<Map.Entry<Long, Double>> expected = sorted(model);
+        assertTrue(ranked.size() <= expected.size());
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            assertEquals(expected.get(rank).getKey().longValue(), ranked.id(rank));
+            assertEquals(expected.get(rank).getValue().doubleValue(), ranked.score(rank));
+        }
+        if (ranked.isComplete()) {
+            assertEquals(expected.size(), ranked.size());
+        }
+    }
+
+    private RankedCandidates rank(Map<Long, Double> model, int capacity) {
+        double[] scores = new double[candidates.size()];
+        long[] eligible = new long[(candidates.size() + 63) >>> 6];
+        model.forEach((id, score) -> {
+            int index = candidates.indexOf(id);
+            scores[index] = score;
+            eligible[index >>> 6] |= 1L << index;
+        });
+        return RankedCandidates.of(candidates, scores, eligible, capacity);
+    }
+
+    private static List<Map.Entry<Long, Double>> sorted(Map<Long, Double> model) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(model.entrySet());
+        entries.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        return entries;
+    }
+
+    private static List<Long> ids(RankedCandidates ranked) {
+        List<Long> ids = new ArrayList<>();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            ids.add(ranked.id(rank));
+        }
+        return ids;
+    }
+
+    // 점수 종류를 적게 하여 동점을 많이 만듦
+    private static double score(Random random) {
+        return random.nextInt(6) * 10.0;
+    }
+
+    private static MaleCandidateSnapshot snapshot() {
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (long id = 1; id <= MEMBER_COUNT; id++) {
+            rows.add(new MaleCandidateAttributes(id, 175, null, null, null, null, null, null));
+        }
+        return MaleCandidateSnapshot.of(1L, rows);
+    }
+}
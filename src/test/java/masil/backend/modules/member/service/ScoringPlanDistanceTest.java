@@ -0,0 +1,51 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Region;
+import masil.backend.modules.member.enums.Religion;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ScoringPlan 의 거리 점수가 권역 간 이동 시간 표로 정해지고, 권역을 모르면 기본 점수인지 확인합니다.
+ */
+class ScoringPlanDistanceTest {
+
+    @Test
+    void 거리_점수는_권역_간_이동_시간으로_정해진다() {
+        List<Region> regions = new ArrayList<>(Arrays.asList(Region.values()));
+        regions.add(null);
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (int index = 0; index < regions.size(); index++) {
+            rows.add(new MaleCandidateAttributes((long) index, 175, Religion.NONE, Education.BACHELOR_DEGREE,
+                    Asset.UNDER_100M, null, regions.get(index), null));
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, rows);
+        MemberPreference preference = new MemberPreference(null, null, null, 0, null, null, null, null, null,
+                null, null, "X", "X", "X", "X", PreferenceCategory.DISTANCE, null, null);
+
+        for (Region femaleRegion : regions) {
+            ScoringPlan plan = ScoringPlan.compile(preference, ScoringWeights.DEFAULT, femaleRegion, null);
+            for (int index = 0; index < regions.size(); index++) {
+                Region maleRegion = regions.get(index);
+                double expected = 50.0;
+                if (femaleRegion != null && maleRegion != null
+                        && femaleRegion != Region.UNKNOWN && maleRegion != Region.UNKNOWN) {
+                    int minutes = RegionTravelTimes.minutes(femaleRegion, maleRegion);
+                    assertEquals(minutes, RegionTravelTimes.minutes(maleRegion, femaleRegion));
+                    expected = Math.max(0.0, Math.min(100.0, 100.0 * (600 - minutes) / (600 - 180)));
+                }
+                assertEquals(expected, plan.score(snapshot, snapshot.indexOf(index)), 1e-9,
+                        "female=%s male=%s".formatted(femaleRegion, maleRegion));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.AppearanceStyle;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Region;
+import masil.backend.modules.member.enums.Religion;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ScoringPlan.explain 의 항목별 점수와 가중치가 score() 와 같은 가중 평균(Σ 점수·가중치 / Σ 가중치)을 만드는지 확인합니다.
+ */
+class ScoringPlanExplainTest {
+
+    private static final HashingEmbeddingProvider EMBEDDING_PROVIDER = new HashingEmbeddingProvider(64);
+
+    // 우선순위 3 의 가중치가 0 인 프로필
+    private static final ScoringWeights NO_PRIORITY3 =
+            new ScoringWeights("no-priority3", 3.0, 2.0, 0.0, 2.0, 20.0, 10.0, 15.0, 100.0, 0.0, 60.0);
+
+    private final MaleCandidateSnapshot candidates = snapshot();
+
+    @Test
+    void 모든_우선순위_조합에서_항목별_가중_평균이_점수와_같다() {
+        List<PreferenceCategory> categories = new ArrayList<>(Arrays.asList(PreferenceCategory.values()));
+        categories.add(null);
+        float[] femaleEmbedding = EMBEDDING_PROVIDER.embed("주말에는 등산을 가요.");
+
+        for (PreferenceCategory p1 : categories) {
+            for (PreferenceCategory p2 : categories) {
+                for (PreferenceCategory p3 : categories) {
+                    ScoringPlan plan = ScoringPlan.compile(preference(p1, p2, p3), ScoringWeights.DEFAULT,
+                            Region.SEOUL, femaleEmbedding);
+                    for (int index = 0; index < candidates.size(); index++) {
+                        assertExplains(plan, index);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void 가중치가_0인_항목은_설명에서_빠진다() {
+        ScoringPlan plan = ScoringPlan.compile(preference(PreferenceCategory.HEIGHT, PreferenceCategory.RELIGION,
+                PreferenceCategory.EDUCATION), NO_PRIORITY3);
+
+        for (int index = 0; index < candidates.size(); index++) {
+            List<ScoringPlan.ScoreComponent> components = plan.explain(candidates, index);
+            assertEquals(List.of(PreferenceCategory.HEIGHT, PreferenceCategory.RELIGION),
+                    components.stream().map(ScoringPlan.ScoreComponent::category).toList());
+            assertExplains(plan, index);
+        }
+    }
+
+    @Test
+    void 선호도가_없으면_설명이_비어_있다() {
+        ScoringPlan plan = ScoringPlan.compile(null);
+        for (int index = 0; index < candidates.size(); index++) {
+            assertTrue(plan.explain(candidates, index).isEmpty());
+            assertEquals(50.0, plan.score(candidates, index));
+        }
+    }
+
+    private void assertExplains(ScoringPlan plan, int index) {
+        List<ScoringPlan.ScoreComponent> components = plan.explain(candidates, index);
+        if (components.isEmpty()) {
+            assertEquals(50.0, plan.score(candidates, index));
+            return;
+        }
+        double weightedSum = 0.0;
+        double weightSum = 0.0;
+        double previousWeight = Double.MAX_VALUE;
+        for (ScoringPlan.ScoreComponent component : components) {
+            assertTrue(component.weight() > 0);
+            assertTrue(component.weight() <= previousWeight);
+            previousWeight = component.weight();
+            weightedSum += component.score() * component.weight();
+            weightSum += component.weight();
+        }
+        assertEquals(plan.score(candidates, index), weightedSum / weightSum, 1e-9,
+                () -> "index=%d components=%s".formatted(index, components));
+    }
+
+    private static MemberPreference preference(PreferenceCategory p1, PreferenceCategory p2,
+                                               PreferenceCategory p3) {
+        return new MemberPreference(null, 170, 180, 6, EducationLevel.MID_TIER, AppearanceStyle.values()[0],
+                ParentAssetLevel.RETIREMENT_ONLY, 100_000_000L, 500_000_000L,
+                null, null, "E", "X", "T", "X", p1, p2, p3);
+    }
+
+    private static MaleCandidateSnapshot snapshot() {
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        rows.add(new MaleCandidateAttributes(1L, null, null, null, null, null, null, null));
+        rows.add(new MaleCandidateAttributes(2L, 175, Religion.NONE, Education.BACHELOR_DEGREE, Asset.UNDER_100M,
+                "ENTJ", Region.SEOUL, EMBEDDING_PROVIDER.embed("주말에는 등산을 가요.")));
+        rows.add(new MaleCandidateAttributes(3L, 163, Religion.values()[1], Education.values()[0],
+                Asset.OVER_1B, "ISFP", Region.KANTO, EMBEDDING_PROVIDER.embed("캠핑과 낚시를 즐깁니다.")));
+        rows.add(new MaleCandidateAttributes(4L, 190, Religion.values()[Religion.values().length - 1],
+                Education.DOCTORATE_DEGREE, Asset.values()[0], "INTJ", Region.UNKNOWN, null));
+        return MaleCandidateSnapshot.of(1L, rows);
+    }
+}
@@ -0,0 +1,421 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import masil.backend.modules.member.dto.MaleCandidateAttributes;
+import masil.backend.modules.member.entity.Member;
+import masil.backend.modules.member.entity.MemberPreference;
+import masil.backend.modules.member.enums.AppearanceStyle;
+import masil.backend.modules.member.enums.Asset;
+import masil.backend.modules.member.enums.Education;
+import masil.backend.modules.member.enums.EducationLevel;
+import masil.backend.modules.member.enums.ParentAssetLevel;
+import masil.backend.modules.member.enums.PreferenceCategory;
+import masil.backend.modules.member.enums.Religion;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ScoringPlan 의 조회 테이블 점수가 기존 MatchingScoreService 공식과 정확히 일치하는지 전수 비교합니다.
+ */
+class ScoringPlanTest {
+
+    private static final Long[] ASSET_BOUNDS = {
+            null, 0L, 30_000_000L, 50_000_000L, 100_000_000L, 199_999_999L, 200_000_000L, 250_000_000L,
+            400_000_000L, 750_000_000L, 1_000_000_000L, 1_500_000_000L, 2_000_000_000L, 10_000_000_000L
+    };
+
+    @Test
+    void 키_점수는_모든_선호_범위와_키에서_기존_공식과_같다() {
+        List<Integer> heights = new ArrayList<>();
+        heights.add(null);
+        for (int height = 0; height <= ScoringPlan.HEIGHT_TABLE_MAX_CM + 5; height++) {
+            heights.add(height);
+        }
+
+        for (int min = 130; min <= 230; min++) {
+            for (int max = 130; max <= 230; max++) {
+                MemberPreference preference = preference(min, max, 0, null, null, null,
+                        PreferenceCategory.HEIGHT, null, null);
+                assertAllMales(preference, heights, List.of(Religion.NONE), List.of(Education.BACHELOR_DEGREE),
+                        List.of(Asset.UNDER_100M));
+            }
+        }
+        assertAllMales(preference(null, 180, 0, null, null, null, PreferenceCategory.HEIGHT, null, null),
+                heights, List.of(Religion.NONE), List.of(Education.BACHELOR_DEGREE), List.of(Asset.UNDER_100M));
+    }
+
+    @Test
+    void 종교_점수는_모든_기피_마스크와_종교에서_기존_공식과_같다() {
+        for (int mask = -1; mask < 32; mask++) {
+            MemberPreference preference = preference(null, null, mask < 0 ? null : mask, null, null, null,
+                    PreferenceCategory.RELIGION, null, null);
+            assertAllMales(preference, List.of(175), withNull(Religion.values()),
+                    List.of(Education.BACHELOR_DEGREE), List.of(Asset.UNDER_100M));
+        }
+    }
+
+    @Test
+    void 학벌_점수는_모든_선호_레벨과_학력에서_기존_공식과_같다() {
+        for (EducationLevel level : withNull(EducationLevel.values())) {
+            MemberPreference preference = preference(null, null, 0, level, null, null,
+                    PreferenceCategory.EDUCATION, null, null);
+            assertAllMales(preference, List.of(175), List.of(Religion.NONE), withNull(Education.values()),
+                    List.of(Asset.UNDER_100M));
+        }
+    }
+
+    @Test
+    void 자산_점수는_모든_선호_범위와_자산에서_기존_공식과_같다() {
+        for (Long min : ASSET_BOUNDS) {
+            for (Long max : ASSET_BOUNDS) {
+                MemberPreference preference = preference(null, null, 0, null, min, max,
+                        PreferenceCategory.ASSET, null, null);
+                assertAllMales(preference, List.of(175), List.of(Religion.NONE),
+                        List.of(Education.BACHELOR_DEGREE), withNull(Asset.values()));
+            }
+        }
+    }
+
+    @Test
+    void 모든_우선순위_조합에서_가중_평균이_기존_공식과_같다() {
+        // MBTI, 거리, 성격은 기존 공식에 없던 항목이므로 별도 테스트에서 확인
+        List<PreferenceCategory> categories = withNull(PreferenceCategory.values());
+        categories.remove(PreferenceCategory.MBTI);
+        categories.remove(PreferenceCategory.DISTANCE);
+        categories.remove(PreferenceCategory.PERSONALITY);
+        List<Integer> heights = Arrays.asList(null, 150, 165, 172, 181, 195);
+
+        for (PreferenceCategory p1 : categories) {
+            for (PreferenceCategory p2 : categories) {
+                for (PreferenceCategory p3 : categories) {
+                    MemberPreference preference = new MemberPreference(
+                            null, 170, 180, 6, EducationLevel.MID_TIER, AppearanceStyle.values()[0],
+                            ParentAssetLevel.RETIREMENT_ONLY, 100_000_000L, 500_000_000L,
+                            null, null, "X", "X", "X", "X", p1, p2, p3);
+                    assertAllMales(preference, heights, withNull(Religion.values()), withNull(Education.values()),
+                            withNull(Asset.values()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void 반드시_충족_비트셋은_해당_항목이_만점인_후보와_같다() {
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        long id = 1;
+        for (Integer height : Arrays.asList(null, 150, 169, 170, 172, 175, 179, 180, 181, 195, 350)) {
+            for (Religion religion : withNull(Religion.values())) {
+                for (Education education : withNull(Education.values())) {
+                    for (Asset asset : withNull(Asset.values())) {
+                        rows.add(new MaleCandidateAttributes(id++, height, religion, education, asset, null, null, null));
+                    }
+                }
+            }
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, rows);
+        List<PreferenceCategory> constrainable = List.of(PreferenceCategory.HEIGHT, PreferenceCategory.RELIGION,
+                PreferenceCategory.EDUCATION, PreferenceCategory.ASSET);
+
+        for (int subset = 0; subset < (1 << constrainable.size()); subset++) {
+            List<PreferenceCategory> mustSatisfy = new ArrayList<>();
+            for (int bit = 0; bit < constrainable.size(); bit++) {
+                if ((subset & (1 << bit)) != 0) {
+                    mustSatisfy.add(constrainable.get(bit));
+                }
+            }
+            MemberPreference preference = preference(170, 180, 6, EducationLevel.MID_TIER,
+                    100_000_000L, 500_000_000L, PreferenceCategory.HEIGHT, null, null);
+            preference.changeMustSatisfy(PreferenceCategory.toBitmask(mustSatisfy));
+
+            ScoringPlan plan = ScoringPlan.compile(preference);
+            long[] eligible = plan.eligibleCandidates(snapshot);
+            if (mustSatisfy.isEmpty()) {
+                assertNull(eligible);
+            }
+            for (int index = 0; index < snapshot.size(); index++) {
+                MaleCandidateAttributes row = rows.get(index);
+                Member male = male(row.height(), row.religion(), row.education(), row.asset());
+                boolean expected = mustSatisfy.stream()
+                        .allMatch(category -> LegacyScore.componentScore(category, preference, male) == 100.0);
+                if (eligible != null) {
+                    boolean actual = (eligible[index >>> 6] & (1L << index)) != 0;
+                    assertEquals(expected, actual, "mustSatisfy=%s male=%s".formatted(mustSatisfy, row));
+                }
+                // 한 명씩 확인하는 경로(상위 후보 목록 갱신)도 비트셋과 같아야 함
+                assertEquals(expected, plan.isEligible(snapshot, index),
+                        "isEligible mustSatisfy=%s male=%s".formatted(mustSatisfy, row));
+            }
+        }
+    }
+
+    @Test
+    void MBTI_점수는_상관없음이_아닌_축_중_일치하는_축의_비율이다() {
+        List<String> types = new ArrayList<>(Arrays.asList(null, "", "XNTJ", "entj"));
+        for (String e : List.of("E", "I")) {
+            for (String n : List.of("N", "S")) {
+                for (String t : List.of("T", "F")) {
+                    for (String j : List.of("J", "P")) {
+                        types.add(e + n + t + j);
+                    }
+                }
+            }
+        }
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (int index = 0; index < types.size(); index++) {
+            rows.add(new MaleCandidateAttributes((long) index, 175, Religion.NONE, Education.BACHELOR_DEGREE,
+                    Asset.UNDER_100M, types.get(index), null, null));
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, rows);
+
+        for (String e : List.of("E", "I", "X")) {
+            for (String n : List.of("N", "S", "X")) {
+                for (String t : List.of("T", "F", "X")) {
+                    for (String j : List.of("J", "P", "X")) {
+                        String[] preferred = {e, n, t, j};
+                        MemberPreference preference = new MemberPreference(null, null, null, 0, null, null, null,
+                                null, null, null, null, e, n, t, j, PreferenceCategory.MBTI, null, null);
+                        ScoringPlan plan = ScoringPlan.compile(preference);
+
+                        for (int index = 0; index < types.size(); index++) {
+                            String type = types.get(index);
+                            double expected = naiveMbtiScore(preferred, type);
+                            Member male = Member.builder().height(175).religion(Religion.NONE)
+                                    .education(Education.BACHELOR_DEGREE).asset(Asset.UNDER_100M).mbti(type).build();
+                            assertEquals(expected, plan.score(male), 1e-9, "preferred=%s%s%s%s type=%s"
+                                    .formatted(e, n, t, j, type));
+                            assertEquals(plan.score(male), plan.score(snapshot, snapshot.indexOf(index)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void 성격_점수는_자기소개_임베딩의_코사인_유사도다() {
+        HashingEmbeddingProvider embeddingProvider = new HashingEmbeddingProvider(256);
+        float[] femaleEmbedding = embeddingProvider.embed("주말에는 등산을 자주 가요. 카페에서 책 읽는 시간을 좋아합니다.");
+        List<String> introductions = Arrays.asList(null, "주말에는 등산을 자주 가요. 카페에서 책 읽는 시간을 좋아합니다.",
+                "주말에는 등산을 가요.", "캠핑과 낚시를 즐깁니다.", "旅行が大好きです");
+        List<MaleCandidateAttributes> rows = new ArrayList<>();
+        for (int index = 0; index < introductions.size(); index++) {
+            rows.add(new MaleCandidateAttributes((long) index, 175, Religion.NONE, Education.BACHELOR_DEGREE,
+                    Asset.UNDER_100M, null, null, embeddingProvider.embed(introductions.get(index))));
+        }
+        MaleCandidateSnapshot snapshot = MaleCandidateSnapshot.of(1L, rows);
+        MemberPreference preference = preference(null, null, 0, null, null, null,
+                PreferenceCategory.PERSONALITY, null, null);
+
+        ScoringPlan plan = ScoringPlan.compile(preference, ScoringWeights.DEFAULT, null, femaleEmbedding);
+        for (int index = 0; index < introductions.size(); index++) {
+            float[] maleEmbedding = snapshot.embedding(snapshot.indexOf(index));
+            double expected = maleEmbedding == null ? 50.0
+                    : Math.max(0.0, Math.min(100.0, 50.0 + 50.0 * EmbeddingVectors.dot(femaleEmbedding, maleEmbedding)));
+            assertEquals(expected, plan.score(snapshot, snapshot.indexOf(index)), 1e-9);
+        }
+        // 같은 소개는 만점, 일부가 겹치는 소개는 무관한 소개보다 높음
+        assertEquals(100.0, plan.score(snapshot, snapshot.indexOf(1)), 1e-4);
+        assertTrue(plan.score(snapshot, snapshot.indexOf(2)) > plan.score(snapshot, snapshot.indexOf(3)));
+        // 여성 본인의 자기소개가 없으면 모두 기본 점수
+        ScoringPlan withoutIntroduction = ScoringPlan.compile(preference, ScoringWeights.DEFAULT, null, null);
+        for (int index = 0; index < snapshot.size(); index++) {
+            assertEquals(50.0, withoutIntroduction.score(snapshot, index));
+        }
+    }
+
+    @Test
+    void 가중치_프로필의_우선순위_가중치와_감점이_적용된다() {
+        ScoringWeights profile = new ScoringWeights("strict", 5.0, 1.0, 0.0, 5.0, 20.0, 10.0, 15.0, 100.0, 0.0, 60.0);
+        MemberPreference preference = preference(170, 180, 0, EducationLevel.MID_TIER, null, null,
+                PreferenceCategory.HEIGHT, PreferenceCategory.RELIGION, PreferenceCategory.EDUCATION);
+        Member male = male(165, Religion.NONE, null, Asset.UNDER_100M);
+
+        // 키 100 - 5cm * 5.0 = 75 (가중치 5), 종교 100 (가중치 1), 학벌은 가중치 0
+        ScoringPlan plan = ScoringPlan.compile(preference, profile);
+        assertEquals((75.0 * 5.0 + 100.0 * 1.0) / 6.0, plan.score(male), 1e-9);
+        assertTrue(plan.isCompiledWith(profile));
+        assertFalse(plan.isCompiledWith(ScoringWeights.DEFAULT));
+    }
+
+    @Test
+    void 선호도가_없으면_기본_점수다() {
+        Member male = male(180, Religion.NONE, Education.DOCTORATE_DEGREE, Asset.OVER_1B);
+        assertEquals(50.0, ScoringPlan.compile(null).score(male));
+    }
+
+    private void assertAllMales(MemberPreference preference, List<Integer> heights, List<Religion> religions,
+                                List<Education> educations, List<Asset> assets) {
+        ScoringPlan plan = ScoringPlan.compile(preference);
+        for (Integer height : heights) {
+            for (Religion religion : religions) {
+                for (Education education : educations) {
+                    for (Asset asset : assets) {
+                        Member male = male(height, religion, education, asset);
+                        assertEquals(LegacyScore.calculate(preference, male), plan.score(male),
+                                () -> "height=%s religion=%s education=%s asset=%s"
+                                        .formatted(height, religion, education, asset));
+                    }
+                }
+            }
+        }
+    }
+
+    private static MemberPreference preference(Integer heightMin, Integer heightMax, Integer avoidReligions,
+                                               EducationLevel educationLevel, Long assetMin, Long assetMax,
+                                               PreferenceCategory p1, PreferenceCategory p2, PreferenceCategory p3) {
+        return new MemberPreference(null, heightMin, heightMax, avoidReligions, educationLevel, null, null,
+                assetMin, assetMax, null, null, "X", "X", "X", "X", p1, p2, p3);
+    }
+
+    private static Member male(Integer height, Religion religion, Education education, Asset asset) {
+        return Member.builder()
+                .height(height)
+                .religion(religion)
+                .education(education)
+                .asset(asset)
+                .build();
+    }
+
+    private static double naiveMbtiScore(String[] preferred, String type) {
+        if (type == null || !type.matches("^[EI][NS][TF][JP]$")) {
+            return 50.0;
+        }
+        int considered = 0;
+        int matched = 0;
+        for (int axis = 0; axis < preferred.length; axis++) {
+            if (!preferred[axis].equals("X")) {
+                considered++;
+                if (type.charAt(axis) == preferred[axis].charAt(0)) {
+                    matched++;
+                }
+            }
+        }
+        return considered == 0 ? 50.0 : 100.0 * matched / considered;
+    }
+
+    @SafeVarargs
+    private static <T> List<T> withNull(T... values) {
+        List<T> list = new ArrayList<>();
+        list.add(null);
+        list.addAll(Arrays.asList(values));
+        return list;
+    }
+
+    /**
+     * 조회 테이블 도입 전 MatchingScoreService 의 점수 계산 공식 (로그 제외)
+     */
+    private static final class LegacyScore {
+
+        static double calculate(MemberPreference preference, Member maleMember) {
+            double totalScore = 0.0;
+            double totalWeight = 0.0;
+
+            PreferenceCategory p1 = preference.getPriority1();
+            PreferenceCategory p2 = preference.getPriority2();
+            PreferenceCategory p3 = preference.getPriority3();
+
+            for (PreferenceCategory category : List.of(PreferenceCategory.HEIGHT, PreferenceCategory.RELIGION,
+                    PreferenceCategory.EDUCATION, PreferenceCategory.ASSET, PreferenceCategory.APPEARANCE,
+                    PreferenceCategory.JOB, PreferenceCategory.PARENT_ASSET)) {
+                if (category == p1 || category == p2 || category == p3) {
+                    double weight = category == p1 ? 3.0 : category == p2 ? 2.0 : 1.0;
+                    totalScore += componentScore(category, preference, maleMember) * weight;
+                    totalWeight += weight;
+                }
+            }
+
+            if (totalWeight == 0) {
+                return 50.0;
+            }
+            return Math.min(100.0, Math.max(0.0, totalScore / totalWeight));
+        }
+
+        private static double componentScore(PreferenceCategory category, MemberPreference preference, Member male) {
+            return switch (category) {
+                case HEIGHT -> height(preference, male);
+                case RELIGION -> religion(preference, male);
+                case EDUCATION -> education(preference, male);
+                case ASSET -> asset(preference, male);
+                case APPEARANCE -> preference.getPreferredAppearanceStyle() == null ? 100.0 : 50.0;
+                case JOB -> 50.0;
+                case PARENT_ASSET -> preference.getParentAssetRequirement() == null
+                        || preference.getParentAssetRequirement() == ParentAssetLevel.NO_CONCERN ? 100.0 : 50.0;
+                default -> throw new IllegalArgumentException(category.name());
+            };
+        }
+
+        private static double height(MemberPreference preference, Member male) {
+            if (preference.getPreferredHeightMin() == null || preference.getPreferredHeightMax() == null) {
+                return 50.0;
+            }
+            Integer height = male.getHeight();
+            if (height == null) {
+                return 0.0;
+            }
+            int min = preference.getPreferredHeightMin();
+            int max = preference.getPreferredHeightMax();
+            if (height >= min && height <= max) {
+                return 100.0;
+            }
+            int distance = Math.min(Math.abs(height - min), Math.abs(height - max));
+            return Math.max(0.0, 100.0 - (distance * 2.0));
+        }
+
+        private static double religion(MemberPreference preference, Member male) {
+            Religion religion = male.getReligion();
+            if (religion == null) {
+                return 50.0;
+            }
+            if (preference.getAvoidReligionsBitmask() == null || preference.getAvoidReligionsBitmask() == 0) {
+                return 100.0;
+            }
+            return Religion.fromBitmask(preference.getAvoidReligionsBitmask()).contains(religion) ? 0.0 : 100.0;
+        }
+
+        private static double education(MemberPreference preference, Member male) {
+            if (preference.getPreferredEducationLevel() == null) {
+                return 50.0;
+            }
+            if (male.getEducation() == null) {
+                return 0.0;
+            }
+            int preferred = preference.getPreferredEducationLevel().ordinal();
+            int actual = male.getEducation().ordinal();
+            if (actual >= preferred) {
+                return 100.0;
+            }
+            return Math.max(0.0, 100.0 - ((preferred - actual) * 20.0));
+        }
+
+        private static double asset(MemberPreference preference, Member male) {
+            Long min = preference.getPreferredAssetMin();
+            Long max = preference.getPreferredAssetMax();
+            if (min == null || max == null) {
+                return 50.0;
+            }
+            if (male.getAsset() == null) {
+                return 0.0;
+            }
+            long value = switch (male.getAsset()) {
+                case UNDER_100M -> 50_000_000L;
+                case BETWEEN_100M_300M -> 200_000_000L;
+                case BETWEEN_300M_500M -> 400_000_000L;
+                case BETWEEN_500M_1B -> 750_000_000L;
+                case OVER_1B -> 1_500_000_000L;
+            };
+            if (value >= min && value <= max) {
+                return 100.0;
+            }
+            if (value > max) {
+                return Math.max(50.0, 100.0 - (((value - max) / 100_000_000) * 10.0));
+            }
+            return Math.max(0.0, 100.0 - (((min - value) / 100_000_000) * 15.0));
+        }
+    }
+}
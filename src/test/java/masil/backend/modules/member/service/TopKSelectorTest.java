@@ -0,0 +1,87 @@
+package masil.backend.modules.member.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import masil.backend.modules.member.enums.PastPairPolicy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TopKSelector 와 페이지 구간 선택이 전체 정렬 후 잘라낸 결과와 같은지 확인합니다. (동점은 위치 오름차순)
+ */
+class TopKSelectorTest {
+
+    @Test
+    void 동점이_많아도_전체_정렬한_앞부분과_같다() {
+        Random random = new Random(5);
+        for (int round = 0; round < 1_000; round++) {
+            int size = random.nextInt(80);
+            // 점수 종류를 적게 하여 동점을 많이 만듦
+            double[] scores = new double[size];
+            for (int index = 0; index < size; index++) {
+                scores[index] = random.nextInt(5) * 12.5;
+            }
+            long[] eligible = random.nextBoolean() ? null : randomBits(random, size);
+            int k = random.nextInt(size + 3);
+
+            assertArrayEquals(sorted(scores, eligible, k), TopKSelector.select(scores, eligible, k));
+        }
+    }
+
+    @Test
+    void 후보가_없거나_k가_0이면_빈_배열이다() {
+        assertArrayEquals(new int[0], TopKSelector.select(new double[0], 5));
+        assertArrayEquals(new int[0], TopKSelector.select(new double[]{1.0, 2.0}, 0));
+        assertArrayEquals(new int[0], TopKSelector.select(new double[]{1.0, 2.0}, new long[]{0L}, 2));
+    }
+
+    @Test
+    void offset_과_limit_구간은_전체_순위의_같은_구간이다() {
+        Random random = new Random(9);
+        for (int round = 0; round < 500; round++) {
+            int size = 1 + random.nextInt(60);
+            double[] scores = new double[size];
+            for (int index = 0; index < size; index++) {
+                scores[index] = random.nextInt(4);
+            }
+            int offset = random.nextInt(size + 2);
+            int limit = 1 + random.nextInt(size + 2);
+            int end = offset + limit;
+
+            // 조회 경로와 같이 페이지 끝까지만 고른 뒤 구간을 자름
+            int[] top = TopKSelector.select(scores, Math.min(size, end));
+            long[] rankedIds = Arrays.stream(top).asLongStream().toArray();
+            int[] page = PastPairIndex.arrange(rankedIds, new long[0], PastPairPolicy.INCLUDE,
+                    top.length == size, offset, end);
+            int[] actual = Arrays.stream(page).map(rank -> top[rank]).toArray();
+
+            int[] all = sorted(scores, null, size);
+            int[] expected = Arrays.copyOfRange(all, Math.min(offset, size), Math.min(end, size));
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    private static int[] sorted(double[] scores, long[] eligible, int k) {
+        return IntStream.range(0, scores.length)
+                .filter(index -> eligible == null || (eligible[index >>> 6] & (1L << index)) != 0)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer index) -> scores[index]).reversed()
+                        .thenComparingInt(index -> index))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static long[] randomBits(Random random, int size) {
+        long[] bits = new long[(size + 63) >>> 6];
+        for (int index = 0; index < size; index++) {
+            if (random.nextInt(3) > 0) {
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+        return bits;
+    }
+}